@@ -0,0 +1,35 @@
+package org.example.goodjobbackend.controller;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chuyển tham số sort của JobController thành Sort của Spring Data
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JobSortParsingBenchmark {
+
+    private String sort = "postedAt,desc";
+    private String[] sortPairs = {"salaryMax,desc", "postedAt,asc"};
+    private String[] sortFlat = {"salaryMax", "desc", "postedAt", "asc"};
+
+    @Benchmark
+    public Sort parseSort() {
+        return JobController.parseSort(sort);
+    }
+
+    @Benchmark
+    public List<Sort.Order> sortOrdersFromPairs() {
+        return JobController.getSortOrders(sortPairs);
+    }
+
+    @Benchmark
+    public List<Sort.Order> sortOrdersFromFlatArray() {
+        return JobController.getSortOrders(sortFlat);
+    }
+}
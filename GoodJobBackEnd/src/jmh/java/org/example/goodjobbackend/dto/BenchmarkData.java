@@ -0,0 +1,65 @@
+package org.example.goodjobbackend.dto;
+
+import org.example.goodjobbackend.model.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Dữ liệu mẫu cho benchmark, có kích thước gần với dữ liệu thật (mô tả/yêu cầu vài trăm ký tự tiếng Việt)
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    public static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("nhatuyendung" + id);
+        user.setFullName("Nguyễn Văn An " + id);
+        user.setEmail("nhatuyendung" + id + "@goodjob.vn");
+        user.setRole(UserRole.EMPLOYER);
+        return user;
+    }
+
+    public static Employer employer(long id) {
+        Employer employer = new Employer();
+        employer.setId(id);
+        employer.setUser(user(id));
+        employer.setCompanyName("Công ty Cổ phần Công nghệ GoodJob " + id);
+        employer.setCompanyDescription("Chúng tôi xây dựng nền tảng tuyển dụng cho hàng nghìn doanh nghiệp Việt Nam. ".repeat(4));
+        employer.setCompanyWebsite("https://goodjob.vn");
+        employer.setCompanyLogo("https://cdn.goodjob.vn/logo/" + id + ".png");
+        employer.setCompanyAddress("Tầng 10, 123 Nguyễn Huệ, Quận 1, TP. Hồ Chí Minh");
+        employer.setCompanySize("100-499");
+        employer.setIndustry("Công nghệ thông tin");
+        employer.setTaxCode("0312345678");
+        employer.setContactPhone("0901234567");
+        employer.setSocialLinks("{\"facebook\":\"https://facebook.com/goodjob\"}");
+        employer.setVerified(true);
+        return employer;
+    }
+
+    public static Job job(long id, Employer employer) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setEmployer(employer);
+        job.setEmployerId(employer.getId());
+        job.setTitle("Lập trình viên Java Backend (Spring Boot) #" + id);
+        job.setDescription("Phát triển và vận hành các dịch vụ backend cho hệ thống tuyển dụng quy mô lớn. ".repeat(6));
+        job.setRequirement("Tối thiểu 2 năm kinh nghiệm Java, Spring Boot, PostgreSQL; ưu tiên biết Docker. ".repeat(4));
+        job.setLocation("Hà Nội");
+        job.setJobType(JobType.FULL_TIME);
+        job.setSalaryMin(15_000_000.0);
+        job.setSalaryMax(30_000_000.0);
+        job.setSalaryCurrency("VND");
+        job.setApplyCount(42);
+        job.setViewCount(1337);
+        job.setPostedAt(LocalDateTime.of(2025, 1, 15, 9, 30));
+        job.setExpireAt(LocalDateTime.of(2025, 2, 14, 23, 59));
+        job.setIsSalaryPublic(true);
+        job.setStatus(JobStatus.APPROVED);
+        job.setImageUrl("https://cdn.goodjob.vn/jobs/" + id + ".jpg");
+        return job;
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.goodjobbackend.dto;
+
+import org.example.goodjobbackend.model.Employer;
+import org.example.goodjobbackend.model.Job;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Chuyển entity sang DTO, được gọi cho từng phần tử trong mọi API danh sách công việc
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private Employer employer;
+    private Job job;
+
+    @Setup
+    public void setUp() {
+        employer = BenchmarkData.employer(1);
+        job = BenchmarkData.job(1, employer);
+    }
+
+    @Benchmark
+    public JobDTO jobFromEntity() {
+        return JobDTO.fromEntity(job);
+    }
+
+    @Benchmark
+    public EmployerDTO employerFromEntity() {
+        return EmployerDTO.fromEntity(employer);
+    }
+}
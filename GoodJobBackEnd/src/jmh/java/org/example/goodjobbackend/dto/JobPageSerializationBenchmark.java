@@ -0,0 +1,82 @@
+package org.example.goodjobbackend.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.example.goodjobbackend.model.Employer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialize Page&lt;JobDTO&gt; như response của GET /api/jobs theo định dạng (JSON, CBOR) và tham số fields
+ * (all: đủ field, summary: bỏ description/requirement). serializeAndGzip gồm cả chi phí nén gzip như Tomcat.
+ * Kích thước payload (gốc và sau gzip) của từng tổ hợp được in ra lúc setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JobPageSerializationBenchmark {
+
+    @Param({"10", "50"})
+    private int pageSize;
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"all", "summary"})
+    private String fields;
+
+    private ObjectWriter writer;
+    private Page<JobDTO> page;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Cùng cấu hình với ObjectMapper do Spring Boot tạo (JavaTimeModule, filter mặc định của JobDTO)
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json().filters(JobFields.serializeAll());
+        if ("cbor".equals(format)) {
+            builder.factory(new CBORFactory());
+        }
+        ObjectMapper objectMapper = builder.build();
+        writer = objectMapper.writer(JobFields.filter(JobFields.parse("all".equals(fields) ? null : fields)));
+
+        Employer employer = BenchmarkData.employer(1);
+        List<JobDTO> content = LongStream.rangeClosed(1, pageSize)
+                .mapToObj(id -> JobDTO.fromEntity(BenchmarkData.job(id, employer)))
+                .toList();
+        page = new PageImpl<>(content, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "postedAt")), 500_000);
+
+        byte[] raw = serializePage();
+        System.out.printf("%npageSize=%d format=%s fields=%s: %,d bytes, gzip %,d bytes%n",
+                pageSize, format, fields, raw.length, gzip(raw).length);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws IOException {
+        return writer.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeAndGzip() throws IOException {
+        return gzip(writer.writeValueAsBytes(page));
+    }
+
+    // Mức nén mặc định của Deflater, giống bộ nén gzip của Tomcat
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        }
+        return out.toByteArray();
+    }
+}
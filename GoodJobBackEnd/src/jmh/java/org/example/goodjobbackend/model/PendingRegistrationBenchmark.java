@@ -0,0 +1,37 @@
+package org.example.goodjobbackend.model;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sinh mã xác thực khi đăng ký; đo thêm ở 4 luồng để thấy tranh chấp trên Math.random()
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PendingRegistrationBenchmark {
+
+    private PendingRegistration registration;
+
+    @Setup
+    public void setUp() {
+        registration = new PendingRegistration();
+    }
+
+    @Benchmark
+    public String generateVerificationCode() {
+        return registration.generateVerificationCode();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateVerificationCodeContended() {
+        return registration.generateVerificationCode();
+    }
+
+    @Benchmark
+    public PendingRegistration newRegistration() {
+        return new PendingRegistration("ungvien1", "$2a$10$hash", "Trần Thị Bình", "ungvien1@goodjob.vn", UserRole.USER);
+    }
+}
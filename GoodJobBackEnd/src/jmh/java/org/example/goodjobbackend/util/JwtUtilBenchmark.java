@@ -0,0 +1,42 @@
+package org.example.goodjobbackend.util;
+
+import io.jsonwebtoken.Claims;
+import org.example.goodjobbackend.dto.BenchmarkData;
+import org.example.goodjobbackend.model.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tạo token khi đăng nhập và giải mã token ở mỗi request đã xác thực
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", "goodJobSecureSecretKey12345678901234567890");
+        ReflectionTestUtils.setField(jwtUtil, "expirationTime", 86_400_000L);
+        user = BenchmarkData.user(1);
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    // extractAllClaims là private, đo qua extractClaim với hàm lấy nguyên Claims
+    @Benchmark
+    public Claims extractAllClaims() {
+        return jwtUtil.extractClaim(token, claims -> claims);
+    }
+}
@@ -0,0 +1,183 @@
+package org.example.goodjobbackend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * So sánh throughput giữa Tomcat chạy trên pool platform thread và trên virtual thread khi request chặn luồng:
+ * đăng nhập (BCrypt), yêu cầu đặt lại mật khẩu (gửi mã qua SMTP, đồng bộ trong request) và duyệt danh sách (JDBC).
+ *
+ * Với mỗi chế độ, ứng dụng đã đóng gói (./gradlew cdsExtract) được khởi động với spring.threads.virtual.enabled
+ * tương ứng và SMTP trỏ tới {@link SlowSmtpServer} (mặc định trễ 200ms mỗi thư), rồi {@link LoadDriver} chạy
+ * vòng kín với số người dùng ảo lớn hơn nhiều so với server.tomcat.threads.max. Database và dữ liệu lấy từ môi
+ * trường như khi chạy thật (./gradlew loadtestData trước để có tài khoản đăng nhập).
+ *
+ * Chạy: ./gradlew blockingBenchmark -Ploadtest.args="--concurrency=800 --duration=PT1M --smtp-delay=PT0.2S"
+ */
+public final class BlockingWorkloadBenchmark {
+
+    private final LoadTestOptions options;
+    private final Path appDir;
+    private final Path jar;
+    private final int port;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(500))
+            .build();
+
+    private BlockingWorkloadBenchmark(LoadTestOptions options) throws IOException {
+        this.options = options;
+        this.appDir = Path.of(options.get("app-dir", "build/startup/app")).toAbsolutePath();
+        this.port = options.getInt("port", 18080);
+        String jarName = options.get("jar", null);
+        if (jarName != null) {
+            this.jar = appDir.resolve(jarName);
+        } else {
+            try (Stream<Path> files = Files.list(appDir)) {
+                this.jar = files.filter(file -> file.getFileName().toString().endsWith(".jar"))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Không tìm thấy jar trong " + appDir + ", hãy chạy ./gradlew cdsExtract trước"));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new BlockingWorkloadBenchmark(new LoadTestOptions(args)).run();
+    }
+
+    private void run() throws Exception {
+        List<String> modes = Arrays.stream(options.get("modes", "platform,virtual").split(","))
+                .map(String::trim)
+                .filter(mode -> !mode.isEmpty())
+                .toList();
+        Path logDir = Path.of(options.get("log-dir", "build/loadtest/blocking")).toAbsolutePath();
+        Files.createDirectories(logDir);
+
+        Map<String, Object> modesReport = new LinkedHashMap<>();
+        try (SlowSmtpServer smtp = new SlowSmtpServer(options.getInt("smtp-port", 0),
+                options.getDuration("smtp-delay", Duration.ofMillis(200)))) {
+            for (String mode : modes) {
+                long messagesBefore = smtp.messages();
+                Path report = logDir.resolve(mode + ".json");
+                double throughput = runMode(mode, smtp.port(), logDir.resolve(mode + ".log"), report);
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("throughput", throughput);
+                entry.put("emailsSent", smtp.messages() - messagesBefore);
+                entry.put("report", report.toString());
+                modesReport.put(mode, entry);
+            }
+        }
+
+        System.out.printf("%n%-10s %12s %12s%n", "mode", "req/s", "email");
+        double baseline = -1;
+        for (Map.Entry<String, Object> mode : modesReport.entrySet()) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> entry = (Map<String, Object>) mode.getValue();
+            double throughput = (double) entry.get("throughput");
+            System.out.printf("%-10s %12.1f %,12d%s%n", mode.getKey(), throughput, (long) entry.get("emailsSent"),
+                    baseline > 0 ? String.format("   x%.2f so với %s", throughput / baseline, modes.get(0)) : "");
+            if (baseline < 0) {
+                baseline = throughput;
+            }
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", LocalDateTime.now().toString());
+        report.put("jar", jar.toString());
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("tomcatMaxThreads", options.getInt("tomcat-threads", 200));
+        report.put("smtpDelayMillis", options.getDuration("smtp-delay", Duration.ofMillis(200)).toMillis());
+        report.put("modes", modesReport);
+        Path reportFile = Path.of(options.get("report", "build/loadtest/blocking.json"));
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println("Đã ghi báo cáo: " + reportFile.toAbsolutePath());
+    }
+
+    private double runMode(String mode, int smtpPort, Path logFile, Path report) throws Exception {
+        boolean virtual = switch (mode) {
+            case "platform" -> false;
+            case "virtual" -> true;
+            default -> throw new IllegalArgumentException("Chế độ không hỗ trợ: " + mode + " (có: platform, virtual)");
+        };
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(jar.toString());
+        command.add("--spring.profiles.active=" + options.get("profiles", "prod"));
+        command.add("--server.port=" + port);
+        command.add("--management.server.port=" + options.getInt("management-port", port + 1));
+        command.add("--spring.threads.virtual.enabled=" + virtual);
+        command.add("--server.tomcat.threads.max=" + options.getInt("tomcat-threads", 200));
+        command.add("--spring.mail.host=localhost");
+        command.add("--spring.mail.port=" + smtpPort);
+        command.add("--spring.mail.username=loadtest");
+        command.add("--spring.mail.password=loadtest");
+        command.add("--spring.mail.properties.mail.smtp.auth=false");
+        command.add("--spring.mail.properties.mail.smtp.starttls.enable=false");
+
+        Process process = new ProcessBuilder(command)
+                .directory(appDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        try {
+            awaitReady(process, logFile);
+            System.out.printf("%n== %s thread (log: %s)%n", mode, logFile);
+            List<String> args = new ArrayList<>(List.of(
+                    "--base-url=http://localhost:" + port,
+                    "--concurrency=" + options.getInt("concurrency", 800),
+                    "--warmup=" + options.getDuration("warmup", Duration.ofSeconds(20)),
+                    "--duration=" + options.getDuration("duration", Duration.ofMinutes(1)),
+                    "--mix=" + options.get("mix", "login:40,reset:20,browse:40"),
+                    "--report=" + report));
+            String manifest = options.get("manifest", null);
+            if (manifest != null) {
+                args.add("--manifest=" + manifest);
+            }
+            return new LoadDriver(new LoadTestOptions(args.toArray(String[]::new))).run();
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private void awaitReady(Process process, Path logFile) throws Exception {
+        long deadline = System.nanoTime() + options.getDuration("timeout", Duration.ofMinutes(2)).toNanos();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/jobs/approved?page=0&size=1"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        while (true) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Ứng dụng dừng với mã " + process.exitValue() + ", xem log: " + logFile);
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Ứng dụng chưa sẵn sàng, xem log: " + logFile);
+            }
+            try {
+                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() / 100 == 2) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Server chưa mở cổng
+            }
+            Thread.sleep(100);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package org.example.goodjobbackend.loadtest;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+/**
+ * Sinh bộ dữ liệu quy mô production cho load test và nạp thẳng vào database bằng COPY (PostgreSQL)
+ * hoặc batch INSERT (MySQL). Schema phải được Flyway tạo sẵn (khởi động ứng dụng một lần trước).
+ *
+ * Mặc định (--scale=1): 5k nhà tuyển dụng, 200k ứng viên, 500k job, ~5M đơn ứng tuyển, 20M thông báo.
+ * Độ phổ biến của job và lượng thông báo theo user tuân theo phân phối Zipf; dữ liệu được thêm sau id
+ * lớn nhất hiện có và các sequence được đẩy lên cuối cùng nên ứng dụng vẫn insert bình thường.
+ *
+ * Chạy: ./gradlew loadtestData -Ploadtest.args="--jdbc-url=jdbc:postgresql://localhost:5432/goodjob
+ *       --db-user=postgres --db-password=secret --scale=0.1"
+ */
+public final class DataGenerator {
+
+    private static final String[] APPLICATION_STATUSES = {"PENDING", "PENDING", "PENDING", "REVIEWING", "APPROVED", "REJECTED", "WITHDRAWN"};
+    private static final String[] NOTIFICATION_TYPES = {"APPLICATION_STATUS", "APPLICATION_STATUS", "NEW_APPLICATION", "JOB_STATUS", "SYSTEM"};
+    private static final String[] JOB_TYPES = {"FULL_TIME", "FULL_TIME", "FULL_TIME", "PART_TIME", "CONTRACT", "FREELANCE", "INTERNSHIP", "REMOTE"};
+
+    private final LoadTestOptions options;
+    private final long seed;
+    private final int employers;
+    private final int applicants;
+    private final int jobs;
+    private final long applications;
+    private final long notifications;
+    private final double jobExponent;
+    private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+    private long userBase;
+    private long jobBase;
+    private long applicationBase;
+    private long notificationBase;
+
+    // Nhà tuyển dụng và thời điểm đăng (phút trước "now") của từng job, dùng lại khi sinh đơn ứng tuyển
+    private int[] jobEmployer;
+    private int[] jobPostedMinutesAgo;
+    private int[] jobApplyCount;
+
+    private DataGenerator(LoadTestOptions options) {
+        this.options = options;
+        double scale = options.getDouble("scale", 1.0);
+        this.seed = options.getLong("seed", 42);
+        this.employers = Math.max(1, (int) (options.getInt("employers", 5_000) * scale));
+        this.applicants = Math.max(1, (int) (options.getInt("applicants", 200_000) * scale));
+        this.jobs = Math.max(1, (int) (options.getInt("jobs", 500_000) * scale));
+        this.applications = (long) (options.getLong("applications", 5_000_000) * scale);
+        this.notifications = (long) (options.getLong("notifications", 20_000_000) * scale);
+        this.jobExponent = options.getDouble("zipf-exponent", 1.0);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new DataGenerator(new LoadTestOptions(args)).run();
+    }
+
+    private void run() throws Exception {
+        String url = options.get("jdbc-url", "jdbc:postgresql://localhost:5432/goodjob");
+        if (url.startsWith("jdbc:mysql") && !url.contains("rewriteBatchedStatements")) {
+            url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+        }
+        try (Connection connection = DriverManager.getConnection(url,
+                options.get("db-user", "postgres"), options.get("db-password", ""))) {
+            boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+            if (mysql) {
+                connection.setAutoCommit(false);
+                execute(connection, "SET FOREIGN_KEY_CHECKS = 0");
+                execute(connection, "SET UNIQUE_CHECKS = 0");
+            }
+
+            userBase = max(connection, "SELECT MAX(id) FROM users");
+            jobBase = max(connection, "SELECT MAX(job_id) FROM jobs");
+            applicationBase = max(connection, "SELECT MAX(id) FROM job_applications");
+            notificationBase = max(connection, "SELECT MAX(id) FROM notifications");
+
+            log("Sinh %,d nhà tuyển dụng, %,d ứng viên, %,d job, ~%,d đơn ứng tuyển, %,d thông báo (seed=%d)",
+                    employers, applicants, jobs, applications, notifications, seed);
+
+            planJobs();
+            timed("users + employers", () -> writeUsers(connection));
+            timed("jobs", () -> writeJobs(connection));
+            timed("job_applications", () -> writeApplications(connection));
+            timed("notifications", () -> writeNotifications(connection));
+
+            if (mysql) {
+                execute(connection, "SET FOREIGN_KEY_CHECKS = 1");
+                execute(connection, "SET UNIQUE_CHECKS = 1");
+            }
+            advanceSequences(connection, mysql);
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        }
+        writeManifest();
+    }
+
+    // Gán nhà tuyển dụng (Zipf: vài công ty lớn đăng rất nhiều job) và thời điểm đăng cho từng job,
+    // sau đó chạy thử phần sinh đơn ứng tuyển để biết trước apply_count của mỗi job
+    private void planJobs() {
+        ZipfSampler employerSampler = new ZipfSampler(employers, 0.8);
+        jobEmployer = new int[jobs];
+        jobPostedMinutesAgo = new int[jobs];
+        for (int job = 0; job < jobs; job++) {
+            SplittableRandom random = random(1, job);
+            jobEmployer[job] = employerSampler.sample(random);
+            jobPostedMinutesAgo[job] = random.nextInt(0, 120 * 24 * 60);
+        }
+        jobApplyCount = new int[jobs];
+        ZipfSampler jobSampler = new ZipfSampler(jobs, jobExponent);
+        int[] picked = new int[maxApplicationsPerApplicant()];
+        for (int applicant = 0; applicant < applicants; applicant++) {
+            int count = pickJobs(random(2, applicant), jobSampler, picked);
+            for (int i = 0; i < count; i++) {
+                jobApplyCount[picked[i]]++;
+            }
+        }
+    }
+
+    private void writeUsers(Connection connection) throws SQLException {
+        String password = new BCryptPasswordEncoder().encode("password123");
+        try (TableWriter users = TableWriter.open(connection, "users",
+                "id", "username", "password", "full_name", "phone_number", "email", "role", "active", "created_at", "is_enabled")) {
+            for (int i = 0; i < employers + applicants; i++) {
+                SplittableRandom random = random(3, i);
+                long id = userBase + 1 + i;
+                String email = "lt" + id + "@loadtest.goodjob.vn";
+                users.row(id, email, password, VietnameseText.fullName(random),
+                        "09" + (10_000_000 + random.nextInt(90_000_000)), email,
+                        i < employers ? "EMPLOYER" : "USER", true,
+                        now.minusMinutes(random.nextInt(0, 2 * 365 * 24 * 60)), true);
+            }
+        }
+        try (TableWriter employerRows = TableWriter.open(connection, "employers",
+                "user_id", "version", "company_name", "company_description", "company_address", "company_size",
+                "industry", "verified", "active")) {
+            for (int i = 0; i < employers; i++) {
+                SplittableRandom random = random(4, i);
+                employerRows.row(employerId(i), 0, VietnameseText.companyName(random, employerId(i)),
+                        VietnameseText.paragraph(random, 2, 4), VietnameseText.pick(random, VietnameseText.LOCATIONS),
+                        VietnameseText.pick(random, new String[]{"1-9", "10-49", "50-199", "200-999", "1000+"}),
+                        VietnameseText.pick(random, VietnameseText.INDUSTRIES), random.nextInt(10) < 8, true);
+            }
+        }
+    }
+
+    private void writeJobs(Connection connection) throws SQLException {
+        try (TableWriter writer = TableWriter.open(connection, "jobs",
+                "job_id", "employer_id", "title", "description", "requirement", "location", "job_type",
+                "salary_min", "salary_max", "salary_currency", "apply_count", "view_count", "posted_at", "expire_at",
+                "is_salary_public", "is_active", "status")) {
+            for (int job = 0; job < jobs; job++) {
+                SplittableRandom random = random(5, job);
+                LocalDateTime postedAt = now.minusMinutes(jobPostedMinutesAgo[job]);
+                LocalDateTime expireAt = postedAt.plusDays(random.nextInt(30, 61));
+                double salaryMin = random.nextInt(5, 40) * 1_000_000.0;
+                int applyCount = jobApplyCount[job];
+                String status = expireAt.isBefore(now) ? "EXPIRED" : switch (random.nextInt(20)) {
+                    case 0 -> "REJECTED";
+                    case 1, 2 -> "PENDING";
+                    default -> "APPROVED";
+                };
+                writer.row(jobId(job), employerId(jobEmployer[job]), VietnameseText.jobTitle(random),
+                        VietnameseText.paragraph(random, 4, 8), VietnameseText.paragraph(random, 3, 6),
+                        VietnameseText.pick(random, VietnameseText.LOCATIONS), VietnameseText.pick(random, JOB_TYPES),
+                        salaryMin, salaryMin + random.nextInt(2, 30) * 1_000_000.0, "VND",
+                        applyCount, applyCount * random.nextInt(8, 40) + random.nextInt(0, 50),
+                        postedAt, expireAt, random.nextInt(10) < 7, true, status);
+            }
+        }
+    }
+
+    private void writeApplications(Connection connection) throws SQLException {
+        ZipfSampler jobSampler = new ZipfSampler(jobs, jobExponent);
+        int[] picked = new int[maxApplicationsPerApplicant()];
+        long id = applicationBase;
+        try (TableWriter writer = TableWriter.open(connection, "job_applications",
+                "id", "job_id", "applicant_id", "employer_id", "cover_letter", "resume_url", "applied_at", "status", "employer_viewed")) {
+            for (int applicant = 0; applicant < applicants; applicant++) {
+                // Cùng seed với planJobs nên chọn lại đúng các job đã tính apply_count
+                int count = pickJobs(random(2, applicant), jobSampler, picked);
+                SplittableRandom random = random(6, applicant);
+                long applicantId = userBase + 1 + employers + applicant;
+                for (int i = 0; i < count; i++) {
+                    int job = picked[i];
+                    int minutesAgo = random.nextInt(0, Math.max(1, jobPostedMinutesAgo[job]));
+                    writer.row(++id, jobId(job), applicantId, employerId(jobEmployer[job]),
+                            random.nextInt(3) == 0 ? VietnameseText.paragraph(random, 1, 3) : null,
+                            "https://cdn.goodjob.vn/cv/" + applicantId + ".pdf",
+                            now.minusMinutes(minutesAgo), VietnameseText.pick(random, APPLICATION_STATUSES),
+                            random.nextBoolean());
+                }
+            }
+            log("  %,d đơn ứng tuyển", writer.rows());
+        }
+    }
+
+    private void writeNotifications(Connection connection) throws SQLException {
+        // Một số ít user nhận phần lớn thông báo (nhà tuyển dụng lớn, ứng viên nộp nhiều đơn)
+        ZipfSampler userSampler = new ZipfSampler(employers + applicants, 0.9);
+        SplittableRandom random = new SplittableRandom(seed * 7 + 1);
+        try (TableWriter writer = TableWriter.open(connection, "notifications",
+                "id", "user_id", "title", "content", "created_at", "is_read", "notification_type")) {
+            for (long i = 1; i <= notifications; i++) {
+                String type = VietnameseText.pick(random, NOTIFICATION_TYPES);
+                String title = switch (type) {
+                    case "NEW_APPLICATION" -> "Có ứng viên mới ứng tuyển";
+                    case "APPLICATION_STATUS" -> "Trạng thái đơn ứng tuyển đã thay đổi";
+                    case "JOB_STATUS" -> "Tin tuyển dụng đã được duyệt";
+                    default -> "Thông báo từ GoodJob";
+                };
+                writer.row(notificationBase + i, userBase + 1 + userSampler.sample(random), title,
+                        VietnameseText.pick(random, VietnameseText.SENTENCES),
+                        now.minusMinutes(random.nextInt(0, 180 * 24 * 60)), random.nextInt(10) < 7, type);
+            }
+        }
+    }
+
+    // Chọn các job khác nhau cho một ứng viên (mỗi cặp job/ứng viên là duy nhất theo uk_job_applications_job_applicant)
+    private int pickJobs(SplittableRandom random, ZipfSampler jobSampler, int[] picked) {
+        int target = random.nextInt(0, picked.length + 1);
+        int count = 0;
+        for (int attempt = 0; count < target && attempt < target * 4; attempt++) {
+            int job = jobSampler.sample(random);
+            boolean duplicate = false;
+            for (int i = 0; i < count && !duplicate; i++) {
+                duplicate = picked[i] == job;
+            }
+            if (!duplicate) {
+                picked[count++] = job;
+            }
+        }
+        return count;
+    }
+
+    // Số đơn mỗi ứng viên phân phối đều trong [0, 2 * trung bình]
+    private int maxApplicationsPerApplicant() {
+        return (int) Math.max(1, Math.min(jobs, 2 * applications / applicants));
+    }
+
+    private void advanceSequences(Connection connection, boolean mysql) throws SQLException {
+        String[][] sequences = {
+                {"users_seq", "users", "id"}, {"jobs_seq", "jobs", "job_id"},
+                {"job_applications_seq", "job_applications", "id"}, {"notifications_seq", "notifications", "id"}
+        };
+        for (String[] sequence : sequences) {
+            execute(connection, mysql
+                    ? "UPDATE " + sequence[0] + " SET next_val = (SELECT COALESCE(MAX(" + sequence[2] + "), 0) + 1 FROM " + sequence[1] + ")"
+                    : "SELECT setval('" + sequence[0] + "', (SELECT COALESCE(MAX(" + sequence[2] + "), 0) + 1 FROM " + sequence[1] + "), false)");
+        }
+    }
+
+    // Thông tin bộ dữ liệu cho LoadDriver (khoảng id và tham số Zipf)
+    private void writeManifest() throws IOException {
+        Path manifest = Path.of(options.get("manifest", "build/loadtest/dataset.properties"));
+        Files.createDirectories(manifest.toAbsolutePath().getParent());
+        Properties properties = new Properties();
+        properties.setProperty("seed", String.valueOf(seed));
+        properties.setProperty("employerIdMin", String.valueOf(employerId(0)));
+        properties.setProperty("employers", String.valueOf(employers));
+        properties.setProperty("applicantIdMin", String.valueOf(userBase + 1 + employers));
+        properties.setProperty("applicants", String.valueOf(applicants));
+        properties.setProperty("jobIdMin", String.valueOf(jobId(0)));
+        properties.setProperty("jobs", String.valueOf(jobs));
+        properties.setProperty("jobZipfExponent", String.valueOf(jobExponent));
+        try (Writer writer = Files.newBufferedWriter(manifest, StandardCharsets.UTF_8)) {
+            properties.store(writer, "GoodJob load test dataset, generated " + now);
+        }
+        log("Đã ghi manifest: %s", manifest.toAbsolutePath());
+    }
+
+    private long employerId(int employer) {
+        return userBase + 1 + employer;
+    }
+
+    private long jobId(int job) {
+        return jobBase + 1 + job;
+    }
+
+    // Mỗi thực thể có luồng ngẫu nhiên riêng nên kết quả không phụ thuộc thứ tự sinh
+    private SplittableRandom random(int stream, long index) {
+        return new SplittableRandom(seed * 0x9E3779B97F4A7C15L + stream * 0xBF58476D1CE4E5B9L + index);
+    }
+
+    private static long max(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(sql)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static void timed(String step, SqlStep action) throws SQLException {
+        long start = System.nanoTime();
+        action.run();
+        log("%s: %.1fs", step, (System.nanoTime() - start) / 1e9);
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println(String.format(format, args));
+    }
+
+    @FunctionalInterface
+    private interface SqlStep {
+        void run() throws SQLException;
+    }
+}
@@ -0,0 +1,165 @@
+package org.example.goodjobbackend.loadtest;
+
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * So sánh throughput insert hàng loạt thông báo và job trước/sau khi chuyển id sang sequence pooled (V3).
+ * Mỗi chế độ phát đúng chuỗi lệnh SQL mà Hibernate gửi cho saveAll trong một transaction:
+ *   identity  trước: id do database sinh (IDENTITY), Hibernate phải tắt batch và đọc lại id sau từng INSERT,
+ *             mỗi dòng là một round trip
+ *   pooled    sau: mỗi allocation-size dòng một lần nextval (pooled-lo), INSERT gửi theo JDBC batch
+ *             (hibernate.jdbc.batch_size=50)
+ * Dòng được insert trong transaction rồi rollback nên không để lại dữ liệu (sequence vẫn tăng).
+ * Database cần schema do Flyway tạo và ít nhất một nhà tuyển dụng (./gradlew loadtestData).
+ * Chỉ hỗ trợ PostgreSQL: trên MySQL Hibernate giả lập sequence bằng bảng nên chuỗi lệnh khác.
+ *
+ * Chạy: ./gradlew insertBenchmark -Ploadtest.args="--jdbc-url=jdbc:postgresql://localhost:5432/goodjob
+ *       --db-user=postgres --db-password=secret --rows=5000 --runs=5"
+ */
+public final class InsertBenchmark {
+
+    private static final String NOTIFICATION_INSERT = "INSERT INTO notifications (id, user_id, title, content, " +
+            "notification_type, is_read, created_at) VALUES (?, ?, ?, ?, 'SYSTEM', false, ?)";
+    private static final String JOB_INSERT = "INSERT INTO jobs (job_id, version, employer_id, title, description, " +
+            "location, apply_count, view_count, posted_at, expire_at, is_salary_public, is_active, status) " +
+            "VALUES (?, 0, ?, ?, ?, 'Hà Nội', 0, 0, ?, ?, true, true, 'PENDING')";
+
+    private final LoadTestOptions options;
+    private final int rows;
+    private final int runs;
+    private final int batchSize;
+    private final int allocationSize;
+
+    private InsertBenchmark(LoadTestOptions options) {
+        this.options = options;
+        this.rows = options.getInt("rows", 5_000);
+        this.runs = options.getInt("runs", 5);
+        this.batchSize = options.getInt("batch-size", 50);
+        this.allocationSize = options.getInt("allocation-size", 50);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new InsertBenchmark(new LoadTestOptions(args)).run();
+    }
+
+    private void run() throws Exception {
+        try (Connection connection = DriverManager.getConnection(
+                options.get("jdbc-url", "jdbc:postgresql://localhost:5432/goodjob"),
+                options.get("db-user", "postgres"), options.get("db-password", ""))) {
+            if (!connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres")) {
+                throw new IllegalArgumentException("InsertBenchmark chỉ hỗ trợ PostgreSQL");
+            }
+            connection.setAutoCommit(false);
+            long employerId = firstId(connection, "SELECT min(user_id) FROM employers");
+
+            System.out.printf("%d dòng mỗi lượt, %d lượt (+1 khởi động), batch %d, allocation %d%n",
+                    rows, runs, batchSize, allocationSize);
+            System.out.printf("%-14s %-9s %12s %12s%n", "bảng", "chế độ", "dòng/giây", "round trip");
+            for (Table table : List.of(
+                    new Table("notifications", "notifications_seq", NOTIFICATION_INSERT, employerId),
+                    new Table("jobs", "jobs_seq", JOB_INSERT, employerId))) {
+                double identity = report(connection, table, false);
+                double pooled = report(connection, table, true);
+                System.out.printf("%-14s %-9s %11.1fx%n", table.name(), "tăng tốc", pooled / identity);
+            }
+        }
+    }
+
+    // Trung vị throughput của các lượt đo (lượt đầu chỉ để làm nóng kết nối và plan cache)
+    private double report(Connection connection, Table table, boolean pooled) throws SQLException {
+        double[] throughput = new double[runs];
+        long roundTrips = 0;
+        for (int run = -1; run < runs; run++) {
+            long start = System.nanoTime();
+            roundTrips = pooled ? insertPooled(connection, table) : insertIdentity(connection, table);
+            long elapsed = System.nanoTime() - start;
+            connection.rollback();
+            if (run >= 0) {
+                throughput[run] = rows * (double) TimeUnit.SECONDS.toNanos(1) / elapsed;
+            }
+        }
+        Arrays.sort(throughput);
+        double median = throughput[runs / 2];
+        System.out.printf("%-14s %-9s %12.0f %12d%n", table.name(), pooled ? "pooled" : "identity", median, roundTrips);
+        return median;
+    }
+
+    // Trước: id lấy từ database sau mỗi INSERT, không batch được
+    private long insertIdentity(Connection connection, Table table) throws SQLException {
+        String sql = table.insert().replaceFirst("\\(\\?", "(nextval('" + table.sequence() + "')");
+        try (PreparedStatement statement = connection.prepareStatement(sql, new String[]{table.idColumn()})) {
+            for (int i = 0; i < rows; i++) {
+                table.bind(statement, i, 1);
+                statement.executeUpdate();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    keys.next();
+                }
+            }
+        }
+        return rows;
+    }
+
+    // Sau: id cấp phát theo khối allocation-size, INSERT gửi theo batch
+    private long insertPooled(Connection connection, Table table) throws SQLException {
+        long roundTrips = 0;
+        try (PreparedStatement nextval = connection.prepareStatement("SELECT nextval('" + table.sequence() + "')");
+             PreparedStatement statement = connection.prepareStatement(table.insert())) {
+            long hi = 0;
+            int pending = 0;
+            for (int i = 0; i < rows; i++) {
+                if (i % allocationSize == 0) {
+                    try (ResultSet result = nextval.executeQuery()) {
+                        result.next();
+                        hi = result.getLong(1);
+                    }
+                    roundTrips++;
+                }
+                statement.setLong(1, hi + i % allocationSize);
+                table.bind(statement, i, 2);
+                statement.addBatch();
+                if (++pending == batchSize) {
+                    statement.executeBatch();
+                    roundTrips++;
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+                roundTrips++;
+            }
+        }
+        return roundTrips;
+    }
+
+    private static long firstId(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet result = statement.executeQuery(sql)) {
+            if (!result.next() || result.getObject(1) == null) {
+                throw new IllegalStateException("Database chưa có dữ liệu, hãy chạy ./gradlew loadtestData trước");
+            }
+            return result.getLong(1);
+        }
+    }
+
+    private record Table(String name, String sequence, String insert, long ownerId) {
+
+        String idColumn() {
+            return name.equals("jobs") ? "job_id" : "id";
+        }
+
+        // Gán các tham số sau cột id, bắt đầu từ vị trí first
+        void bind(PreparedStatement statement, int i, int first) throws SQLException {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            statement.setLong(first, ownerId);
+            statement.setString(first + 1, "Benchmark " + name + " #" + i);
+            statement.setString(first + 2, "Nội dung benchmark #" + i);
+            statement.setTimestamp(first + 3, now);
+            if (name.equals("jobs")) {
+                statement.setTimestamp(first + 4, Timestamp.valueOf(LocalDateTime.now().plusDays(30)));
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package org.example.goodjobbackend.loadtest;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+import org.example.goodjobbackend.jfr.ApplicationSubmitEvent;
+import org.example.goodjobbackend.jfr.EmailDispatchEvent;
+import org.example.goodjobbackend.jfr.JobModerationEvent;
+import org.example.goodjobbackend.jfr.JobSearchEvent;
+import org.example.goodjobbackend.jfr.NotificationFanOutEvent;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Tổng hợp một file JFR theo thao tác nghiệp vụ: số lần, độ trễ p50/p95/p99/max của từng event
+ * org.example.goodjobbackend.*, cùng số mẫu CPU (jdk.ExecutionSample) và lượng cấp phát (jdk.ObjectAllocationSample)
+ * rơi vào khoảng thời gian thao tác đó chạy trên cùng luồng. Với mỗi thao tác in thêm các method nóng nhất.
+ *
+ * Chạy: ./gradlew jfrSummary -Ploadtest.args="--file=/tmp/goodjob.jfr --top=5"
+ * (recording nên được ghi với src/main/resources/jfr/goodjob.jfc)
+ */
+public final class JfrSummary {
+
+    // Số span lùi lại tối đa khi tìm thao tác bao quanh một mẫu (các span lồng nhau trên cùng luồng)
+    private static final int MAX_LOOKBACK = 16;
+
+    private final Map<String, Operation> operations = new TreeMap<>();
+    private final Map<Long, List<Span>> spansByThread = new HashMap<>();
+    private final List<Sample> samples = new ArrayList<>();
+
+    public static void main(String[] args) throws IOException {
+        LoadTestOptions options = new LoadTestOptions(args);
+        String file = options.get("file", null);
+        if (file == null) {
+            throw new IllegalArgumentException("Thiếu --file=đường/dẫn/recording.jfr");
+        }
+        JfrSummary summary = new JfrSummary();
+        summary.read(Path.of(file));
+        summary.attributeSamples();
+        summary.print(options.getInt("top", 5));
+    }
+
+    private void read(Path file) throws IOException {
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String type = event.getEventType().getName();
+                switch (type) {
+                    case "jdk.ExecutionSample" ->
+                            addSample(event.getThread("sampledThread"), event.getStartTime(), 0, topFrame(event.getStackTrace()));
+                    case "jdk.ObjectAllocationSample" ->
+                            addSample(event.getThread(), event.getStartTime(), event.getLong("weight"), null);
+                    default -> {
+                        String key = operationKey(type, event);
+                        if (key != null) {
+                            addSpan(key, event);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static String operationKey(String type, RecordedEvent event) {
+        return switch (type) {
+            case JobSearchEvent.NAME -> "search[" + event.getString("filter") + ", " + event.getString("status") + "]";
+            case ApplicationSubmitEvent.NAME -> "apply[" + event.getString("outcome") + "]";
+            case JobModerationEvent.NAME -> "moderate[" + event.getString("newStatus")
+                    + (event.getBoolean("success") ? "" : ", failed") + "]";
+            case EmailDispatchEvent.NAME -> "email[" + event.getString("type")
+                    + (event.getBoolean("success") ? "" : ", failed") + "]";
+            case NotificationFanOutEvent.NAME -> "notify[" + event.getString("audience") + ", "
+                    + event.getString("notificationType") + "]";
+            default -> null;
+        };
+    }
+
+    // Số dòng / email / thông báo mà mỗi thao tác xử lý
+    private static long operationItems(RecordedEvent event) {
+        return switch (event.getEventType().getName()) {
+            case JobSearchEvent.NAME -> event.getInt("rows");
+            case EmailDispatchEvent.NAME -> event.getInt("messages");
+            case NotificationFanOutEvent.NAME -> event.getInt("notifications");
+            default -> 1;
+        };
+    }
+
+    private void addSpan(String key, RecordedEvent event) {
+        Operation operation = operations.computeIfAbsent(key, Operation::new);
+        operation.durations.add(event.getDuration().toNanos());
+        operation.items += operationItems(event);
+        RecordedThread thread = event.getThread();
+        if (thread != null) {
+            spansByThread.computeIfAbsent(thread.getJavaThreadId(), id -> new ArrayList<>())
+                    .add(new Span(nanos(event.getStartTime()), nanos(event.getEndTime()), operation));
+        }
+    }
+
+    private void addSample(RecordedThread thread, Instant time, long allocatedBytes, String frame) {
+        if (thread != null) {
+            samples.add(new Sample(thread.getJavaThreadId(), nanos(time), allocatedBytes, frame));
+        }
+    }
+
+    private void attributeSamples() {
+        spansByThread.values().forEach(spans -> spans.sort(Comparator.comparingLong(Span::start)));
+        for (Sample sample : samples) {
+            Operation operation = enclosingOperation(spansByThread.get(sample.threadId()), sample.time());
+            if (operation == null) {
+                continue;
+            }
+            if (sample.frame() != null) {
+                operation.cpuSamples++;
+                operation.hotFrames.merge(sample.frame(), 1, Integer::sum);
+            } else {
+                operation.allocatedBytes += sample.allocatedBytes();
+            }
+        }
+    }
+
+    // Span bắt đầu muộn nhất mà vẫn bao quanh thời điểm mẫu (thao tác trong cùng nếu lồng nhau)
+    private static Operation enclosingOperation(List<Span> spans, long time) {
+        if (spans == null) {
+            return null;
+        }
+        int low = 0;
+        int high = spans.size() - 1;
+        int last = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (spans.get(mid).start() <= time) {
+                last = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        for (int i = last; i >= 0 && i > last - MAX_LOOKBACK; i--) {
+            if (spans.get(i).end() >= time) {
+                return spans.get(i).operation();
+            }
+        }
+        return null;
+    }
+
+    private void print(int top) {
+        long cpuTotal = samples.stream().filter(sample -> sample.frame() != null).count();
+        long cpuAttributed = operations.values().stream().mapToLong(operation -> operation.cpuSamples).sum();
+
+        System.out.printf("%-40s %8s %10s %9s %9s %9s %9s %9s %9s %8s %11s%n",
+                "operation", "count", "total ms", "mean ms", "p50 ms", "p95 ms", "p99 ms", "max ms",
+                "items", "cpu", "alloc MB");
+        List<Operation> sorted = new ArrayList<>(operations.values());
+        sorted.sort(Comparator.comparingLong(Operation::totalNanos).reversed());
+        for (Operation operation : sorted) {
+            long[] durations = operation.durations.stream().mapToLong(Long::longValue).sorted().toArray();
+            System.out.printf("%-40s %,8d %,10.1f %9.2f %9.2f %9.2f %9.2f %9.2f %,9d %,8d %,11.1f%n",
+                    operation.key, durations.length, millis(operation.totalNanos()),
+                    millis(operation.totalNanos()) / durations.length,
+                    millis(percentile(durations, 0.50)), millis(percentile(durations, 0.95)),
+                    millis(percentile(durations, 0.99)), millis(durations[durations.length - 1]),
+                    operation.items, operation.cpuSamples, operation.allocatedBytes / (1024.0 * 1024.0));
+        }
+        System.out.printf("%nMẫu CPU: %,d, trong đó %,d (%.1f%%) rơi vào thao tác nghiệp vụ%n",
+                cpuTotal, cpuAttributed, cpuTotal == 0 ? 0 : 100.0 * cpuAttributed / cpuTotal);
+
+        for (Operation operation : sorted) {
+            if (operation.hotFrames.isEmpty()) {
+                continue;
+            }
+            System.out.printf("%n%s - method nóng nhất:%n", operation.key);
+            operation.hotFrames.entrySet().stream()
+                    .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                    .limit(top)
+                    .forEach(entry -> System.out.printf("  %6.1f%%  %s%n",
+                            100.0 * entry.getValue() / operation.cpuSamples, entry.getKey()));
+        }
+    }
+
+    private static String topFrame(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<không có stack trace>";
+        }
+        RecordedFrame frame = stackTrace.getFrames().get(0);
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static long nanos(Instant instant) {
+        return instant.getEpochSecond() * 1_000_000_000L + instant.getNano();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private record Span(long start, long end, Operation operation) {
+    }
+
+    // frame != null với mẫu CPU, allocatedBytes > 0 với mẫu cấp phát
+    private record Sample(long threadId, long time, long allocatedBytes, String frame) {
+    }
+
+    private static final class Operation {
+        private final String key;
+        private final List<Long> durations = new ArrayList<>();
+        private final Map<String, Integer> hotFrames = new HashMap<>();
+        private long items;
+        private long cpuSamples;
+        private long allocatedBytes;
+
+        Operation(String key) {
+            this.key = key;
+        }
+
+        long totalNanos() {
+            return durations.stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.goodjobbackend.loadtest;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Histogram độ trễ log-tuyến tính (sai số ~1%) từ 1µs đến ~1 giờ, ghi không khóa từ nhiều luồng.
+ * Bộ nhớ cố định, không phụ thuộc số request nên chạy được hàng chục triệu request.
+ */
+final class LatencyHistogram {
+
+    private static final double BASE = 1.01;
+    private static final double LOG_BASE = Math.log(BASE);
+    private static final int BUCKETS = (int) Math.ceil(Math.log(3_600_000_000.0) / LOG_BASE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    void record(long nanos) {
+        long micros = Math.max(1, nanos / 1_000);
+        counts.incrementAndGet(Math.min(BUCKETS - 1, (int) (Math.log(micros) / LOG_BASE)));
+        max.accumulate(micros);
+    }
+
+    long count() {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * @param percentile ví dụ 99.9
+     * @return độ trễ tính bằng mili giây (cận trên của bucket chứa percentile)
+     */
+    double percentileMillis(double percentile) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        long threshold = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= threshold) {
+                return Math.min(Math.pow(BASE, i + 1), max.get()) / 1_000.0;
+            }
+        }
+        return maxMillis();
+    }
+
+    double maxMillis() {
+        return max.get() / 1_000.0;
+    }
+}
@@ -0,0 +1,283 @@
+package org.example.goodjobbackend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Load driver chạy trong JVM: phát lại lưu lượng hỗn hợp (duyệt, tìm kiếm, xem, ứng tuyển, kiểm tra thông báo,
+ * đăng nhập, yêu cầu đặt lại mật khẩu) vào ứng dụng đang chạy cục bộ, rồi báo throughput và độ trễ
+ * p50/p90/p99/p99.9 cho từng loại request.
+ *
+ * Mô hình vòng kín: mỗi "người dùng ảo" là một virtual thread gửi request tiếp theo ngay khi nhận được
+ * response (cộng think time nếu có). Job được chọn theo cùng phân phối Zipf với DataGenerator (đọc từ manifest).
+ *
+ * Chạy: ./gradlew loadtestRun -Ploadtest.args="--base-url=http://localhost:8080 --concurrency=200 --duration=PT5M
+ *       --mix=browse:40,search:20,view:25,apply:5,notifications:10"
+ * Có thể đặt sẵn các tham số trong file kịch bản: --config=src/loadtest/resources/mixed-traffic.properties
+ */
+public final class LoadDriver {
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final String baseUrl;
+    private final long jobIdMin;
+    private final long applicantIdMin;
+    private final int applicants;
+    private final ZipfSampler jobSampler;
+    private final ZipfSampler pageSampler = new ZipfSampler(50, 1.2);
+    private final List<Operation> operations = new ArrayList<>();
+    private final double[] cumulativeWeights;
+
+    LoadDriver(LoadTestOptions options) throws IOException {
+        this.options = options;
+        this.baseUrl = options.get("base-url", "http://localhost:8080").replaceAll("/$", "");
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        Properties dataset = new Properties();
+        Path manifest = Path.of(options.get("manifest", "build/loadtest/dataset.properties"));
+        if (Files.exists(manifest)) {
+            try (Reader reader = Files.newBufferedReader(manifest, StandardCharsets.UTF_8)) {
+                dataset.load(reader);
+            }
+        }
+        this.jobIdMin = options.getLong("job-id-min", Long.parseLong(dataset.getProperty("jobIdMin", "1")));
+        int jobs = options.getInt("jobs", Integer.parseInt(dataset.getProperty("jobs", "1000")));
+        this.applicantIdMin = options.getLong("applicant-id-min", Long.parseLong(dataset.getProperty("applicantIdMin", "1")));
+        this.applicants = options.getInt("applicants", Integer.parseInt(dataset.getProperty("applicants", "1000")));
+        this.jobSampler = new ZipfSampler(jobs, Double.parseDouble(dataset.getProperty("jobZipfExponent", "1.0")));
+
+        defineOperations(options.get("mix", "browse:40,search:20,view:25,apply:5,notifications:10"));
+        cumulativeWeights = new double[operations.size()];
+        double total = 0;
+        for (int i = 0; i < operations.size(); i++) {
+            total += operations.get(i).weight;
+            cumulativeWeights[i] = total;
+        }
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            cumulativeWeights[i] /= total;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new LoadDriver(new LoadTestOptions(args)).run();
+    }
+
+    private void defineOperations(String mix) {
+        Map<String, Function<RandomGenerator, HttpRequest>> available = new LinkedHashMap<>();
+        available.put("browse", random -> get("/api/jobs/approved?page=" + pageSampler.sample(random) + "&size=20&sort=postedAt,desc"));
+        available.put("search", random -> {
+            String query = "/api/jobs/search?keyword=" + encode(VietnameseText.pick(random, VietnameseText.KEYWORDS))
+                    + "&page=0&size=20&sort=postedAt,desc";
+            if (random.nextInt(3) == 0) {
+                query += "&location=" + encode(VietnameseText.pick(random, VietnameseText.LOCATIONS));
+            }
+            return get(query);
+        });
+        available.put("view", random -> get("/api/jobs/" + randomJobId(random)));
+        available.put("apply", random -> {
+            long applicantId = randomApplicantId(random);
+            return post("/api/applications", "{\"jobId\":" + randomJobId(random) + ",\"applicantId\":" + applicantId
+                    + ",\"resumeUrl\":\"https://cdn.goodjob.vn/cv/" + applicantId + ".pdf\"}");
+        });
+        available.put("notifications", random -> get("/api/notifications/user/" + randomApplicantId(random) + "/unread/count"));
+        // Request chặn luồng: kiểm tra mật khẩu BCrypt, gửi mã qua SMTP (tài khoản do DataGenerator tạo)
+        available.put("login", random -> post("/api/auth/login", "{\"username\":\"" + applicantEmail(random)
+                + "\",\"password\":\"password123\"}"));
+        available.put("reset", random -> post("/api/auth/reset-password/request",
+                "{\"email\":\"" + applicantEmail(random) + "\"}"));
+
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            Function<RandomGenerator, HttpRequest> request = available.get(parts[0].trim());
+            if (request == null) {
+                throw new IllegalArgumentException("Loại request không hỗ trợ: " + parts[0] + " (có: " + available.keySet() + ")");
+            }
+            double weight = parts.length > 1 ? Double.parseDouble(parts[1].trim()) : 1;
+            if (weight > 0) {
+                operations.add(new Operation(parts[0].trim(), weight, request));
+            }
+        }
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("Tham số --mix không có loại request nào");
+        }
+    }
+
+    // Trả về throughput tổng (request/giây) trong khoảng đo
+    double run() throws Exception {
+        int concurrency = options.getInt("concurrency", 64);
+        Duration warmup = options.getDuration("warmup", Duration.ofSeconds(15));
+        Duration duration = options.getDuration("duration", Duration.ofMinutes(2));
+        long thinkTimeMillis = options.getLong("think-time-ms", 0);
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        System.out.printf("Chạy %d người dùng ảo vào %s: khởi động %ds, đo %ds%n",
+                concurrency, baseUrl, warmup.toSeconds(), duration.toSeconds());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                executor.submit(() -> {
+                    RandomGenerator random = ThreadLocalRandom.current();
+                    long now;
+                    while ((now = System.nanoTime()) < end) {
+                        Operation operation = pick(random);
+                        HttpRequest request = operation.request.apply(random);
+                        int status;
+                        try {
+                            status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (IOException e) {
+                            status = -1;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return null;
+                        }
+                        long finished = System.nanoTime();
+                        if (now >= measureFrom) {
+                            operation.record(status, finished - now);
+                        }
+                        if (thinkTimeMillis > 0) {
+                            Thread.sleep(thinkTimeMillis);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        return report(duration, concurrency);
+    }
+
+    private double report(Duration duration, int concurrency) throws IOException {
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("%n%-14s %10s %9s %9s %9s %9s %9s %9s %7s %7s%n",
+                "request", "count", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "4xx", "err");
+        Map<String, Object> operationsReport = new LinkedHashMap<>();
+        long total = 0;
+        for (Operation operation : operations) {
+            LatencyHistogram latency = operation.latency;
+            long count = latency.count();
+            total += count;
+            System.out.printf("%-14s %,10d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d %7d%n",
+                    operation.name, count, count / seconds, latency.percentileMillis(50), latency.percentileMillis(90),
+                    latency.percentileMillis(99), latency.percentileMillis(99.9), latency.maxMillis(),
+                    operation.clientErrors.sum(), operation.errors.sum());
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("count", count);
+            entry.put("throughput", count / seconds);
+            entry.put("p50", latency.percentileMillis(50));
+            entry.put("p90", latency.percentileMillis(90));
+            entry.put("p99", latency.percentileMillis(99));
+            entry.put("p999", latency.percentileMillis(99.9));
+            entry.put("max", latency.maxMillis());
+            entry.put("clientErrors", operation.clientErrors.sum());
+            entry.put("errors", operation.errors.sum());
+            operationsReport.put(operation.name, entry);
+        }
+        System.out.printf("%-14s %,10d %9.1f%n", "total", total, total / seconds);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", LocalDateTime.now().toString());
+        report.put("baseUrl", baseUrl);
+        report.put("concurrency", concurrency);
+        report.put("durationSeconds", seconds);
+        report.put("throughput", total / seconds);
+        report.put("operations", operationsReport);
+        Path reportFile = Path.of(options.get("report", "build/loadtest/report.json"));
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println("Đã ghi báo cáo: " + reportFile.toAbsolutePath());
+        return total / seconds;
+    }
+
+    private Operation pick(RandomGenerator random) {
+        double value = random.nextDouble();
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations.get(i);
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private long randomJobId(RandomGenerator random) {
+        return jobIdMin + jobSampler.sample(random);
+    }
+
+    private long randomApplicantId(RandomGenerator random) {
+        return applicantIdMin + random.nextInt(applicants);
+    }
+
+    // Email đăng nhập của ứng viên theo quy ước của DataGenerator
+    private String applicantEmail(RandomGenerator random) {
+        return "lt" + randomApplicantId(random) + "@loadtest.goodjob.vn";
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    private static final class Operation {
+        private final String name;
+        private final double weight;
+        private final Function<RandomGenerator, HttpRequest> request;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+
+        Operation(String name, double weight, Function<RandomGenerator, HttpRequest> request) {
+            this.name = name;
+            this.weight = weight;
+            this.request = request;
+        }
+
+        // 4xx (ví dụ ứng tuyển trùng) tính riêng; 5xx và lỗi kết nối tính là lỗi
+        void record(int status, long nanos) {
+            latency.record(nanos);
+            if (status >= 400 && status < 500) {
+                clientErrors.increment();
+            } else if (status < 200 || status >= 500) {
+                errors.increment();
+            }
+        }
+    }
+}
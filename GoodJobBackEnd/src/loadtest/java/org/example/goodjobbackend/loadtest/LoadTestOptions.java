@@ -0,0 +1,65 @@
+package org.example.goodjobbackend.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Tham số dòng lệnh dạng --key=value; có thể đặt sẵn trong file kịch bản bằng --config=path/to/file.properties
+ * (giá trị trên dòng lệnh được ưu tiên hơn giá trị trong file)
+ */
+final class LoadTestOptions {
+
+    private final Properties values = new Properties();
+
+    LoadTestOptions(String[] args) throws IOException {
+        Properties cli = new Properties();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Tham số không hợp lệ: " + arg + " (dùng --key=value)");
+            }
+            int eq = arg.indexOf('=');
+            cli.setProperty(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+        }
+        String config = cli.getProperty("config");
+        if (config != null) {
+            try (Reader reader = Files.newBufferedReader(Path.of(config), StandardCharsets.UTF_8)) {
+                values.load(reader);
+            }
+        }
+        values.putAll(cli);
+    }
+
+    String get(String key, String defaultValue) {
+        return values.getProperty(key, defaultValue);
+    }
+
+    int getInt(String key, int defaultValue) {
+        String value = values.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    long getLong(String key, long defaultValue) {
+        String value = values.getProperty(key);
+        return value == null ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    double getDouble(String key, double defaultValue) {
+        String value = values.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value.trim());
+    }
+
+    // Nhận dạng ISO-8601 (PT2M) hoặc số giây
+    Duration getDuration(String key, Duration defaultValue) {
+        String value = values.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        value = value.trim();
+        return value.startsWith("P") || value.startsWith("p") ? Duration.parse(value) : Duration.ofSeconds(Long.parseLong(value));
+    }
+}
@@ -0,0 +1,202 @@
+package org.example.goodjobbackend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Smoke test cho file native: khởi động binary với database cục bộ, chờ health UP rồi gọi một loạt endpoint
+ * đi qua các phần cần reachability metadata (JPA/Hibernate, Jackson với DTO Lombok và CBOR, Thymeleaf, Flyway,
+ * controller @Lazy, proxy JDBC, Actuator/Prometheus). Không cần CI, chỉ cần database đang chạy.
+ * Thoát với mã 1 nếu có kiểm tra thất bại; log của ứng dụng ở build/loadtest/native-smoke.log.
+ *
+ * Chạy: ./gradlew nativeSmokeTest -Pnative -Ploadtest.args="--jdbc-url=jdbc:postgresql://localhost:5432/goodjob
+ *       --db-user=postgres --db-password=postgres"
+ * (không truyền --jdbc-url thì ứng dụng đọc SPRING_DATASOURCE_* từ môi trường như khi chạy thật)
+ */
+public final class NativeSmokeTest {
+
+    private final LoadTestOptions options;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final String managementUrl;
+    private final List<String> failures = new ArrayList<>();
+
+    private NativeSmokeTest(LoadTestOptions options) {
+        this.options = options;
+        int port = options.getInt("port", 18080);
+        this.baseUrl = "http://localhost:" + port;
+        this.managementUrl = "http://localhost:" + options.getInt("management-port", port + 1);
+    }
+
+    public static void main(String[] args) throws Exception {
+        NativeSmokeTest smokeTest = new NativeSmokeTest(new LoadTestOptions(args));
+        System.exit(smokeTest.run() ? 0 : 1);
+    }
+
+    private boolean run() throws Exception {
+        Path binary = Path.of(options.get("binary", "build/native/nativeCompile/goodjob-backend")).toAbsolutePath();
+        if (!Files.isExecutable(binary)) {
+            throw new IllegalArgumentException("Không có " + binary + ", hãy chạy ./gradlew nativeCompile -Pnative trước");
+        }
+        List<String> command = new ArrayList<>();
+        command.add(binary.toString());
+        command.add("--spring.profiles.active=" + options.get("profiles", "prod"));
+        command.add("--server.port=" + baseUrl.substring(baseUrl.lastIndexOf(':') + 1));
+        command.add("--management.server.port=" + managementUrl.substring(managementUrl.lastIndexOf(':') + 1));
+        String jdbcUrl = options.get("jdbc-url", null);
+        if (jdbcUrl != null) {
+            command.add("--spring.datasource.url=" + jdbcUrl);
+            command.add("--spring.datasource.username=" + options.get("db-user", ""));
+            command.add("--spring.datasource.password=" + options.get("db-password", ""));
+        }
+
+        Path logFile = Path.of(options.get("log", "build/loadtest/native-smoke.log")).toAbsolutePath();
+        Files.createDirectories(logFile.getParent());
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        try {
+            awaitHealthy(process, options.getDuration("timeout", Duration.ofMinutes(1)), logFile);
+            System.out.printf("Ứng dụng sẵn sàng sau %d ms (pid %d)%n",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), process.pid());
+            runChecks();
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+
+        if (failures.isEmpty()) {
+            System.out.println("Tất cả kiểm tra đều đạt");
+            return true;
+        }
+        System.out.println(failures.size() + " kiểm tra thất bại, xem log: " + logFile);
+        return false;
+    }
+
+    // Health UP nghĩa là đã kết nối được database (Flyway đã chạy xong lúc khởi động)
+    private void awaitHealthy(Process process, Duration timeout, Path logFile) throws Exception {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        HttpRequest health = get(managementUrl + "/actuator/health");
+        while (true) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Ứng dụng dừng với mã " + process.exitValue() + ", xem log: " + logFile);
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("Quá " + timeout.toSeconds() + "s chưa có health UP, xem log: " + logFile);
+            }
+            try {
+                HttpResponse<String> response = client.send(health, HttpResponse.BodyHandlers.ofString());
+                if (response.statusCode() == 200 && response.body().contains("\"UP\"")) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Server chưa mở cổng
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private void runChecks() throws Exception {
+        HttpResponse<String> approved = check("danh sách job đã duyệt (JPA + Jackson)",
+                get(baseUrl + "/api/jobs/approved?page=0&size=5&sort=postedAt,desc"),
+                response -> response.statusCode() == 200 && json(response.body()).has("content"));
+        check("danh sách job với fields=summary (Jackson filter)",
+                get(baseUrl + "/api/jobs/approved?page=0&size=5&fields=summary"),
+                response -> response.statusCode() == 200 && !response.body().contains("\"description\""));
+        check("danh sách job dạng CBOR",
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/jobs/approved?page=0&size=5"))
+                        .timeout(Duration.ofSeconds(10))
+                        .header("Accept", "application/cbor")
+                        .GET()
+                        .build(),
+                response -> response.statusCode() == 200
+                        && response.headers().firstValue("Content-Type").orElse("").startsWith("application/cbor"));
+        check("tìm kiếm job (query có bộ lọc)",
+                get(baseUrl + "/api/jobs/search?keyword=java&page=0&size=5"),
+                response -> response.statusCode() == 200);
+
+        JsonNode content = approved == null ? null : json(approved.body()).path("content");
+        if (content != null && content.size() > 0) {
+            long jobId = content.get(0).path("jobId").asLong();
+            HttpResponse<String> detail = check("chi tiết job " + jobId, get(baseUrl + "/api/jobs/" + jobId),
+                    response -> response.statusCode() == 200 && json(response.body()).path("jobId").asLong() == jobId);
+            String etag = detail == null ? null : detail.headers().firstValue("ETag").orElse(null);
+            check("chi tiết job " + jobId + " với If-None-Match (304)",
+                    HttpRequest.newBuilder(URI.create(baseUrl + "/api/jobs/" + jobId))
+                            .timeout(Duration.ofSeconds(10))
+                            .header("If-None-Match", etag == null ? "\"\"" : etag)
+                            .GET()
+                            .build(),
+                    response -> response.statusCode() == 304);
+        } else {
+            System.out.println("SKIP  chi tiết job (database chưa có job đã duyệt)");
+        }
+
+        check("trang đăng nhập (Thymeleaf)", get(baseUrl + "/login"),
+                response -> response.statusCode() == 200 && response.body().contains("<html"));
+        check("controller @Lazy", get(baseUrl + "/api/test/admin/status"),
+                response -> response.statusCode() == 200 && response.body().contains("SUCCESS"));
+        check("đăng nhập sai (security + xử lý lỗi)",
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                        .timeout(Duration.ofSeconds(10))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"email\":\"smoke@example.com\",\"password\":\"sai-mat-khau\"}"))
+                        .build(),
+                response -> response.statusCode() >= 400 && response.statusCode() < 500);
+        check("slow query log (proxy JDBC)", get(baseUrl + "/api/admin/slow-queries"),
+                response -> response.statusCode() == 200 && response.body().startsWith("["));
+        check("Prometheus", get(managementUrl + "/actuator/prometheus"),
+                response -> response.statusCode() == 200 && response.body().contains("http_server_requests_seconds"));
+    }
+
+    private HttpResponse<String> check(String name, HttpRequest request, Predicate<HttpResponse<String>> expectation) {
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (expectation.test(response)) {
+                System.out.println("PASS  " + name);
+                return response;
+            }
+            String body = response.body();
+            failures.add(name);
+            System.out.printf("FAIL  %s: HTTP %d %s%n", name, response.statusCode(),
+                    body.length() > 300 ? body.substring(0, 300) + "..." : body);
+            return null;
+        } catch (Exception e) {
+            failures.add(name);
+            System.out.println("FAIL  " + name + ": " + e);
+            return null;
+        }
+    }
+
+    private JsonNode json(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new IllegalStateException("Response không phải JSON: " + e.getMessage(), e);
+        }
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(10)).GET().build();
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.goodjobbackend.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Máy chủ SMTP giả cho load test: nhận mọi thư (không TLS, không xác thực), bỏ nội dung và trả lời
+ * sau một độ trễ cố định ở cuối lệnh DATA, giống một relay SMTP thật ở xa. Mỗi kết nối chạy trên một virtual thread.
+ */
+final class SlowSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final Duration delay;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final LongAdder messages = new LongAdder();
+
+    SlowSmtpServer(int port, Duration delay) throws IOException {
+        this.serverSocket = new ServerSocket(port);
+        this.delay = delay;
+        executor.submit(this::acceptLoop);
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    long messages() {
+        return messages.sum();
+    }
+
+    private Void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.submit(() -> session(socket));
+            } catch (IOException e) {
+                // Server đã đóng
+            }
+        }
+        return null;
+    }
+
+    private Void session(Socket socket) throws IOException, InterruptedException {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             OutputStream out = socket.getOutputStream()) {
+            reply(out, "220 loadtest SMTP");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+                switch (command) {
+                    case "EHLO", "HELO" -> reply(out, "250 loadtest");
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // Bỏ nội dung thư
+                        }
+                        Thread.sleep(delay.toMillis());
+                        messages.increment();
+                        reply(out, "250 OK");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return null;
+                    }
+                    default -> reply(out, "250 OK");
+                }
+            }
+        }
+        return null;
+    }
+
+    private static void reply(OutputStream out, String line) throws IOException {
+        out.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,265 @@
+package org.example.goodjobbackend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Đo thời gian khởi động của ứng dụng đã đóng gói: mỗi lần chạy khởi động một tiến trình mới từ bản jar đã tách
+ * (./gradlew cdsArchive) hoặc file native, gửi liên tục request tới endpoint cho tới khi nhận được response 2xx đầu tiên
+ * rồi dừng tiến trình.
+ *
+ * Với mỗi chế độ ghi lại time-to-first-request (từ lúc tạo tiến trình tới response 2xx đầu tiên), thời gian
+ * "Started ... in X seconds" mà Spring Boot tự log và bộ nhớ RSS của tiến trình ngay sau request đầu tiên
+ * (đọc từ /proc, chỉ có trên Linux):
+ *   jvm      java -jar
+ *   cds      + -XX:SharedArchiveFile=application.jsa
+ *   aot      + -Dspring.aot.enabled=true
+ *   aot-cds  cả hai, giống ENTRYPOINT trong Dockerfile
+ *   native   file build/native/nativeCompile/goodjob-backend (./gradlew nativeCompile -Pnative)
+ *
+ * Ứng dụng đọc cấu hình database và các biến môi trường khác từ môi trường hiện tại, giống khi chạy thật.
+ * Chạy: ./gradlew startupBenchmark -Ploadtest.args="--runs=5 --modes=jvm,aot-cds,native --profiles=prod"
+ */
+public final class StartupBenchmark {
+
+    private static final Pattern STARTED = Pattern.compile("Started \\S+ in ([0-9.]+) seconds");
+
+    private final LoadTestOptions options;
+    private final Path appDir;
+    private final Path jar;
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(500))
+            .build();
+
+    private StartupBenchmark(LoadTestOptions options) throws IOException {
+        this.options = options;
+        this.appDir = Path.of(options.get("app-dir", "build/startup/app")).toAbsolutePath();
+        String jarName = options.get("jar", null);
+        if (jarName != null) {
+            this.jar = appDir.resolve(jarName);
+        } else {
+            try (Stream<Path> files = Files.list(appDir)) {
+                this.jar = files.filter(file -> file.getFileName().toString().endsWith(".jar"))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "Không tìm thấy jar trong " + appDir + ", hãy chạy ./gradlew cdsArchive trước"));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        new StartupBenchmark(new LoadTestOptions(args)).run();
+    }
+
+    private void run() throws Exception {
+        int runs = options.getInt("runs", 5);
+        List<String> modes = Arrays.stream(options.get("modes", "jvm,cds,aot,aot-cds").split(","))
+                .map(String::trim)
+                .filter(mode -> !mode.isEmpty())
+                .toList();
+        Path logDir = Path.of(options.get("log-dir", "build/loadtest/startup")).toAbsolutePath();
+        Files.createDirectories(logDir);
+
+        Map<String, Object> modesReport = new LinkedHashMap<>();
+        System.out.printf("%-8s %5s %12s %12s %12s %12s %14s %10s %10s%n",
+                "mode", "runs", "min ms", "median ms", "mean ms", "max ms", "started-in ms", "rss MB", "peak MB");
+        for (String mode : modes) {
+            List<Long> firstRequestMillis = new ArrayList<>();
+            List<Long> startedInMillis = new ArrayList<>();
+            List<Long> rssKb = new ArrayList<>();
+            List<Long> peakRssKb = new ArrayList<>();
+            for (int i = 1; i <= runs; i++) {
+                Result result = startOnce(mode, logDir.resolve(mode + "-" + i + ".log"));
+                firstRequestMillis.add(result.firstRequestMillis());
+                if (result.startedInMillis() >= 0) {
+                    startedInMillis.add(result.startedInMillis());
+                }
+                if (result.rssKb() >= 0) {
+                    rssKb.add(result.rssKb());
+                    peakRssKb.add(result.peakRssKb());
+                }
+            }
+            long[] sorted = firstRequestMillis.stream().mapToLong(Long::longValue).sorted().toArray();
+            long startedIn = median(startedInMillis.stream().mapToLong(Long::longValue).sorted().toArray());
+            long rss = median(rssKb.stream().mapToLong(Long::longValue).sorted().toArray());
+            long peakRss = median(peakRssKb.stream().mapToLong(Long::longValue).sorted().toArray());
+            double mean = Arrays.stream(sorted).average().orElse(0);
+            System.out.printf("%-8s %5d %,12d %,12d %,12.0f %,12d %,14d %,10.1f %,10.1f%n",
+                    mode, sorted.length, sorted[0], median(sorted), mean, sorted[sorted.length - 1], startedIn,
+                    rss / 1024.0, peakRss / 1024.0);
+
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("command", launchCommand(mode));
+            entry.put("firstRequestMillis", firstRequestMillis);
+            entry.put("startedInMillis", startedInMillis);
+            entry.put("rssKb", rssKb);
+            entry.put("peakRssKb", peakRssKb);
+            entry.put("medianFirstRequestMillis", median(sorted));
+            entry.put("medianStartedInMillis", startedIn);
+            entry.put("medianRssKb", rss);
+            entry.put("medianPeakRssKb", peakRss);
+            modesReport.put(mode, entry);
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("finishedAt", LocalDateTime.now().toString());
+        report.put("jar", jar.toString());
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("path", options.get("path", "/api/jobs/approved?page=0&size=20&sort=postedAt,desc"));
+        report.put("modes", modesReport);
+        Path reportFile = Path.of(options.get("report", "build/loadtest/startup.json"));
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.println("Đã ghi báo cáo: " + reportFile.toAbsolutePath());
+    }
+
+    private Result startOnce(String mode, Path logFile) throws Exception {
+        int port = options.getInt("port", 18080);
+        Duration timeout = options.getDuration("timeout", Duration.ofMinutes(2));
+        URI uri = URI.create("http://localhost:" + port + options.get("path", "/api/jobs/approved?page=0&size=20&sort=postedAt,desc"));
+
+        List<String> command = new ArrayList<>(launchCommand(mode));
+        command.add("--spring.profiles.active=" + options.get("profiles", "prod"));
+        command.add("--server.port=" + port);
+        command.add("--management.server.port=" + options.getInt("management-port", port + 1));
+
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(appDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+        long start = System.nanoTime();
+        Process process = builder.start();
+        try {
+            long deadline = start + timeout.toNanos();
+            HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(5)).GET().build();
+            while (true) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Ứng dụng dừng với mã " + process.exitValue() + " (chế độ " + mode
+                            + "), xem log: " + logFile.toAbsolutePath());
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Quá " + timeout.toSeconds() + "s chưa có response 2xx (chế độ "
+                            + mode + "), xem log: " + logFile.toAbsolutePath());
+                }
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 == 2) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    // Server chưa mở cổng
+                }
+                Thread.sleep(10);
+            }
+            long firstRequestMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            Map<String, Long> memory = processMemoryKb(process.pid());
+            return new Result(firstRequestMillis, startedInMillis(logFile),
+                    memory.getOrDefault("VmRSS", -1L), memory.getOrDefault("VmHWM", -1L));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    // Lệnh khởi động (chưa gồm tham số Spring) của từng chế độ
+    private List<String> launchCommand(String mode) {
+        List<String> command = new ArrayList<>();
+        if ("native".equals(mode)) {
+            Path binary = Path.of(options.get("native-binary", "build/native/nativeCompile/goodjob-backend")).toAbsolutePath();
+            if (!Files.isExecutable(binary)) {
+                throw new IllegalArgumentException("Không có " + binary + ", hãy chạy ./gradlew nativeCompile -Pnative trước");
+            }
+            command.add(binary.toString());
+            command.addAll(extraArgs());
+            return command;
+        }
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs(mode));
+        command.add("-jar");
+        command.add(jar.toString());
+        return command;
+    }
+
+    private List<String> jvmArgs(String mode) {
+        List<String> args = new ArrayList<>();
+        switch (mode) {
+            case "jvm" -> { }
+            case "cds" -> args.add("-XX:SharedArchiveFile=" + cdsArchive());
+            case "aot" -> args.add("-Dspring.aot.enabled=true");
+            case "aot-cds" -> {
+                args.add("-XX:SharedArchiveFile=" + cdsArchive());
+                args.add("-Dspring.aot.enabled=true");
+            }
+            default -> throw new IllegalArgumentException("Chế độ không hỗ trợ: " + mode + " (có: jvm, cds, aot, aot-cds, native)");
+        }
+        args.addAll(extraArgs());
+        return args;
+    }
+
+    // Tham số thêm cho mọi chế độ, phân tách bằng dấu phẩy: --jvm-args=-Xmx512m,-XX:+UseSerialGC
+    private List<String> extraArgs() {
+        List<String> args = new ArrayList<>();
+        for (String arg : options.get("jvm-args", "").split(",")) {
+            if (!arg.isBlank()) {
+                args.add(arg.trim());
+            }
+        }
+        return args;
+    }
+
+    // VmRSS (hiện tại) và VmHWM (đỉnh) tính bằng kB; rỗng nếu không phải Linux
+    private static Map<String, Long> processMemoryKb(long pid) throws IOException {
+        Path status = Path.of("/proc", String.valueOf(pid), "status");
+        Map<String, Long> memory = new HashMap<>();
+        if (!Files.exists(status)) {
+            return memory;
+        }
+        for (String line : Files.readAllLines(status, StandardCharsets.UTF_8)) {
+            if (line.startsWith("VmRSS:") || line.startsWith("VmHWM:")) {
+                String[] parts = line.split("\\s+");
+                memory.put(line.substring(0, line.indexOf(':')), Long.parseLong(parts[1]));
+            }
+        }
+        return memory;
+    }
+
+    private Path cdsArchive() {
+        Path archive = appDir.resolve("application.jsa");
+        if (!Files.exists(archive)) {
+            throw new IllegalArgumentException("Không có " + archive + ", hãy chạy ./gradlew cdsArchive trước");
+        }
+        return archive;
+    }
+
+    // Thời gian Spring Boot tự log ("Started GoodJobBackEndApplication in 4.321 seconds"), -1 nếu không tìm thấy
+    private static long startedInMillis(Path logFile) throws IOException {
+        Matcher matcher = STARTED.matcher(new String(Files.readAllBytes(logFile), StandardCharsets.UTF_8));
+        return matcher.find() ? Math.round(Double.parseDouble(matcher.group(1)) * 1000) : -1;
+    }
+
+    private static long median(long[] sorted) {
+        return sorted.length == 0 ? -1 : sorted[sorted.length / 2];
+    }
+
+    private record Result(long firstRequestMillis, long startedInMillis, long rssKb, long peakRssKb) {
+    }
+}
@@ -0,0 +1,141 @@
+package org.example.goodjobbackend.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Ghi hàng loạt dòng vào một bảng: PostgreSQL dùng COPY FROM STDIN (CSV), MySQL dùng batch INSERT
+ * (cần rewriteBatchedStatements=true để driver gộp thành INSERT nhiều giá trị)
+ */
+abstract class TableWriter implements AutoCloseable {
+
+    protected final String table;
+    protected long rows;
+
+    protected TableWriter(String table) {
+        this.table = table;
+    }
+
+    static TableWriter open(Connection connection, String table, String... columns) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName().toLowerCase();
+        return product.contains("postgres")
+                ? new CopyWriter(connection, table, columns)
+                : new BatchInsertWriter(connection, table, columns);
+    }
+
+    abstract void row(Object... values) throws SQLException;
+
+    long rows() {
+        return rows;
+    }
+
+    @Override
+    public abstract void close() throws SQLException;
+
+    private static final class CopyWriter extends TableWriter {
+        private static final int FLUSH_BYTES = 1 << 20;
+
+        private final CopyIn copyIn;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(FLUSH_BYTES + 64 * 1024);
+        private final StringBuilder line = new StringBuilder(4096);
+
+        CopyWriter(Connection connection, String table, String[] columns) throws SQLException {
+            super(table);
+            copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(
+                    "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)");
+        }
+
+        @Override
+        void row(Object... values) throws SQLException {
+            line.setLength(0);
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    line.append(',');
+                }
+                Object value = values[i];
+                if (value instanceof String text) {
+                    // Luôn đặt trong dấu ngoặc kép để phân biệt chuỗi rỗng với NULL
+                    line.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else if (value != null) {
+                    line.append(value);
+                }
+            }
+            line.append('\n');
+            byte[] bytes = line.toString().getBytes(StandardCharsets.UTF_8);
+            buffer.write(bytes, 0, bytes.length);
+            if (buffer.size() >= FLUSH_BYTES) {
+                flush();
+            }
+            rows++;
+        }
+
+        private void flush() throws SQLException {
+            copyIn.writeToCopy(buffer.toByteArray(), 0, buffer.size());
+            buffer.reset();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (!copyIn.isActive()) {
+                return;
+            }
+            flush();
+            copyIn.endCopy();
+        }
+    }
+
+    private static final class BatchInsertWriter extends TableWriter {
+        private static final int BATCH_SIZE = 5000;
+
+        private final Connection connection;
+        private final PreparedStatement statement;
+        private int pending;
+
+        BatchInsertWriter(Connection connection, String table, String[] columns) throws SQLException {
+            super(table);
+            this.connection = connection;
+            this.statement = connection.prepareStatement("INSERT INTO " + table + " (" + String.join(", ", columns)
+                    + ") VALUES (" + "?, ".repeat(columns.length - 1) + "?)");
+        }
+
+        @Override
+        void row(Object... values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                Object value = values[i];
+                statement.setObject(i + 1, value instanceof LocalDateTime time ? Timestamp.valueOf(time) : value);
+            }
+            statement.addBatch();
+            rows++;
+            if (++pending == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            statement.executeBatch();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+            pending = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                if (pending > 0) {
+                    flush();
+                }
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
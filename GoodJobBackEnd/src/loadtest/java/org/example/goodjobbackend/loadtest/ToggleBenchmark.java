@@ -0,0 +1,300 @@
+package org.example.goodjobbackend.loadtest;
+
+import java.sql.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * So sánh thao tác lưu/bỏ lưu job trước/sau khi làm toggle nguyên tử, với nhiều luồng cùng bấm trên một tập
+ * (người dùng, job) nhỏ để có tranh chấp. Mỗi chế độ phát đúng chuỗi lệnh SQL mà Hibernate gửi:
+ *   before  một transaction: đọc user, đọc job, kiểm tra đã lưu chưa, rồi xoá (đọc dòng rồi xoá theo id)
+ *           hoặc insert; hai lần bấm song song cùng thấy "chưa lưu" thì một insert vi phạm unique và lỗi
+ *   after   DELETE theo (user_id, job_id); chỉ khi không xoá được dòng nào mới INSERT, mỗi lệnh tự commit;
+ *           insert thua cuộc (unique) được coi là đã lưu
+ * Id của dòng mới cấp theo khối 50 như sequence pooled. Trạng thái saved_jobs của tập đã chọn được chụp lại
+ * trước khi chạy và khôi phục khi xong. Chỉ hỗ trợ PostgreSQL, cần dữ liệu (./gradlew loadtestData).
+ *
+ * Chạy: ./gradlew toggleBenchmark -Ploadtest.args="--jdbc-url=jdbc:postgresql://localhost:5432/goodjob
+ *       --db-user=postgres --db-password=secret --threads=32 --users=20 --jobs=10 --duration=PT30S"
+ */
+public final class ToggleBenchmark {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final int ALLOCATION_SIZE = 50;
+
+    private final LoadTestOptions options;
+    private final int threads;
+    private final Duration warmup;
+    private final Duration duration;
+    private long[] userIds;
+    private long[] jobIds;
+
+    private ToggleBenchmark(LoadTestOptions options) {
+        this.options = options;
+        this.threads = options.getInt("threads", 32);
+        this.warmup = options.getDuration("warmup", Duration.ofSeconds(5));
+        this.duration = options.getDuration("duration", Duration.ofSeconds(30));
+    }
+
+    public static void main(String[] args) throws Exception {
+        new ToggleBenchmark(new LoadTestOptions(args)).run();
+    }
+
+    private void run() throws Exception {
+        try (Connection connection = connect()) {
+            if (!connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres")) {
+                throw new IllegalArgumentException("ToggleBenchmark chỉ hỗ trợ PostgreSQL");
+            }
+            userIds = ids(connection, "SELECT id FROM users WHERE role = 'USER' ORDER BY id LIMIT ?",
+                    options.getInt("users", 20));
+            jobIds = ids(connection, "SELECT job_id FROM jobs ORDER BY job_id LIMIT ?", options.getInt("jobs", 10));
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMP TABLE toggle_snapshot AS SELECT * FROM saved_jobs " +
+                        "WHERE user_id IN (" + join(userIds) + ") AND job_id IN (" + join(jobIds) + ")");
+            }
+
+            System.out.printf("%d luồng, %d người dùng x %d job, đo %s sau %s khởi động%n",
+                    threads, userIds.length, jobIds.length, duration, warmup);
+            System.out.printf("%-8s %12s %10s %10s %12s%n", "chế độ", "toggle/giây", "p50 ms", "p99 ms", "lỗi");
+            try {
+                double before = measure("before");
+                double after = measure("after");
+                System.out.printf("%-8s %11.1fx%n", "tăng tốc", after / before);
+            } finally {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("DELETE FROM saved_jobs WHERE user_id IN (" + join(userIds) + ") " +
+                            "AND job_id IN (" + join(jobIds) + ")");
+                    statement.execute("INSERT INTO saved_jobs SELECT * FROM toggle_snapshot");
+                }
+            }
+        }
+    }
+
+    private double measure(String mode) throws Exception {
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder errors = new LongAdder();
+        long warmupEnd = System.nanoTime() + warmup.toNanos();
+        long end = warmupEnd + duration.toNanos();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<Void>> workers = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                workers.add(executor.submit(() -> {
+                    try (Connection connection = connect()) {
+                        Toggler toggler = mode.equals("before") ? new Before(connection) : new After(connection);
+                        ThreadLocalRandom random = ThreadLocalRandom.current();
+                        long now;
+                        while ((now = System.nanoTime()) < end) {
+                            long userId = userIds[random.nextInt(userIds.length)];
+                            long jobId = jobIds[random.nextInt(jobIds.length)];
+                            boolean failed = false;
+                            try {
+                                toggler.toggle(userId, jobId);
+                            } catch (SQLException e) {
+                                failed = true;
+                            }
+                            if (now >= warmupEnd) {
+                                latency.record(System.nanoTime() - now);
+                                if (failed) {
+                                    errors.increment();
+                                }
+                            }
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<Void> worker : workers) {
+                worker.get();
+            }
+        }
+        double throughput = latency.count() / (duration.toNanos() / 1e9);
+        System.out.printf("%-8s %12.0f %10.2f %10.2f %,12d%n", mode, throughput,
+                latency.percentileMillis(50), latency.percentileMillis(99), errors.sum());
+        return throughput;
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(options.get("jdbc-url", "jdbc:postgresql://localhost:5432/goodjob"),
+                options.get("db-user", "postgres"), options.get("db-password", ""));
+    }
+
+    private interface Toggler {
+        boolean toggle(long userId, long jobId) throws SQLException;
+    }
+
+    // Id cấp theo khối như @SequenceGenerator(allocationSize = 50)
+    private static class PooledIds {
+
+        private final PreparedStatement nextval;
+        private long next;
+        private long limit;
+
+        PooledIds(Connection connection) throws SQLException {
+            this.nextval = connection.prepareStatement("SELECT nextval('saved_jobs_seq')");
+        }
+
+        long nextId() throws SQLException {
+            if (next == limit) {
+                try (ResultSet result = nextval.executeQuery()) {
+                    result.next();
+                    next = result.getLong(1);
+                    limit = next + ALLOCATION_SIZE;
+                }
+            }
+            return next++;
+        }
+    }
+
+    // Trước: findById user, findById job, existsBy..., rồi deleteBy... (đọc dòng, xoá theo id) hoặc save
+    private static final class Before extends PooledIds implements Toggler {
+
+        private final Connection connection;
+        private final PreparedStatement findUser;
+        private final PreparedStatement findJob;
+        private final PreparedStatement exists;
+        private final PreparedStatement findSaved;
+        private final PreparedStatement deleteById;
+        private final PreparedStatement insert;
+
+        Before(Connection connection) throws SQLException {
+            super(connection);
+            this.connection = connection;
+            connection.setAutoCommit(false);
+            this.findUser = connection.prepareStatement("SELECT * FROM users WHERE id = ?");
+            this.findJob = connection.prepareStatement("SELECT * FROM jobs WHERE job_id = ?");
+            this.exists = connection.prepareStatement(
+                    "SELECT id FROM saved_jobs WHERE user_id = ? AND job_id = ? LIMIT 1");
+            this.findSaved = connection.prepareStatement(
+                    "SELECT id, user_id, job_id, saved_at FROM saved_jobs WHERE user_id = ? AND job_id = ?");
+            this.deleteById = connection.prepareStatement("DELETE FROM saved_jobs WHERE id = ?");
+            this.insert = connection.prepareStatement(
+                    "INSERT INTO saved_jobs (id, user_id, job_id, saved_at) VALUES (?, ?, ?, ?)");
+        }
+
+        @Override
+        public boolean toggle(long userId, long jobId) throws SQLException {
+            try {
+                select(findUser, userId);
+                select(findJob, jobId);
+                exists.setLong(1, userId);
+                exists.setLong(2, jobId);
+                boolean saved;
+                try (ResultSet result = exists.executeQuery()) {
+                    saved = result.next();
+                }
+                if (saved) {
+                    findSaved.setLong(1, userId);
+                    findSaved.setLong(2, jobId);
+                    List<Long> ids = new ArrayList<>();
+                    try (ResultSet result = findSaved.executeQuery()) {
+                        while (result.next()) {
+                            ids.add(result.getLong(1));
+                        }
+                    }
+                    for (long id : ids) {
+                        deleteById.setLong(1, id);
+                        deleteById.executeUpdate();
+                    }
+                } else {
+                    insert.setLong(1, nextId());
+                    insert.setLong(2, userId);
+                    insert.setLong(3, jobId);
+                    insert.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+                    insert.executeUpdate();
+                }
+                connection.commit();
+                return !saved;
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        }
+
+        private static void select(PreparedStatement statement, long id) throws SQLException {
+            statement.setLong(1, id);
+            try (ResultSet result = statement.executeQuery()) {
+                result.next();
+            }
+        }
+    }
+
+    // Sau: DELETE theo (user_id, job_id), chỉ INSERT khi không xoá được dòng nào; thua unique = đã lưu
+    private static final class After extends PooledIds implements Toggler {
+
+        private final PreparedStatement delete;
+        private final PreparedStatement insert;
+        private final PreparedStatement exists;
+
+        After(Connection connection) throws SQLException {
+            super(connection);
+            connection.setAutoCommit(true);
+            this.delete = connection.prepareStatement("DELETE FROM saved_jobs WHERE user_id = ? AND job_id = ?");
+            this.insert = connection.prepareStatement(
+                    "INSERT INTO saved_jobs (id, user_id, job_id, saved_at) VALUES (?, ?, ?, ?)");
+            this.exists = connection.prepareStatement(
+                    "SELECT id FROM saved_jobs WHERE user_id = ? AND job_id = ? LIMIT 1");
+        }
+
+        @Override
+        public boolean toggle(long userId, long jobId) throws SQLException {
+            delete.setLong(1, userId);
+            delete.setLong(2, jobId);
+            if (delete.executeUpdate() > 0) {
+                return false;
+            }
+            insert.setLong(1, nextId());
+            insert.setLong(2, userId);
+            insert.setLong(3, jobId);
+            insert.setTimestamp(4, Timestamp.valueOf(LocalDateTime.now()));
+            try {
+                insert.executeUpdate();
+            } catch (SQLException e) {
+                if (!UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                    throw e;
+                }
+                exists.setLong(1, userId);
+                exists.setLong(2, jobId);
+                try (ResultSet result = exists.executeQuery()) {
+                    if (!result.next()) {
+                        throw e;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    private static long[] ids(Connection connection, String sql, int limit) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setInt(1, limit);
+            List<Long> ids = new ArrayList<>();
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    ids.add(result.getLong(1));
+                }
+            }
+            if (ids.isEmpty()) {
+                throw new IllegalStateException("Database chưa có dữ liệu, hãy chạy ./gradlew loadtestData trước");
+            }
+            return ids.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+
+    private static String join(long[] ids) {
+        StringBuilder sql = new StringBuilder();
+        for (long id : ids) {
+            if (!sql.isEmpty()) {
+                sql.append(',');
+            }
+            sql.append(id);
+        }
+        return sql.toString();
+    }
+}
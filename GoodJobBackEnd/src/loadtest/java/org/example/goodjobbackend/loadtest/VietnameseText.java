@@ -0,0 +1,95 @@
+package org.example.goodjobbackend.loadtest;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Từ vựng tiếng Việt để sinh dữ liệu giống thật (tên người, công ty, tiêu đề và mô tả công việc).
+ * Chuỗi có dấu nên độ dài byte UTF-8 và hành vi của LIKE/collation gần với dữ liệu production.
+ */
+final class VietnameseText {
+
+    static final String[] LAST_NAMES = {
+            "Nguyễn", "Trần", "Lê", "Phạm", "Hoàng", "Huỳnh", "Phan", "Vũ", "Võ", "Đặng",
+            "Bùi", "Đỗ", "Hồ", "Ngô", "Dương", "Lý"
+    };
+    static final String[] MIDDLE_NAMES = {
+            "Văn", "Thị", "Hữu", "Đức", "Minh", "Thanh", "Ngọc", "Quốc", "Thu", "Gia", "Hoài", "Xuân"
+    };
+    static final String[] FIRST_NAMES = {
+            "An", "Bình", "Châu", "Dũng", "Giang", "Hà", "Hải", "Hạnh", "Hiếu", "Hoa", "Huy", "Khánh",
+            "Lan", "Linh", "Long", "Mai", "Nam", "Ngân", "Phúc", "Phương", "Quân", "Quỳnh", "Sơn", "Tâm",
+            "Thảo", "Trang", "Trung", "Tú", "Tuấn", "Vy", "Yến"
+    };
+    static final String[] LOCATIONS = {
+            "Hà Nội", "Hà Nội", "Hà Nội", "TP. Hồ Chí Minh", "TP. Hồ Chí Minh", "TP. Hồ Chí Minh", "TP. Hồ Chí Minh",
+            "Đà Nẵng", "Hải Phòng", "Cần Thơ", "Bình Dương", "Đồng Nai", "Bắc Ninh", "Khánh Hòa", "Huế", "Remote"
+    };
+    static final String[] JOB_TITLES = {
+            "Lập trình viên Java", "Lập trình viên Frontend ReactJS", "Kỹ sư DevOps", "Chuyên viên Kiểm thử phần mềm",
+            "Kế toán tổng hợp", "Nhân viên Kinh doanh", "Chuyên viên Tuyển dụng", "Nhân viên Chăm sóc khách hàng",
+            "Chuyên viên Marketing Online", "Thiết kế đồ họa", "Trưởng nhóm Phát triển sản phẩm", "Kỹ sư Dữ liệu",
+            "Phân tích nghiệp vụ (BA)", "Nhân viên Hành chính nhân sự", "Kỹ sư Cầu nối (BrSE) tiếng Nhật",
+            "Giáo viên Tiếng Anh", "Điều dưỡng", "Kỹ sư Xây dựng", "Nhân viên Kho vận", "Lập trình viên Mobile Flutter"
+    };
+    static final String[] LEVELS = {"Thực tập sinh", "Junior", "Middle", "Senior", "Trưởng nhóm", ""};
+    static final String[] COMPANY_PREFIXES = {
+            "Công ty TNHH", "Công ty Cổ phần", "Tập đoàn", "Ngân hàng TMCP", "Công ty Cổ phần Công nghệ"
+    };
+    static final String[] COMPANY_NAMES = {
+            "Sao Việt", "Phương Nam", "Hòa Bình", "Thành Công", "Đông Á", "Ánh Dương", "Trường Sơn", "Bạch Đằng",
+            "Hưng Thịnh", "An Phát", "Minh Long", "Tân Tiến", "Việt Tín", "Hoàn Mỹ", "Kim Liên"
+    };
+    static final String[] INDUSTRIES = {
+            "Công nghệ thông tin", "Tài chính - Ngân hàng", "Bán lẻ", "Sản xuất", "Giáo dục", "Y tế", "Logistics", "Bất động sản"
+    };
+    static final String[] SENTENCES = {
+            "Tham gia phát triển các sản phẩm phục vụ hàng triệu người dùng trên cả nước.",
+            "Phối hợp với các phòng ban để hoàn thành mục tiêu kinh doanh hằng quý.",
+            "Môi trường làm việc trẻ trung, năng động, được đào tạo bài bản.",
+            "Lương tháng 13, thưởng hiệu quả công việc và xét tăng lương hai lần mỗi năm.",
+            "Đóng bảo hiểm đầy đủ theo Luật Lao động, khám sức khỏe định kỳ hằng năm.",
+            "Có kinh nghiệm từ 1-3 năm ở vị trí tương đương là một lợi thế.",
+            "Ưu tiên ứng viên có khả năng giao tiếp tiếng Anh tốt.",
+            "Cẩn thận, trung thực, có tinh thần trách nhiệm cao trong công việc.",
+            "Làm việc từ thứ Hai đến thứ Sáu, nghỉ thứ Bảy và Chủ nhật.",
+            "Được tham gia các hoạt động du lịch, team building hằng năm của công ty.",
+            "Báo cáo trực tiếp cho Trưởng phòng và hỗ trợ đào tạo nhân viên mới.",
+            "Nắm vững quy trình làm việc và chủ động đề xuất cải tiến."
+    };
+    static final String[] KEYWORDS = {
+            "Java", "React", "Kế toán", "Kinh doanh", "Marketing", "Tuyển dụng", "DevOps", "Kiểm thử", "Dữ liệu",
+            "Thiết kế", "Senior", "Thực tập", "Tiếng Nhật", "Flutter", "Kho vận"
+    };
+
+    private VietnameseText() {
+    }
+
+    static String pick(RandomGenerator random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    static String fullName(RandomGenerator random) {
+        return pick(random, LAST_NAMES) + " " + pick(random, MIDDLE_NAMES) + " " + pick(random, FIRST_NAMES);
+    }
+
+    static String companyName(RandomGenerator random, long employerId) {
+        return pick(random, COMPANY_PREFIXES) + " " + pick(random, COMPANY_NAMES) + " " + employerId;
+    }
+
+    static String jobTitle(RandomGenerator random) {
+        String level = pick(random, LEVELS);
+        return level.isEmpty() ? pick(random, JOB_TITLES) : pick(random, JOB_TITLES) + " " + level;
+    }
+
+    static String paragraph(RandomGenerator random, int minSentences, int maxSentences) {
+        int count = random.nextInt(minSentences, maxSentences + 1);
+        StringBuilder text = new StringBuilder(count * 80);
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                text.append(' ');
+            }
+            text.append(pick(random, SENTENCES));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.goodjobbackend.loadtest;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Lấy mẫu theo phân phối Zipf trên n phần tử: phần tử hạng k được chọn với xác suất tỉ lệ 1/k^s.
+ *
+ * Hạng được hoán vị thành chỉ số 0..n-1 bằng phép nhân với một số nguyên tố cùng nhau với n, nên các
+ * phần tử "nóng" rải đều trong khoảng id chứ không dồn về các id nhỏ nhất. Hoán vị chỉ phụ thuộc n,
+ * vì vậy bộ sinh dữ liệu và load driver cùng thấy một tập job phổ biến.
+ */
+final class ZipfSampler {
+
+    private final double[] cdf;
+    private final long multiplier;
+
+    ZipfSampler(int n, double exponent) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n phải lớn hơn 0");
+        }
+        cdf = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1.0 / Math.pow(rank, exponent);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        long candidate = 1_000_003L;
+        while (BigInteger.valueOf(candidate).gcd(BigInteger.valueOf(n)).intValue() != 1) {
+            candidate = BigInteger.valueOf(candidate).nextProbablePrime().longValue();
+        }
+        multiplier = candidate;
+    }
+
+    int size() {
+        return cdf.length;
+    }
+
+    /**
+     * @return chỉ số trong khoảng [0, n)
+     */
+    int sample(RandomGenerator random) {
+        int rank = Arrays.binarySearch(cdf, random.nextDouble());
+        if (rank < 0) {
+            rank = -rank - 1;
+        }
+        return index(Math.min(rank, cdf.length - 1));
+    }
+
+    // Hạng (0 = phổ biến nhất) -> chỉ số
+    int index(int rank) {
+        return (int) ((rank * multiplier) % cdf.length);
+    }
+}
@@ -0,0 +1,64 @@
+package org.example.goodjobbackend.config;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Kiểm tra lúc khởi động khi chạy bằng Spring AOT (-Dspring.aot.enabled=true hoặc native image).
+ *
+ * Với AOT, các điều kiện @ConditionalOnProperty/@ConditionalOnThreading đã được đánh giá lúc build (processAot),
+ * đổi biến môi trường lúc chạy không bật/tắt được replica routing, virtual thread hay slow query log nữa.
+ * Nếu cấu hình lúc chạy khác với lúc build, ứng dụng dừng ngay thay vì âm thầm chạy sai chế độ.
+ */
+@Component
+public class AotConditionGuard implements SmartInitializingSingleton {
+
+    private final ListableBeanFactory beanFactory;
+    private final Environment environment;
+
+    public AotConditionGuard(ListableBeanFactory beanFactory, Environment environment) {
+        this.beanFactory = beanFactory;
+        this.environment = environment;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!AotDetector.useGeneratedArtifacts()) {
+            return;
+        }
+        boolean virtualThreads = Threading.VIRTUAL.isActive(environment);
+        List<String> mismatches = new ArrayList<>();
+        check(mismatches, "app.datasource.replica.enabled",
+                isEnabled("app.datasource.replica.enabled", false), ReplicaDataSourceConfig.class);
+        check(mismatches, "spring.threads.virtual.enabled", virtualThreads, VirtualThreadConfig.class);
+        check(mismatches, "app.virtual-threads.pinning-monitor.enabled",
+                virtualThreads && isEnabled("app.virtual-threads.pinning-monitor.enabled", false),
+                VirtualThreadPinningMonitor.class);
+        check(mismatches, "app.slow-query.enabled", isEnabled("app.slow-query.enabled", true), SlowQueryConfig.class);
+
+        if (!mismatches.isEmpty()) {
+            throw new IllegalStateException("Cấu hình lúc chạy khác với lúc build Spring AOT: "
+                    + String.join(", ", mismatches)
+                    + ". Build lại với -Paot.profiles=<profile> -Paot.args=\"--<thuộc tính>=<giá trị>\" "
+                    + "hoặc chạy không có -Dspring.aot.enabled=true");
+        }
+    }
+
+    private void check(List<String> mismatches, String property, boolean expected, Class<?> beanType) {
+        boolean present = beanFactory.getBeanNamesForType(beanType, true, false).length > 0;
+        if (present != expected) {
+            mismatches.add(property + " lúc chạy là " + expected + " nhưng lúc build là " + present);
+        }
+    }
+
+    private boolean isEnabled(String property, boolean defaultValue) {
+        return environment.getProperty(property, Boolean.class, defaultValue);
+    }
+}
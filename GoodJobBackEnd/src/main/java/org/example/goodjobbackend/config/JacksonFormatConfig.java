@@ -0,0 +1,35 @@
+package org.example.goodjobbackend.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.example.goodjobbackend.dto.JobFields;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Định dạng response của API.
+ *
+ * Ngoài JSON, client gửi Accept: application/cbor sẽ nhận CBOR (dạng nhị phân của cùng mô hình dữ liệu JSON),
+ * dùng cùng cấu hình Jackson với JSON. Converter CBOR đứng sau JSON nên client không chỉ định định dạng
+ * (không có Accept hoặc Accept mọi kiểu) vẫn nhận JSON.
+ * Nén gzip do Tomcat làm (server.compression.* trong file properties của từng profile).
+ */
+@Configuration(proxyBeanMethods = false)
+public class JacksonFormatConfig {
+
+    // JobDTO có @JsonFilter nên mọi ObjectMapper phải biết filter mặc định (ghi đủ field)
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer jobFieldsFilterCustomizer() {
+        return builder -> builder.filters(JobFields.serializeAll());
+    }
+
+    // Thay converter CBOR mặc định của Spring MVC (ObjectMapper riêng) bằng bản dùng builder của Spring Boot
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.createXmlMapper(false)
+                .factory(new CBORFactory())
+                .build());
+    }
+}
@@ -0,0 +1,83 @@
+package org.example.goodjobbackend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Metrics cho Prometheus (/actuator/prometheus trên cổng management).
+ *
+ * Spring Boot tự đo độ trễ từng endpoint (http.server.requests), từng method repository
+ * (spring.data.repository.invocations), pool Hikari của primary và thống kê Hibernate. Cấu hình này
+ * bổ sung số câu SQL mỗi request (kèm ngân sách truy vấn và phát hiện N+1), pool Hikari của các replica
+ * và hàng đợi admission control.
+ */
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final QueryBudgetProperties queryBudgetProperties;
+
+    public MetricsConfig(ObjectProvider<MeterRegistry> meterRegistry, QueryBudgetProperties queryBudgetProperties) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudgetProperties = queryBudgetProperties;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new QueryMetricsInterceptor(meterRegistry.getObject(), queryBudgetProperties)).addPathPatterns("/api/**");
+    }
+
+    // Replica không phải bean nên Spring Boot không tự gắn metrics cho pool của chúng
+    @Bean
+    public MeterBinder replicaPoolMetrics(ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource) {
+        return registry -> replicaRoutingDataSource.ifAvailable(routing -> {
+            for (ReplicaPool replica : routing.getReplicas()) {
+                if (replica.getDataSource() instanceof HikariDataSource hikari) {
+                    hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                }
+                Gauge.builder("goodjob.datasource.replica.lag", replica, ReplicaPool::getLagSeconds)
+                        .tag("replica", replica.getName())
+                        .baseUnit("seconds")
+                        .register(registry);
+                Gauge.builder("goodjob.datasource.replica.healthy", replica, pool -> pool.isHealthy() ? 1 : 0)
+                        .tag("replica", replica.getName())
+                        .register(registry);
+                FunctionCounter.builder("goodjob.datasource.replica.routed", replica, pool -> pool.getRoutedConnections().get())
+                        .tag("replica", replica.getName())
+                        .register(registry);
+            }
+        });
+    }
+
+    @Bean
+    public MeterBinder admissionControlMetrics(ObjectProvider<DataSource> dataSource) {
+        return registry -> dataSource.ifAvailable(candidate -> {
+            if (candidate instanceof AdmissionControlDataSource admission) {
+                Gauge.builder("goodjob.datasource.admission.available", admission, AdmissionControlDataSource::getAvailablePermits)
+                        .register(registry);
+                Gauge.builder("goodjob.datasource.admission.queued", admission, AdmissionControlDataSource::getQueueLength)
+                        .register(registry);
+            }
+        });
+    }
+}
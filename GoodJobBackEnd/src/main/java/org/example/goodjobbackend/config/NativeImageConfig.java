@@ -0,0 +1,122 @@
+package org.example.goodjobbackend.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.properties.bind.BindableRuntimeHintsRegistrar;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * Reachability metadata cho bản native image (./gradlew nativeCompile -Pnative).
+ *
+ * Spring AOT tự sinh hint cho bean, repository, entity JPA và kiểu trả về cụ thể của controller. Ở đây khai báo
+ * phần nó không suy ra được: DTO/entity mà Jackson đọc ghi qua {@code ResponseEntity<?>} (gồm getter/setter/constructor
+ * do Lombok sinh), class jjwt nạp theo tên, provider và handler của Jakarta Mail, template Thymeleaf,
+ * script Flyway theo từng database, properties được bind thủ công và proxy JDBC của admission control/slow query.
+ * Các hint chỉ được dùng lúc build native, không ảnh hưởng khi chạy trên JVM.
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(NativeImageConfig.Hints.class)
+public class NativeImageConfig {
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        private static final String[] JSON_PACKAGES = {
+                "org.example.goodjobbackend.dto",
+                "org.example.goodjobbackend.model"
+        };
+
+        // jjwt-api nạp implementation bằng Classes.newInstance("...") và serializer qua ServiceLoader
+        private static final String[] JJWT_TYPES = {
+                "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                "io.jsonwebtoken.impl.DefaultJwtParser",
+                "io.jsonwebtoken.impl.DefaultClaims",
+                "io.jsonwebtoken.impl.DefaultHeader",
+                "io.jsonwebtoken.impl.DefaultJwsHeader",
+                "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+                "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+        };
+
+        // Transport được tạo bằng reflection theo javamail.default.providers, handler theo mailcap
+        private static final String[] MAIL_TYPES = {
+                "org.eclipse.angus.mail.smtp.SMTPTransport",
+                "org.eclipse.angus.mail.smtp.SMTPSSLTransport",
+                "org.eclipse.angus.mail.handlers.text_plain",
+                "org.eclipse.angus.mail.handlers.text_html",
+                "org.eclipse.angus.mail.handlers.text_xml",
+                "org.eclipse.angus.mail.handlers.multipart_mixed",
+                "org.eclipse.angus.mail.handlers.message_rfc822",
+                "org.eclipse.angus.mail.handlers.image_gif",
+                "org.eclipse.angus.mail.handlers.image_jpeg"
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+            for (String packageName : JSON_PACKAGES) {
+                for (Class<?> type : classesIn(packageName, classLoader)) {
+                    bindings.registerReflectionHints(hints.reflection(), type);
+                }
+            }
+
+            for (String type : JJWT_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type),
+                        MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+            }
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+
+            for (String type : MAIL_TYPES) {
+                hints.reflection().registerType(TypeReference.of(type), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+            }
+            hints.resources()
+                    .registerPattern("META-INF/javamail.*")
+                    .registerPattern("META-INF/mailcap*")
+                    .registerPattern("META-INF/mime.types")
+                    .registerPattern("META-INF/mimetypes.default");
+
+            hints.resources()
+                    .registerPattern("templates/*.html")
+                    .registerPattern("db/postgresql/*.sql")
+                    .registerPattern("db/mysql/*.sql");
+
+            // SlowQueryConfig bind bằng Binder.get(...) chứ không qua @EnableConfigurationProperties
+            BindableRuntimeHintsRegistrar.forTypes(SlowQueryProperties.class).registerHints(hints, classLoader);
+
+            hints.proxies().registerJdkProxy(Connection.class);
+            hints.proxies().registerJdkProxy(Statement.class);
+            hints.proxies().registerJdkProxy(PreparedStatement.class);
+            hints.proxies().registerJdkProxy(CallableStatement.class);
+        }
+
+        // Mọi class (kể cả enum, class lồng như builder của Lombok) trong package, quét lúc build AOT
+        private static Iterable<Class<?>> classesIn(String packageName, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return !beanDefinition.getMetadata().isInterface() && !beanDefinition.getMetadata().isAnnotation();
+                }
+            };
+            scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+            scanner.addIncludeFilter((metadataReader, metadataReaderFactory) -> true);
+            return scanner.findCandidateComponents(packageName).stream()
+                    .map(BeanDefinition::getBeanClassName)
+                    .<Class<?>>map(name -> ClassUtils.resolveClassName(name, classLoader))
+                    .toList();
+        }
+    }
+}
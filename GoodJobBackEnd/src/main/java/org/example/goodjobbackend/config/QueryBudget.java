@@ -0,0 +1,20 @@
+package org.example.goodjobbackend.config;
+
+import java.lang.annotation.*;
+
+/**
+ * Số câu SQL tối đa cho một endpoint, thay cho app.query-budget.default-max.
+ *
+ * Với app.query-budget.mode=log, request vượt ngân sách được ghi log cảnh báo; với mode=fail, câu lệnh
+ * vượt ngân sách bị chặn và request lỗi. Integration test chạy với mode=fail để mọi controller đều bị
+ * giới hạn số truy vấn, kể cả các truy vấn lazy-load sinh ra khi chuyển entity sang DTO.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    int UNLIMITED = -1;
+
+    int value();
+}
@@ -0,0 +1,30 @@
+package org.example.goodjobbackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Ngân sách truy vấn cho mỗi request (app.query-budget.*).
+ *
+ * app.query-budget.default-max=30
+ * app.query-budget.mode=log          # log | fail
+ * app.query-budget.repeated-statement-threshold=5
+ */
+@Data
+@ConfigurationProperties(prefix = "app.query-budget")
+public class QueryBudgetProperties {
+
+    public enum Mode {
+        LOG, FAIL
+    }
+
+    private boolean enabled = true;
+
+    // Áp dụng cho endpoint không có @QueryBudget
+    private int defaultMax = 30;
+
+    private Mode mode = Mode.LOG;
+
+    // Cùng một dạng câu lệnh lặp lại từ ngần này lần trong một request thì cảnh báo khả năng N+1
+    private int repeatedStatementThreshold = 5;
+}
@@ -0,0 +1,104 @@
+package org.example.goodjobbackend.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Đếm các câu SQL Hibernate gửi đi trong request hiện tại (mỗi request chạy trên một luồng riêng).
+ * Được đăng ký làm StatementInspector nên chạy cho mọi câu lệnh, kể cả truy vấn lazy-load.
+ *
+ * Ngoài số câu lệnh, mỗi request còn đếm số lần lặp của từng "dạng" câu lệnh (SQL đã gộp danh sách IN)
+ * để phát hiện N+1, và có thể chặn ngay câu lệnh vượt ngân sách (xem {@link QueryBudget}).
+ * Câu lệnh chạy ngoài request (@Async, @Scheduled, nhập công việc nền) không bị đếm.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<RequestQueries> CURRENT = new ThreadLocal<>();
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+    @Override
+    public String inspect(String sql) {
+        RequestQueries queries = CURRENT.get();
+        if (queries != null) {
+            queries.record(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * Bắt đầu đếm cho request hiện tại
+     * @param budget số câu lệnh tối đa, âm nếu không giới hạn
+     * @param failOnExceed ném lỗi ngay khi câu lệnh vượt ngân sách được gửi đi
+     */
+    static void start(String endpoint, int budget, boolean failOnExceed, boolean trackShapes) {
+        CURRENT.set(new RequestQueries(endpoint, budget, failOnExceed, trackShapes));
+    }
+
+    static RequestQueries finish() {
+        RequestQueries queries = CURRENT.get();
+        CURRENT.remove();
+        return queries;
+    }
+
+    /**
+     * Số câu SQL đã chạy trong request hiện tại (0 nếu không ở trong request)
+     */
+    public static int count() {
+        RequestQueries queries = CURRENT.get();
+        return queries == null ? 0 : queries.count;
+    }
+
+    // "... where id in (?, ?, ?)" và "... where id in (?)" được xem là cùng một dạng
+    static String shapeOf(String sql) {
+        return sql.indexOf('?') < 0 ? sql : IN_LIST.matcher(sql).replaceAll("(?...)");
+    }
+
+    static final class RequestQueries {
+        private final String endpoint;
+        private final int budget;
+        private final boolean failOnExceed;
+        private final Map<String, Integer> shapes;
+        private int count;
+
+        private RequestQueries(String endpoint, int budget, boolean failOnExceed, boolean trackShapes) {
+            this.endpoint = endpoint;
+            this.budget = budget;
+            this.failOnExceed = failOnExceed;
+            this.shapes = trackShapes ? new HashMap<>() : null;
+        }
+
+        private void record(String sql) {
+            count++;
+            if (shapes != null) {
+                shapes.merge(shapeOf(sql), 1, Integer::sum);
+            }
+            if (failOnExceed && budget >= 0 && count > budget) {
+                throw new IllegalStateException("Vượt ngân sách truy vấn của " + endpoint + ": câu lệnh thứ " + count
+                        + " (tối đa " + budget + "): " + sql);
+            }
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        int getBudget() {
+            return budget;
+        }
+
+        String getEndpoint() {
+            return endpoint;
+        }
+
+        boolean isOverBudget() {
+            return budget >= 0 && count > budget;
+        }
+
+        Map<String, Integer> getShapes() {
+            return shapes == null ? Map.of() : shapes;
+        }
+    }
+}
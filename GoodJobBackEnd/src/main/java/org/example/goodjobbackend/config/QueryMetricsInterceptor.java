@@ -0,0 +1,107 @@
+package org.example.goodjobbackend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Ghi số câu SQL của mỗi request vào histogram goodjob.http.server.queries theo từng handler, áp dụng
+ * ngân sách truy vấn và cảnh báo các câu lệnh lặp lại (dấu hiệu N+1).
+ * Meter và ngân sách được tính một lần cho mỗi method rồi lưu lại, nên request không tạo tag hay meter mới.
+ *
+ * Với request bất đồng bộ (StreamingResponseBody, Callable...), chỉ phần chạy trên luồng request được đếm:
+ * kết quả được ghi khi handler trả về và bắt đầu xử lý bất đồng bộ, lần dispatch ASYNC sau đó không đếm lại.
+ */
+@Slf4j
+public class QueryMetricsInterceptor implements AsyncHandlerInterceptor {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final QueryBudgetProperties properties;
+    private final Map<Method, Handler> handlers = new ConcurrentHashMap<>();
+
+    public QueryMetricsInterceptor(MeterRegistry meterRegistry, QueryBudgetProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() != DispatcherType.ASYNC && handler instanceof HandlerMethod handlerMethod) {
+            Handler info = handlers.computeIfAbsent(handlerMethod.getMethod(), this::describe);
+            QueryCounter.start(info.endpoint, properties.isEnabled() ? info.budget : QueryBudget.UNLIMITED,
+                    properties.isEnabled() && properties.getMode() == QueryBudgetProperties.Mode.FAIL,
+                    properties.isEnabled());
+        }
+        return true;
+    }
+
+    // Luồng request được trả về cho container: phải xóa ThreadLocal ngay, afterCompletion sẽ chạy trên luồng khác
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        record(request, handler, QueryCounter.finish());
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        record(request, handler, QueryCounter.finish());
+    }
+
+    private void record(HttpServletRequest request, Object handler, QueryCounter.RequestQueries queries) {
+        if (queries == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        Handler info = handlers.get(handlerMethod.getMethod());
+        info.queries.record(queries.getCount());
+
+        if (queries.isOverBudget()) {
+            info.overBudget.increment();
+            log.warn("{} {} chạy {} câu SQL, vượt ngân sách {}", request.getMethod(), queries.getEndpoint(),
+                    queries.getCount(), queries.getBudget());
+        }
+        queries.getShapes().forEach((sql, times) -> {
+            if (times >= properties.getRepeatedStatementThreshold()) {
+                log.warn("Có thể bị N+1 tại {} {}: câu lệnh lặp lại {} lần: {}", request.getMethod(),
+                        queries.getEndpoint(), times, abbreviate(sql));
+            }
+        });
+    }
+
+    private Handler describe(Method method) {
+        String controller = method.getDeclaringClass().getSimpleName();
+        QueryBudget annotation = method.getAnnotation(QueryBudget.class);
+        int budget = annotation != null ? annotation.value() : properties.getDefaultMax();
+        DistributionSummary queries = DistributionSummary.builder("goodjob.http.server.queries")
+                .description("Số câu SQL mỗi request")
+                .baseUnit("queries")
+                .tag("controller", controller)
+                .tag("method", method.getName())
+                .publishPercentileHistogram()
+                .maximumExpectedValue(200.0)
+                .register(meterRegistry);
+        Counter overBudget = Counter.builder("goodjob.http.server.queries.over.budget")
+                .description("Số request vượt ngân sách truy vấn")
+                .tag("controller", controller)
+                .tag("method", method.getName())
+                .register(meterRegistry);
+        return new Handler(controller + "." + method.getName(), budget, queries, overBudget);
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+
+    private record Handler(String endpoint, int budget, DistributionSummary queries, Counter overBudget) {
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.goodjobbackend.config;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * Giữ thời điểm mà request hiện tại còn phải đọc từ primary (read-your-writes).
+ * Thời điểm này được truyền giữa các request qua cookie, nên áp dụng theo từng client.
+ */
+public final class ReadYourWritesContext {
+
+    public static final String COOKIE_NAME = "gj_primary_until";
+
+    private static final ThreadLocal<Long> PRIMARY_UNTIL = new ThreadLocal<>();
+
+    private ReadYourWritesContext() {
+    }
+
+    public static void set(Long primaryUntilMillis) {
+        PRIMARY_UNTIL.set(primaryUntilMillis);
+    }
+
+    public static void clear() {
+        PRIMARY_UNTIL.remove();
+    }
+
+    public static boolean mustReadFromPrimary() {
+        Long until = PRIMARY_UNTIL.get();
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    /**
+     * Ghi nhận một lần ghi thành công: các lần đọc tiếp theo của client đi vào primary
+     * cho đến khi replica kịp đồng bộ. Ngoài request (scheduler, @Async) thì bỏ qua, vì không có
+     * client để ghi cookie và không có filter nào dọn ThreadLocal trên luồng đó.
+     */
+    public static void markWrite(Duration window) {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        long until = System.currentTimeMillis() + window.toMillis();
+        PRIMARY_UNTIL.set(until);
+
+        HttpServletResponse response = attributes.getResponse();
+        if (response != null && !response.isCommitted()) {
+            Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(until));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+            response.addCookie(cookie);
+        }
+    }
+}
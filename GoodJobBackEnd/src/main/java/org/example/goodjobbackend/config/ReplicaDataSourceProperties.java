@@ -0,0 +1,44 @@
+package org.example.goodjobbackend.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cấu hình các replica chỉ đọc (app.datasource.replica.*).
+ *
+ * app.datasource.replica.enabled=true
+ * app.datasource.replica.pools[0].url=jdbc:postgresql://replica-1:5432/goodjob
+ * app.datasource.replica.pools[0].username=...
+ * app.datasource.replica.pools[0].password=...
+ */
+@Data
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+
+    private List<Pool> pools = new ArrayList<>();
+
+    // Replica trễ hơn ngưỡng này sẽ không nhận truy vấn đọc
+    private Duration maxLag = Duration.ofSeconds(10);
+
+    // Sau khi người dùng ghi dữ liệu, các request đọc của họ đi vào primary trong khoảng thời gian này
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    // Truy vấn trả về độ trễ replication (giây); mặc định cho PostgreSQL streaming replication
+    private String lagQuery = "SELECT COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())), 0)";
+
+    @Data
+    public static class Pool {
+        private String url;
+        private String username;
+        private String password;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.goodjobbackend.config;
+
+import lombok.Getter;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Một replica chỉ đọc cùng trạng thái sức khỏe và số liệu định tuyến của nó.
+ */
+@Getter
+public class ReplicaPool {
+    private final String name;
+    private final DataSource dataSource;
+
+    private volatile boolean healthy = true;
+    private volatile double lagSeconds = 0;
+    private volatile String lastError;
+
+    private final AtomicLong routedConnections = new AtomicLong();
+    private final AtomicLong failedHealthChecks = new AtomicLong();
+
+    public ReplicaPool(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    void markHealthy(double lagSeconds) {
+        this.lagSeconds = lagSeconds;
+        this.healthy = true;
+        this.lastError = null;
+    }
+
+    void markUnhealthy(String error) {
+        this.healthy = false;
+        this.lastError = error;
+        failedHealthChecks.incrementAndGet();
+    }
+
+    void recordRouted() {
+        routedConnections.incrementAndGet();
+    }
+}
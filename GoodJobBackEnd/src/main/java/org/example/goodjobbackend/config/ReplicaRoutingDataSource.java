@@ -0,0 +1,121 @@
+package org.example.goodjobbackend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Định tuyến transaction readOnly sang các replica, còn lại đi vào primary.
+ *
+ * Phải được bọc bởi LazyConnectionDataSourceProxy để connection chỉ được lấy khi câu lệnh
+ * đầu tiên chạy, lúc đó cờ readOnly của transaction đã được thiết lập.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final Object WRITE_SYNC_KEY = new Object();
+
+    private final List<ReplicaPool> replicas;
+    private final long maxLagMillis;
+    private final Duration readYourWritesWindow;
+    private final String lagQuery;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<ReplicaPool> replicas, ReplicaDataSourceProperties properties) {
+        this.replicas = replicas;
+        this.maxLagMillis = properties.getMaxLag().toMillis();
+        this.readYourWritesWindow = properties.getReadYourWritesWindow();
+        this.lagQuery = properties.getLagQuery();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.getName(), replica.getDataSource()));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !ReadYourWritesContext.mustReadFromPrimary()) {
+            ReplicaPool replica = pickReplica();
+            if (replica != null) {
+                replica.recordRouted();
+                return replica.getName();
+            }
+        } else {
+            registerWriteTracking();
+        }
+        return PRIMARY;
+    }
+
+    // Chọn replica khỏe và không trễ quá ngưỡng theo vòng tròn; null nếu không có
+    // (so sánh theo mili giây: max-lag=1500ms không được làm tròn xuống 1 giây)
+    private ReplicaPool pickReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaPool replica = replicas.get((start + i) % size);
+            if (replica.isHealthy() && replica.getLagSeconds() * 1000 <= maxLagMillis) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    // Sau khi transaction ghi commit, ghim client hiện tại vào primary trong một khoảng ngắn
+    private void registerWriteTracking() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(WRITE_SYNC_KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(WRITE_SYNC_KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadYourWritesContext.markWrite(readYourWritesWindow);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(WRITE_SYNC_KEY);
+            }
+        });
+    }
+
+    /**
+     * Kiểm tra kết nối và độ trễ replication của từng replica
+     */
+    public void checkReplicas() {
+        for (ReplicaPool replica : replicas) {
+            try (Connection connection = replica.getDataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                double lag = resultSet.next() ? resultSet.getDouble(1) : 0;
+                replica.markHealthy(lag);
+            } catch (Exception e) {
+                if (replica.isHealthy()) {
+                    log.warn("Replica {} không khả dụng: {}", replica.getName(), e.getMessage());
+                }
+                replica.markUnhealthy(e.getMessage());
+            }
+        }
+    }
+
+    public List<ReplicaPool> getReplicas() {
+        return replicas;
+    }
+}
@@ -0,0 +1,129 @@
+package org.example.goodjobbackend.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.Arrays;
+
+/**
+ * Đo thời gian mọi câu lệnh JDBC và chuyển các câu chậm hơn ngưỡng sang {@link SlowQueryLog}.
+ *
+ * Connection và Statement được bọc bằng dynamic proxy; PreparedStatement ghi lại giá trị các tham số
+ * (setXxx) để bản ghi truy vấn chậm và EXPLAIN dùng đúng giá trị đã chạy. Thời gian đo là thời gian
+ * của lời gọi execute*, không gồm thời gian đọc hết ResultSet.
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private static final int INITIAL_PARAMETERS = 16;
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryDataSource(DataSource target, SlowQueryLog slowQueryLog) {
+        super(target);
+        this.slowQueryLog = slowQueryLog;
+        slowQueryLog.setExplainDataSource(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    return switch (method.getName()) {
+                        case "prepareStatement" -> wrapStatement(PreparedStatement.class, (Statement) result, (String) args[0]);
+                        case "prepareCall" -> wrapStatement(CallableStatement.class, (Statement) result, (String) args[0]);
+                        case "createStatement" -> wrapStatement(Statement.class, (Statement) result, null);
+                        default -> result;
+                    };
+                });
+    }
+
+    private Statement wrapStatement(Class<? extends Statement> type, Statement statement, String sql) {
+        return (Statement) Proxy.newProxyInstance(
+                Statement.class.getClassLoader(),
+                new Class<?>[]{type},
+                new StatementHandler(statement, sql));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+        private final Statement statement;
+        private final String preparedSql;
+        private Object[] parameters;
+        private int parameterCount;
+        private int batchSize;
+        private String batchSql;
+
+        StatementHandler(Statement statement, String preparedSql) {
+            this.statement = statement;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text
+                        : preparedSql != null ? preparedSql : batchSql;
+                long start = System.nanoTime();
+                try {
+                    return SlowQueryDataSource.invoke(statement, method, args);
+                } finally {
+                    long elapsed = System.nanoTime() - start;
+                    if (sql != null && slowQueryLog.isSlow(elapsed)) {
+                        slowQueryLog.record(sql, parameters, parameterCount, name.contains("Batch") ? batchSize : 0, elapsed);
+                    }
+                    if (name.contains("Batch")) {
+                        batchSize = 0;
+                    }
+                }
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                captureParameter(index, "setNull".equals(name) ? null : args[1]);
+            } else if ("clearParameters".equals(name)) {
+                parameterCount = 0;
+            } else if ("addBatch".equals(name)) {
+                batchSize++;
+                if (args != null && args.length == 1 && args[0] instanceof String text) {
+                    batchSql = text;
+                }
+            } else if ("clearBatch".equals(name)) {
+                batchSize = 0;
+            }
+            return SlowQueryDataSource.invoke(statement, method, args);
+        }
+
+        private void captureParameter(int index, Object value) {
+            if (parameters == null) {
+                parameters = new Object[Math.max(INITIAL_PARAMETERS, index)];
+            } else if (index > parameters.length) {
+                parameters = Arrays.copyOf(parameters, Math.max(index, parameters.length * 2));
+            }
+            parameters[index - 1] = value;
+            parameterCount = Math.max(parameterCount, index);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package org.example.goodjobbackend.config;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAccessor;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Pattern;
+
+/**
+ * Vòng đệm (ring buffer) chứa các truy vấn chậm gần nhất, xem qua /api/admin/slow-queries.
+ *
+ * Mỗi bản ghi gồm SQL đã chuẩn hóa, giá trị tham số (đã ẩn theo app.slow-query.redact), method repository
+ * và vị trí gọi trong code. Với một phần truy vấn SELECT được lấy mẫu, kế hoạch thực thi
+ * (EXPLAIN ANALYZE) được chạy lại trên một luồng nền riêng với chính các tham số đó rồi gắn vào bản ghi.
+ */
+@Slf4j
+public class SlowQueryLog {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final String APP_PACKAGE = "org.example.goodjobbackend.";
+    private static final String CONFIG_PACKAGE = "org.example.goodjobbackend.config.";
+
+    private final SlowQueryProperties properties;
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<Entry> entries;
+    private final AtomicLong sequence = new AtomicLong();
+    private final ThreadPoolExecutor explainExecutor;
+    private volatile DataSource explainDataSource;
+
+    public SlowQueryLog(SlowQueryProperties properties) {
+        this.properties = properties;
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.entries = new AtomicReferenceArray<>(Math.max(1, properties.getCapacity()));
+        // Một luồng, hàng đợi ngắn: khi đang bận thì bỏ qua EXPLAIN thay vì dồn thêm tải lên database
+        this.explainExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(8),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    // DataSource gốc (không qua lớp đo thời gian) dùng để chạy EXPLAIN
+    void setExplainDataSource(DataSource explainDataSource) {
+        this.explainDataSource = explainDataSource;
+    }
+
+    boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    /**
+     * Ghi nhận một truy vấn chậm; được gọi trên chính luồng vừa chạy truy vấn để lấy được vị trí gọi
+     */
+    void record(String sql, Object[] parameters, int parameterCount, int batchSize, long elapsedNanos) {
+        Entry entry = new Entry();
+        entry.id = sequence.incrementAndGet();
+        entry.executedAt = LocalDateTime.now();
+        entry.durationMillis = elapsedNanos / 1_000_000.0;
+        entry.sql = abbreviate(normalize(sql));
+        entry.parameters = formatParameters(parameters, parameterCount);
+        entry.batchSize = batchSize;
+        entry.repositoryMethod = RepositoryCallTracker.current();
+        entry.callSite = findCallSite();
+        entry.thread = Thread.currentThread().getName();
+        entries.set((int) ((entry.id - 1) % entries.length()), entry);
+
+        log.warn("Truy vấn chậm {}ms [{}] tại {}: {}", Math.round(entry.durationMillis),
+                entry.repositoryMethod, entry.callSite, entry.sql);
+
+        if (isExplainable(sql) && ThreadLocalRandom.current().nextDouble() < properties.getExplainSampleRate()) {
+            Object[] values = parameters == null ? new Object[0] : Arrays.copyOf(parameters, parameterCount);
+            entry.planStatus = "QUEUED";
+            explainExecutor.execute(() -> explain(entry, sql, values));
+        }
+    }
+
+    /**
+     * Các truy vấn chậm gần nhất, mới nhất trước
+     */
+    public List<Entry> getEntries(double minMillis) {
+        List<Entry> result = new ArrayList<>(entries.length());
+        for (int i = 0; i < entries.length(); i++) {
+            Entry entry = entries.get(i);
+            if (entry != null && entry.durationMillis >= minMillis) {
+                result.add(entry);
+            }
+        }
+        result.sort(Comparator.comparingLong(Entry::getId).reversed());
+        return result;
+    }
+
+    public Optional<Entry> getEntry(long id) {
+        // Id bắt đầu từ 1; id <= 0 sẽ cho chỉ số âm trong vòng đệm
+        if (id <= 0) {
+            return Optional.empty();
+        }
+        Entry entry = entries.get((int) ((id - 1) % entries.length()));
+        return entry != null && entry.id == id ? Optional.of(entry) : Optional.empty();
+    }
+
+    public void clear() {
+        for (int i = 0; i < entries.length(); i++) {
+            entries.set(i, null);
+        }
+    }
+
+    public void shutdown() {
+        explainExecutor.shutdownNow();
+    }
+
+    private void explain(Entry entry, String sql, Object[] values) {
+        DataSource dataSource = explainDataSource;
+        if (dataSource == null) {
+            entry.planStatus = "SKIPPED";
+            return;
+        }
+        // Chạy trong transaction chỉ đọc rồi rollback; ANALYZE thực thi lại truy vấn nên chỉ áp dụng cho SELECT
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+            boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("postgres");
+            String explainSql = (postgres ? "EXPLAIN (ANALYZE, BUFFERS) " : "EXPLAIN ANALYZE ") + sql;
+            try (PreparedStatement statement = connection.prepareStatement(explainSql)) {
+                statement.setQueryTimeout((int) Math.max(1, properties.getExplainTimeout().toSeconds()));
+                for (int i = 0; i < values.length; i++) {
+                    statement.setObject(i + 1, values[i]);
+                }
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.append(resultSet.getString(1)).append('\n');
+                    }
+                }
+                entry.plan = plan.toString();
+                entry.planStatus = "DONE";
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException | RuntimeException e) {
+            entry.planStatus = "FAILED: " + e.getMessage();
+            log.debug("Không chạy được EXPLAIN cho truy vấn chậm {}: {}", entry.id, e.getMessage());
+        }
+    }
+
+    private static boolean isExplainable(String sql) {
+        String start = sql.stripLeading();
+        return start.regionMatches(true, 0, "select", 0, 6) || start.regionMatches(true, 0, "with", 0, 4);
+    }
+
+    // Gộp khoảng trắng, danh sách IN và thay hằng số trong SQL (với Statement thường) bằng ?
+    static String normalize(String sql) {
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        normalized = STRING_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        return QueryCounter.shapeOf(normalized);
+    }
+
+    private String abbreviate(String sql) {
+        return sql.length() <= properties.getMaxSqlLength() ? sql : sql.substring(0, properties.getMaxSqlLength()) + "...";
+    }
+
+    private List<String> formatParameters(Object[] parameters, int count) {
+        if (parameters == null || count == 0) {
+            return List.of();
+        }
+        List<String> formatted = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            formatted.add(format(parameters[i]));
+        }
+        return formatted;
+    }
+
+    private String format(Object value) {
+        if (value == null) {
+            return "NULL";
+        }
+        SlowQueryProperties.Redact redact = properties.getRedact();
+        if (redact == SlowQueryProperties.Redact.ALL) {
+            return "?";
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Enum<?>
+                || value instanceof TemporalAccessor || value instanceof java.util.Date) {
+            return value.toString();
+        }
+        if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        if (value.getClass().isArray()) {
+            return "<array[" + Array.getLength(value) + "]>";
+        }
+        String text = value.toString();
+        if (redact == SlowQueryProperties.Redact.STRINGS) {
+            return "<chuỗi " + text.length() + " ký tự>";
+        }
+        return "'" + (text.length() > 200 ? text.substring(0, 200) + "..." : text) + "'";
+    }
+
+    // Frame đầu tiên thuộc code của ứng dụng (service, controller...) bên ngoài package config
+    private static String findCallSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APP_PACKAGE) && !frame.getClassName().startsWith(CONFIG_PACKAGE))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(APP_PACKAGE.length()) + "." + frame.getMethodName()
+                        + ":" + frame.getLineNumber())
+                .orElse(null));
+    }
+
+    @Getter
+    public static class Entry {
+        private long id;
+        private LocalDateTime executedAt;
+        private double durationMillis;
+        private String sql;
+        private List<String> parameters;
+        private int batchSize;
+        private String repositoryMethod;
+        private String callSite;
+        private String thread;
+        private volatile String planStatus;
+        private volatile String plan;
+    }
+}
@@ -0,0 +1,40 @@
+package org.example.goodjobbackend.config;
+
+import lombok.Data;
+
+import java.time.Duration;
+
+/**
+ * Ghi nhận truy vấn chậm (app.slow-query.*).
+ *
+ * app.slow-query.threshold=200ms
+ * app.slow-query.redact=strings              # none | strings | all
+ * app.slow-query.explain-sample-rate=0.1     # tỉ lệ truy vấn SELECT chậm được chạy EXPLAIN ANALYZE
+ */
+@Data
+public class SlowQueryProperties {
+
+    public enum Redact {
+        // Giữ nguyên mọi giá trị tham số
+        NONE,
+        // Ẩn giá trị chuỗi (email, họ tên, mật khẩu đã băm...), giữ số, ngày và boolean
+        STRINGS,
+        // Ẩn toàn bộ giá trị tham số
+        ALL
+    }
+
+    private boolean enabled = true;
+
+    private Duration threshold = Duration.ofMillis(200);
+
+    // Số truy vấn chậm gần nhất được giữ trong bộ nhớ
+    private int capacity = 200;
+
+    private Redact redact = Redact.STRINGS;
+
+    private double explainSampleRate = 0.1;
+
+    private Duration explainTimeout = Duration.ofSeconds(10);
+
+    private int maxSqlLength = 4000;
+}
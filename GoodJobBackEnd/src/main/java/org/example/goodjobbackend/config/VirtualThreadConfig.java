@@ -0,0 +1,49 @@
+package org.example.goodjobbackend.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Bổ sung cho chế độ virtual thread (spring.threads.virtual.enabled=true).
+ *
+ * Spring Boot đã chạy Tomcat, @Async và @Scheduled trên virtual thread; cấu hình này thêm
+ * giới hạn số connection database được mượn đồng thời và (tùy chọn) theo dõi thread bị pin.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor admissionControlDataSourcePostProcessor(Environment environment) {
+        int maxConcurrent = environment.getProperty("app.datasource.admission.max-concurrent", Integer.class,
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        Duration acquireTimeout = environment.getProperty("app.datasource.admission.acquire-timeout", Duration.class,
+                Duration.ofSeconds(10));
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof AdmissionControlDataSource)) {
+                    return new AdmissionControlDataSource(dataSource, maxConcurrent, acquireTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.virtual-threads.pinning-monitor", name = "enabled", havingValue = "true")
+    public VirtualThreadPinningMonitor virtualThreadPinningMonitor(Environment environment) {
+        return new VirtualThreadPinningMonitor(environment.getProperty(
+                "app.virtual-threads.pinning-monitor.threshold", Duration.class, Duration.ofMillis(20)));
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.goodjobbackend.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Theo dõi sự kiện JFR jdk.VirtualThreadPinned để phát hiện các đoạn code (thường là
+ * synchronized trong driver JDBC hoặc thư viện) giữ chặt carrier thread quá lâu.
+ * Mỗi vị trí bị pin được log một lần kèm stack trace rút gọn, sau đó chỉ đếm số lần.
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements InitializingBean, DisposableBean {
+
+    private static final int STACK_DEPTH = 8;
+
+    private final Duration threshold;
+    private final Map<String, AtomicLong> pinnedSites = new ConcurrentHashMap<>();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        stream = new RecordingStream();
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.startAsync();
+        log.info("Đang theo dõi virtual thread bị pin lâu hơn {}ms", threshold.toMillis());
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = describe(event);
+        AtomicLong count = pinnedSites.computeIfAbsent(site, key -> new AtomicLong());
+        if (count.incrementAndGet() == 1) {
+            log.warn("Virtual thread bị pin {}ms tại:\n{}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    private String describe(RecordedEvent event) {
+        if (event.getStackTrace() == null) {
+            return "<không có stack trace>";
+        }
+        List<RecordedFrame> frames = event.getStackTrace().getFrames();
+        return frames.stream()
+                .limit(STACK_DEPTH)
+                .map(frame -> "    at " + frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.joining("\n"));
+    }
+
+    /**
+     * Số lần bị pin theo từng vị trí (stack trace rút gọn)
+     */
+    public Map<String, Long> getPinnedSites() {
+        return pinnedSites.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().get()));
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
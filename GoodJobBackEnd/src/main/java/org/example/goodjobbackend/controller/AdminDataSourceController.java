@@ -0,0 +1,60 @@
+package org.example.goodjobbackend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.goodjobbackend.config.ReplicaRoutingDataSource;
+import org.example.goodjobbackend.config.VirtualThreadPinningMonitor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Theo dõi các replica chỉ đọc
+ * Base URL: /api/admin/datasource
+ */
+@RestController
+@RequestMapping("/api/admin/datasource")
+@RequiredArgsConstructor
+public class AdminDataSourceController {
+
+    private final ObjectProvider<ReplicaRoutingDataSource> replicaRoutingDataSource;
+    private final ObjectProvider<VirtualThreadPinningMonitor> virtualThreadPinningMonitor;
+
+    /**
+     * Trạng thái, độ trễ và số connection đã định tuyến của từng replica
+     * GET /api/admin/datasource/replicas
+     */
+    @GetMapping("/replicas")
+    public ResponseEntity<List<Map<String, Object>>> getReplicaStats() {
+        ReplicaRoutingDataSource routing = replicaRoutingDataSource.getIfAvailable();
+        if (routing == null) {
+            return ResponseEntity.ok(List.of());
+        }
+        return ResponseEntity.ok(routing.getReplicas().stream()
+                .map(replica -> {
+                    Map<String, Object> stats = new LinkedHashMap<>();
+                    stats.put("name", replica.getName());
+                    stats.put("healthy", replica.isHealthy());
+                    stats.put("lagSeconds", replica.getLagSeconds());
+                    stats.put("routedConnections", replica.getRoutedConnections().get());
+                    stats.put("failedHealthChecks", replica.getFailedHealthChecks().get());
+                    stats.put("lastError", replica.getLastError());
+                    return stats;
+                })
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Các vị trí làm virtual thread bị pin và số lần xảy ra
+     * GET /api/admin/datasource/pinned-threads
+     */
+    @GetMapping("/pinned-threads")
+    public ResponseEntity<Map<String, Long>> getPinnedThreadSites() {
+        VirtualThreadPinningMonitor monitor = virtualThreadPinningMonitor.getIfAvailable();
+        return ResponseEntity.ok(monitor != null ? monitor.getPinnedSites() : Map.of());
+    }
+}
@@ -1,13 +1,24 @@
 package org.example.goodjobbackend.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.goodjobbackend.config.QueryBudget;
+import org.example.goodjobbackend.dto.BulkJobProcessRequest;
+import org.example.goodjobbackend.dto.BulkJobProcessResponse;
 import org.example.goodjobbackend.dto.JobProcessRequest;
 import org.example.goodjobbackend.model.Job;
 import org.example.goodjobbackend.model.JobStatus;
+import org.example.goodjobbackend.service.JobArchiveService;
+import org.example.goodjobbackend.service.JobModerationService;
 import org.example.goodjobbackend.service.JobService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controller xử lý các API dành cho Admin
@@ -24,12 +35,19 @@ import java.util.List;
 @CrossOrigin(origins = "*")  // Cho phép CORS
 public class AdminJobController {
     private final JobService jobService;
+    private final JobArchiveService jobArchiveService;
+    private final JobModerationService jobModerationService;
+    private final ObjectMapper objectMapper;
 
     // Có thể thêm giá trị mặc định cho adminId nếu cần
     // private static final Long DEFAULT_ADMIN_ID = 1L;
 
-    public AdminJobController(JobService jobService) {
+    public AdminJobController(JobService jobService, JobArchiveService jobArchiveService,
+                              JobModerationService jobModerationService, ObjectMapper objectMapper) {
         this.jobService = jobService;
+        this.jobArchiveService = jobArchiveService;
+        this.jobModerationService = jobModerationService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -123,4 +141,58 @@ public class AdminJobController {
         request.setAdminId(adminId);
         return ResponseEntity.ok(jobService.processJob(jobId, request));
     }
+
+    /**
+     * Xử lý hàng loạt công việc (duyệt/từ chối/xóa), trả về kết quả của từng công việc
+     * POST /api/admin/jobs/bulk-process
+     *
+     * Body: {
+     *   "jobIds": [1, 2, 3],
+     *   "status": "APPROVED/REJECTED/DELETED",
+     *   "adminId": 123,
+     *   "rejectionReason": "Lý do từ chối (nếu reject)"
+     * }
+     */
+    @PostMapping("/bulk-process")
+    @QueryBudget(QueryBudget.UNLIMITED)
+    public ResponseEntity<BulkJobProcessResponse> bulkProcessJobs(@RequestBody BulkJobProcessRequest request) {
+        return ResponseEntity.ok(jobModerationService.processJobs(request));
+    }
+
+    /**
+     * Giống bulk-process nhưng trả về tiến độ dạng NDJSON, mỗi dòng là tiến độ sau một lô
+     * POST /api/admin/jobs/bulk-process/stream
+     */
+    @PostMapping(value = "/bulk-process/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> bulkProcessJobsStream(@RequestBody BulkJobProcessRequest request) {
+        StreamingResponseBody body = outputStream -> jobModerationService.processJobs(request, progress -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(progress));
+                outputStream.write('\n');
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * Chạy ngay việc lưu trữ các công việc đã xóa/từ chối/hết hạn lâu ngày
+     * POST /api/admin/jobs/archive
+     */
+    @PostMapping("/archive")
+    public ResponseEntity<Map<String, Integer>> archiveColdJobs() {
+        return ResponseEntity.ok(Map.of("archived", jobArchiveService.archiveColdJobs()));
+    }
+
+    /**
+     * Khôi phục một công việc đã lưu trữ về bảng chính
+     * POST /api/admin/jobs/{jobId}/restore
+     */
+    @PostMapping("/{jobId}/restore")
+    public ResponseEntity<Job> restoreJob(@PathVariable Long jobId) {
+        jobArchiveService.restoreJob(jobId);
+        return ResponseEntity.ok(jobService.getJobById(jobId));
+    }
 } 
\ No newline at end of file
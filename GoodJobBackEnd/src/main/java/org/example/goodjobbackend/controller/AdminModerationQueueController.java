@@ -0,0 +1,52 @@
+package org.example.goodjobbackend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.goodjobbackend.dto.ModerationLeaseResponse;
+import org.example.goodjobbackend.service.ModerationQueueService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * Hàng đợi duyệt công việc: mỗi admin nhận một lô nhỏ job chờ duyệt riêng
+ * Base URL: /api/admin/jobs/queue
+ */
+@RestController
+@RequestMapping("/api/admin/jobs/queue")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class AdminModerationQueueController {
+
+    private final ModerationQueueService moderationQueueService;
+
+    /**
+     * Nhận (hoặc gia hạn) một lô job chờ duyệt
+     * POST /api/admin/jobs/queue/lease?adminId=1&size=10
+     */
+    @PostMapping("/lease")
+    public ResponseEntity<ModerationLeaseResponse> lease(
+            @RequestParam(required = false, defaultValue = "1") Long adminId,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(moderationQueueService.lease(adminId, size));
+    }
+
+    /**
+     * Trả lại toàn bộ job đang giữ
+     * POST /api/admin/jobs/queue/release?adminId=1
+     */
+    @PostMapping("/release")
+    public ResponseEntity<Map<String, Integer>> release(
+            @RequestParam(required = false, defaultValue = "1") Long adminId) {
+        return ResponseEntity.ok(Map.of("released", moderationQueueService.release(adminId)));
+    }
+
+    /**
+     * Độ sâu hàng đợi và năng suất của từng admin
+     * GET /api/admin/jobs/queue/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        return ResponseEntity.ok(moderationQueueService.getStats());
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.goodjobbackend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.goodjobbackend.config.SlowQueryLog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Xem các truy vấn chậm gần nhất (SQL chuẩn hóa, tham số, method repository, kế hoạch thực thi nếu được lấy mẫu)
+ * Base URL: /api/admin/slow-queries
+ */
+@RestController
+@RequestMapping("/api/admin/slow-queries")
+@RequiredArgsConstructor
+public class AdminSlowQueryController {
+
+    private final ObjectProvider<SlowQueryLog> slowQueryLog;
+
+    /**
+     * Danh sách truy vấn chậm, mới nhất trước
+     * GET /api/admin/slow-queries?minMillis=500
+     */
+    @GetMapping
+    public ResponseEntity<List<SlowQueryLog.Entry>> getSlowQueries(@RequestParam(defaultValue = "0") double minMillis) {
+        SlowQueryLog log = slowQueryLog.getIfAvailable();
+        return ResponseEntity.ok(log == null ? List.of() : log.getEntries(minMillis));
+    }
+
+    /**
+     * Chi tiết một truy vấn chậm
+     * GET /api/admin/slow-queries/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<SlowQueryLog.Entry> getSlowQuery(@PathVariable long id) {
+        SlowQueryLog log = slowQueryLog.getIfAvailable();
+        if (log == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return log.getEntry(id).map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Xóa toàn bộ truy vấn chậm đã ghi nhận
+     * DELETE /api/admin/slow-queries
+     */
+    @DeleteMapping
+    public ResponseEntity<Void> clear() {
+        slowQueryLog.ifAvailable(SlowQueryLog::clear);
+        return ResponseEntity.noContent().build();
+    }
+}
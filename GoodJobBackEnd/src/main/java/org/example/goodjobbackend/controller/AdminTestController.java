@@ -7,12 +7,14 @@ import org.example.goodjobbackend.model.User;
 import org.example.goodjobbackend.model.UserRole;
 import org.example.goodjobbackend.service.AdminAuthService;
 import org.example.goodjobbackend.service.TestDataService;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
 
+@Lazy
 @RestController
 @RequestMapping("/api/test/admin")
 @RequiredArgsConstructor
@@ -1,15 +1,25 @@
 package org.example.goodjobbackend.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.example.goodjobbackend.config.QueryBudget;
+import org.example.goodjobbackend.dto.BulkApplicationStatusRequest;
 import org.example.goodjobbackend.dto.JobApplicationDTO;
 import org.example.goodjobbackend.dto.JobApplicationRequest;
 import org.example.goodjobbackend.model.ApplicationStatus;
 import org.example.goodjobbackend.model.JobApplication;
+import org.example.goodjobbackend.service.ApplicationExportService;
 import org.example.goodjobbackend.service.JobApplicationService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/applications")
@@ -17,7 +27,11 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class JobApplicationController {
 
+    // Kích thước trang lớn hơn mức này được giảm xuống
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final JobApplicationService jobApplicationService;
+    private final ApplicationExportService applicationExportService;
 
     /**
      * API nộp đơn ứng tuyển vào công việc
@@ -58,6 +72,137 @@ public class JobApplicationController {
         return ResponseEntity.ok(jobApplicationService.getApplicationsByEmployerId(employerId));
     }
 
+    /**
+     * Danh sách đơn ứng tuyển của ứng viên (phân trang, mới nhất trước)
+     * GET /api/applications/applicant/{userId}/page?status=APPROVED&page=0&size=20
+     */
+    @GetMapping("/applicant/{userId}/page")
+    public ResponseEntity<?> getApplicationsByUserIdPaged(
+            @PathVariable Long userId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(jobApplicationService.getApplicationsByUserId(
+                    userId, status, pageRequest(page, size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Danh sách đơn ứng tuyển của một công việc (phân trang, mới nhất trước)
+     * GET /api/applications/job/{jobId}/page?status=PENDING&viewed=false&page=0&size=20
+     */
+    @GetMapping("/job/{jobId}/page")
+    public ResponseEntity<?> getApplicationsByJobIdPaged(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) Boolean viewed,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(jobApplicationService.getApplicationsByJobId(
+                    jobId, status, viewed, pageRequest(page, size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Danh sách đơn ứng tuyển của một công việc theo cursor
+     * GET /api/applications/job/{jobId}/cursor?cursor=...&size=20
+     * Lần đầu bỏ trống cursor, các lần sau gửi lại nextCursor của trang trước
+     */
+    @GetMapping("/job/{jobId}/cursor")
+    public ResponseEntity<?> getApplicationsByJobIdCursor(
+            @PathVariable Long jobId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) Boolean viewed,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(jobApplicationService.getApplicationsByJobIdAfter(
+                    jobId, status, viewed, cursor, pageSize(size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Tải danh sách ứng viên của một công việc dưới dạng CSV (stream từng dòng, nén gzip nếu client hỗ trợ)
+     * GET /api/applications/job/{jobId}/export?employerId=5
+     */
+    @GetMapping("/job/{jobId}/export")
+    public ResponseEntity<?> exportApplicationsByJobId(
+            @PathVariable Long jobId,
+            @RequestParam Long employerId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        try {
+            applicationExportService.checkAccess(jobId, employerId);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        StreamingResponseBody body = outputStream -> {
+            if (gzip) {
+                GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream, 64 * 1024);
+                applicationExportService.exportCsv(jobId, gzipStream);
+                gzipStream.finish();
+            } else {
+                applicationExportService.exportCsv(jobId, outputStream);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("applications-job-" + jobId + ".csv").build().toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * Danh sách đơn ứng tuyển gửi tới employer (phân trang, mới nhất trước)
+     * GET /api/applications/employer/{employerId}/page?status=PENDING&viewed=false&page=0&size=20
+     */
+    @GetMapping("/employer/{employerId}/page")
+    public ResponseEntity<?> getApplicationsByEmployerIdPaged(
+            @PathVariable Long employerId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) Boolean viewed,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(jobApplicationService.getApplicationsByEmployerId(
+                    employerId, status, viewed, pageRequest(page, size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Danh sách đơn ứng tuyển gửi tới employer theo cursor
+     * GET /api/applications/employer/{employerId}/cursor?cursor=...&size=20
+     */
+    @GetMapping("/employer/{employerId}/cursor")
+    public ResponseEntity<?> getApplicationsByEmployerIdCursor(
+            @PathVariable Long employerId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @RequestParam(required = false) Boolean viewed,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(jobApplicationService.getApplicationsByEmployerIdAfter(
+                    employerId, status, viewed, cursor, pageSize(size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * Cập nhật trạng thái đơn ứng tuyển
      * Các trạng thái hợp lệ: PENDING, REVIEWING, APPROVED, REJECTED, WITHDRAWN
@@ -76,6 +221,25 @@ public class JobApplicationController {
         }
     }
 
+    /**
+     * Cập nhật trạng thái cho nhiều đơn ứng tuyển cùng lúc
+     * PUT /api/applications/status/bulk
+     * Body: {
+     *   "applicationIds": [1, 2, 3],
+     *   "status": "APPROVED",
+     *   "employerId": 5 (optional)
+     * }
+     */
+    @PutMapping("/status/bulk")
+    @QueryBudget(QueryBudget.UNLIMITED)
+    public ResponseEntity<?> updateApplicationStatuses(@RequestBody BulkApplicationStatusRequest request) {
+        try {
+            return ResponseEntity.ok(jobApplicationService.updateApplicationStatuses(request));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     /**
      * Đánh dấu đơn ứng tuyển đã được xem bởi employer
      */
@@ -83,4 +247,18 @@ public class JobApplicationController {
     public ResponseEntity<JobApplicationDTO> markAsViewed(@PathVariable Long applicationId) {
         return ResponseEntity.ok(jobApplicationService.markAsViewed(applicationId));
     }
+
+    private static PageRequest pageRequest(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page không được âm");
+        }
+        return PageRequest.of(page, pageSize(size));
+    }
+
+    private static int pageSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size phải lớn hơn 0");
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
 }
@@ -4,18 +4,28 @@ import org.example.goodjobbackend.dto.*;
 import org.example.goodjobbackend.model.Job;
 import org.example.goodjobbackend.model.JobStatus;
 import org.example.goodjobbackend.service.JobService;
+import org.example.goodjobbackend.util.JobETagUtil;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -28,6 +38,13 @@ import java.util.stream.Collectors;
 public class JobController {
     private final JobService jobService;
 
+    // Thời gian client/proxy được dùng lại bản đã lưu mà không hỏi lại; sau đó phải gửi If-None-Match
+    @Value("${app.http.cache.job-detail-max-age:PT30S}")
+    private Duration jobDetailMaxAge;
+
+    @Value("${app.http.cache.job-listing-max-age:PT0S}")
+    private Duration jobListingMaxAge;
+
     public JobController(JobService jobService) {
         this.jobService = jobService;
     }
@@ -39,23 +56,29 @@ public class JobController {
      * @param page Số trang (bắt đầu từ 0)
      * @param size Số lượng items mỗi trang
      * @param sort Sắp xếp (ví dụ: "postedAt,desc")
+     * @param fields Các field của job cần trả về (không bắt buộc, ví dụ: "jobId,title,location" hoặc "summary")
      * @return Danh sách jobs đã phân trang
      *
      * GET /api/jobs?page=0&size=10&sort=postedAt,desc - Lấy tất cả jobs có phân trang
      * GET /api/jobs?employerId=123&page=0&size=10 - Lấy jobs của employer có ID = 123 có phân trang
+     * GET /api/jobs?page=0&size=50&fields=summary - Bỏ description, requirement khỏi từng job
      */
     @GetMapping
-    public ResponseEntity<Page<JobDTO>> getAllJobs(
+    public ResponseEntity<?> getAllJobs(
             @RequestParam(required = false) Long employerId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "postedAt,desc") String sort) {
-
-        String[] sortParams = sort.split(",");
-        Sort.Direction direction = sortParams.length > 1 ?
-                Sort.Direction.fromString(sortParams[1]) : Sort.Direction.DESC;
+            @RequestParam(defaultValue = "postedAt,desc") String sort,
+            @RequestParam(required = false) String fields) {
+
+        Set<String> selectedFields;
+        try {
+            selectedFields = JobFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortParams[0]));
+        Pageable pageable = PageRequest.of(page, size, parseSort(sort));
 
         Page<Job> jobPage;
         if (employerId != null) {
@@ -68,7 +91,8 @@ public class JobController {
                 .map(JobDTO::fromEntity)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(new PageImpl<>(jobDTOs, pageable, jobPage.getTotalElements()));
+        return ResponseEntity.ok(selectFields(new PageImpl<>(jobDTOs, pageable, jobPage.getTotalElements()),
+                selectedFields));
     }
 
     /**
@@ -77,32 +101,58 @@ public class JobController {
      * @param page Số trang (bắt đầu từ 0)
      * @param size Số lượng items mỗi trang
      * @param sort Sắp xếp (ví dụ: "postedAt,desc")
+     * @param fields Các field của job cần trả về (không bắt buộc, ví dụ: "jobId,title,location" hoặc "summary")
      * @return Danh sách jobs đã duyệt có phân trang
      *
      * GET /api/jobs/approved?page=0&size=10&sort=postedAt,desc
+     * GET /api/jobs/approved?page=0&size=50&fields=summary
      */
     @GetMapping("/approved")
-    public ResponseEntity<Page<JobDTO>> getApprovedJobs(
+    public ResponseEntity<?> getApprovedJobs(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "postedAt,desc") String sort) {
-
-        String[] sortParams = sort.split(",");
-        Sort.Direction direction = sortParams.length > 1 ?
-                Sort.Direction.fromString(sortParams[1]) : Sort.Direction.DESC;
+            @RequestParam(defaultValue = "postedAt,desc") String sort,
+            @RequestParam(required = false) String fields,
+            WebRequest request) {
+
+        Set<String> selectedFields;
+        try {
+            selectedFields = JobFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortParams[0]));
-        Page<Job> jobPage = jobService.getJobsByStatus(JobStatus.APPROVED, pageable);
+        // jobId làm khóa phụ để thứ tự (và ETag) của trang ổn định khi nhiều job trùng postedAt
+        Pageable pageable = PageRequest.of(page, size, parseSort(sort).and(Sort.by(Sort.Direction.DESC, "jobId")));
+        // Chỉ lấy id/version của trang để so với If-None-Match; nội dung job chỉ được nạp khi client chưa có bản mới
+        Page<JobCacheKey> keys = jobService.getJobCacheKeysByStatus(JobStatus.APPROVED, pageable);
+        CacheControl cacheControl = revalidate(jobListingMaxAge);
+        // checkNotModified tự ghi ETag vào response
+        if (request.checkNotModified(JobETagUtil.forPage(keys, request))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
 
-        List<JobDTO> jobDTOs = jobPage.getContent().stream()
+        List<Long> jobIds = keys.getContent().stream()
+                .map(JobCacheKey::getJobId)
+                .collect(Collectors.toList());
+        List<JobDTO> jobDTOs = jobService.getJobsInOrder(jobIds).stream()
                 .map(JobDTO::fromEntity)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(new PageImpl<>(jobDTOs, pageable, jobPage.getTotalElements()));
+        MappingJacksonValue body = new MappingJacksonValue(new PageImpl<>(jobDTOs, pageable, keys.getTotalElements()));
+        body.setFilters(JobFields.filter(selectedFields));
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(body);
     }
 
     /**
      * Lấy thông tin chi tiết của một job theo ID
+     * Trả về 304 (không nạp job) nếu If-None-Match khớp version hiện tại của job
      *
      * @param jobId ID của job cần lấy thông tin
      * @return Thông tin chi tiết của job
@@ -110,9 +160,20 @@ public class JobController {
      * GET /api/jobs/{jobId}
      */
     @GetMapping("/{jobId}")
-    public ResponseEntity<JobDTO> getJobById(@PathVariable Long jobId) {
+    public ResponseEntity<JobDTO> getJobById(@PathVariable Long jobId, WebRequest request) {
+        CacheControl cacheControl = revalidate(jobDetailMaxAge);
+        Optional<JobCacheKey> key = jobService.getJobCacheKey(jobId);
+        if (key.isPresent() && request.checkNotModified(JobETagUtil.forJob(key.get(), request))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .build();
+        }
         Job job = jobService.getJobById(jobId);
-        return ResponseEntity.ok(JobDTO.fromEntity(job));
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(JobDTO.fromEntity(job));
     }
 
     /**
@@ -220,22 +281,27 @@ public class JobController {
      * @param page Số trang (bắt đầu từ 0)
      * @param size Số lượng items mỗi trang
      * @param sort Sắp xếp (ví dụ: "postedAt,desc")
+     * @param fields Các field của job cần trả về (không bắt buộc, ví dụ: "jobId,title,location" hoặc "summary")
      * @return Danh sách job của user có phân trang
      *
      * GET /api/jobs/by-user/{userId}?page=0&size=10&sort=postedAt,desc
      */
     @GetMapping("/by-user/{userId}")
-    public ResponseEntity<Page<JobDTO>> getAllJobsByUserId(
+    public ResponseEntity<?> getAllJobsByUserId(
             @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "postedAt,desc") String sort) {
-
-        String[] sortParams = sort.split(",");
-        Sort.Direction direction = sortParams.length > 1 ?
-                Sort.Direction.fromString(sortParams[1]) : Sort.Direction.DESC;
+            @RequestParam(defaultValue = "postedAt,desc") String sort,
+            @RequestParam(required = false) String fields) {
+
+        Set<String> selectedFields;
+        try {
+            selectedFields = JobFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortParams[0]));
+        Pageable pageable = PageRequest.of(page, size, parseSort(sort));
         Page<Job> jobPage = jobService.getAllJobsByUserId(userId, pageable);
 
         List<JobDTO> jobDTOs = jobPage.getContent().stream()
@@ -246,7 +312,8 @@ public class JobController {
                 .header("Cache-Control", "no-cache, no-store, must-revalidate")
                 .header("Pragma", "no-cache")
                 .header("Expires", "0")
-                .body(new PageImpl<>(jobDTOs, pageable, jobPage.getTotalElements()));
+                .body(selectFields(new PageImpl<>(jobDTOs, pageable, jobPage.getTotalElements()),
+                        selectedFields));
     }
 
     /**
@@ -259,19 +326,28 @@ public class JobController {
      * @param page Số trang (bắt đầu từ 0)
      * @param size Số lượng items mỗi trang
      * @param sort Sắp xếp (ví dụ: "postedAt,desc")
+     * @param fields Các field của job cần trả về (không bắt buộc, ví dụ: "jobId,title,location" hoặc "summary")
      * @return Danh sách jobs phù hợp với bộ lọc
      *
      * GET /api/jobs/search?keyword=Java&location=Hanoi&minSalary=30000&maxSalary=50000&page=0&size=10&sort=postedAt,desc
      */
     @GetMapping("/search")
-    public ResponseEntity<Page<JobDTO>> searchJobs(
+    public ResponseEntity<?> searchJobs(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) Double minSalary,
             @RequestParam(required = false) Double maxSalary,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "id,desc") String[] sort) {
+            @RequestParam(defaultValue = "id,desc") String[] sort,
+            @RequestParam(required = false) String fields) {
+
+        Set<String> selectedFields;
+        try {
+            selectedFields = JobFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
 
         // Validate page and size
         if (page < 0) {
@@ -289,7 +365,8 @@ public class JobController {
                 .map(JobDTO::fromEntity)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(new PageImpl<>(jobDTOs, pageable, jobPage.getTotalElements()));
+        return ResponseEntity.ok(selectFields(new PageImpl<>(jobDTOs, pageable, jobPage.getTotalElements()),
+                selectedFields));
     }
 
     /**
@@ -303,12 +380,13 @@ public class JobController {
      * @param page Số trang (bắt đầu từ 0)
      * @param size Số lượng items mỗi trang
      * @param sort Sắp xếp (ví dụ: "postedAt,desc")
+     * @param fields Các field của job cần trả về (không bắt buộc, ví dụ: "jobId,title,location" hoặc "summary")
      * @return Danh sách jobs theo trạng thái và bộ lọc
      *
      * GET /api/jobs/search/status/APPROVED?keyword=Java&location=Hanoi&minSalary=30000&maxSalary=50000&page=0&size=10&sort=postedAt,desc
      */
     @GetMapping("/search/status/{status}")
-    public ResponseEntity<Page<JobDTO>> searchJobsByStatus(
+    public ResponseEntity<?> searchJobsByStatus(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) Double minSalary,
@@ -316,27 +394,61 @@ public class JobController {
             @PathVariable JobStatus status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(defaultValue = "postedAt,desc") String sort) {
-
-        String[] sortParams = sort.split(",");
-        Sort.Direction direction = sortParams.length > 1 ?
-                Sort.Direction.fromString(sortParams[1]) : Sort.Direction.DESC;
+            @RequestParam(defaultValue = "postedAt,desc") String sort,
+            @RequestParam(required = false) String fields) {
+
+        Set<String> selectedFields;
+        try {
+            selectedFields = JobFields.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortParams[0]));
+        Pageable pageable = PageRequest.of(page, size, parseSort(sort));
         Page<Job> jobPage = jobService.searchJobsByStatus(keyword, location, minSalary, maxSalary, status, pageable);
 
         List<JobDTO> jobDTOs = jobPage.getContent().stream()
                 .map(JobDTO::fromEntity)
                 .collect(Collectors.toList());
 
-        return ResponseEntity.ok(new PageImpl<>(jobDTOs, pageable, jobPage.getTotalElements()));
+        return ResponseEntity.ok(selectFields(new PageImpl<>(jobDTOs, pageable, jobPage.getTotalElements()),
+                selectedFields));
+    }
+
+    /**
+     * Helper method bọc body để Jackson (JSON hoặc CBOR) chỉ ghi các field của JobDTO có trong tham số fields
+     * Ví dụ: "jobId,title,location" hoặc "summary" (bỏ description, requirement); null -> ghi đủ
+     */
+    static MappingJacksonValue selectFields(Object body, Set<String> fields) {
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(JobFields.filter(fields));
+        return value;
+    }
+
+    /**
+     * Helper method tạo Cache-Control cho dữ liệu công khai: dùng lại trong maxAge, sau đó phải hỏi lại server
+     * bằng If-None-Match (maxAge = 0 nghĩa là luôn hỏi lại, server trả 304 nếu không đổi)
+     */
+    private static CacheControl revalidate(Duration maxAge) {
+        return CacheControl.maxAge(maxAge).cachePublic().mustRevalidate();
+    }
+
+    /**
+     * Helper method để chuyển đổi tham số sort dạng "field,direction" thành Sort (mặc định giảm dần)
+     * Ví dụ: "postedAt,desc" -> Sort(postedAt DESC), "title" -> Sort(title DESC)
+     */
+    static Sort parseSort(String sort) {
+        String[] sortParams = sort.split(",");
+        Sort.Direction direction = sortParams.length > 1 ?
+                Sort.Direction.fromString(sortParams[1]) : Sort.Direction.DESC;
+        return Sort.by(direction, sortParams[0]);
     }
 
     /**
      * Helper method để chuyển đổi mảng các chuỗi sắp xếp thành danh sách Sort.Order
      * Ví dụ: ["createdAt", "desc", "id", "asc"] -> [Order(createdAt,DESC), Order(id,ASC)]
      */
-    private List<Sort.Order> getSortOrders(String[] sort) {
+    static List<Sort.Order> getSortOrders(String[] sort) {
         List<Sort.Order> orders = new ArrayList<>();
 
         if (sort[0].contains(",")) {
@@ -360,7 +472,7 @@ public class JobController {
     /**
      * Helper method để chuyển đổi chuỗi direction thành Sort.Direction
      */
-    private Sort.Direction getSortDirection(String direction) {
+    static Sort.Direction getSortDirection(String direction) {
         if (direction.equals("asc")) {
             return Sort.Direction.ASC;
         } else if (direction.equals("desc")) {
@@ -0,0 +1,69 @@
+package org.example.goodjobbackend.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.goodjobbackend.dto.JobImportStatus;
+import org.example.goodjobbackend.service.JobImportService;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+
+/**
+ * Nhập công việc hàng loạt từ file CSV/JSON
+ * Base URL: /api/jobs/import
+ */
+@RestController
+@RequestMapping("/api/jobs/import")
+@CrossOrigin(origins = "*")
+@RequiredArgsConstructor
+public class JobImportController {
+
+    private final JobImportService jobImportService;
+
+    /**
+     * Tải file lên và bắt đầu nhập nền, trả về importId để theo dõi tiến độ
+     * POST /api/jobs/import?employerId=5 (multipart, field "file", đuôi .csv hoặc .json)
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<?> importJobs(
+            @RequestParam Long employerId,
+            @RequestParam("file") MultipartFile file) {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(jobImportService.submit(employerId, file));
+        } catch (IOException e) {
+            return ResponseEntity.internalServerError().body("Không lưu được file nhập: " + e.getMessage());
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Tiến độ và danh sách lỗi theo dòng của một lượt nhập
+     * GET /api/jobs/import/{importId}
+     */
+    @GetMapping("/{importId}")
+    public ResponseEntity<?> getStatus(@PathVariable String importId) {
+        try {
+            return ResponseEntity.ok(jobImportService.getStatus(importId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Tiếp tục lượt nhập bị lỗi từ lô chưa commit
+     * POST /api/jobs/import/{importId}/resume
+     */
+    @PostMapping("/{importId}/resume")
+    public ResponseEntity<?> resume(@PathVariable String importId) {
+        try {
+            JobImportStatus status = jobImportService.resume(importId);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
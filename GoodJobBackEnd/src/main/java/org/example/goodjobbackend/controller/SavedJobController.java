@@ -1,5 +1,6 @@
 package org.example.goodjobbackend.controller;
 
+import org.example.goodjobbackend.dto.JobMembershipDTO;
 import org.example.goodjobbackend.dto.SavedJobDTO;
 import org.example.goodjobbackend.service.SavedJobService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +15,8 @@ import java.util.Map;
 @RequestMapping("/api/saved-jobs")
 public class SavedJobController {
 
+    private static final int MAX_MEMBERSHIP_JOB_IDS = 200;
+
     private final SavedJobService savedJobService;
 
     @Autowired
@@ -60,6 +63,24 @@ public class SavedJobController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * Saved/applied flags for several jobs at once (e.g. all cards on a listing page)
+     * GET /api/saved-jobs/membership/user/{userId}?jobIds=1,2,3
+     * @param userId the user ID
+     * @param jobIds the job IDs to check
+     * @return one entry per job with saved and applied flags
+     */
+    @GetMapping("/membership/user/{userId}")
+    public ResponseEntity<List<JobMembershipDTO>> getJobMemberships(
+            @PathVariable Long userId,
+            @RequestParam List<Long> jobIds) {
+        
+        if (jobIds.size() > MAX_MEMBERSHIP_JOB_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(savedJobService.getJobMemberships(userId, jobIds));
+    }
+    
     /**
      * Get all saved jobs for a specific user
      * @param userId the user ID
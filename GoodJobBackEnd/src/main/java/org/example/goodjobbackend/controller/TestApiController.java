@@ -10,6 +10,7 @@ import org.example.goodjobbackend.service.AdminNotificationService;
 import org.example.goodjobbackend.service.JobService;
 import org.example.goodjobbackend.service.TestDataService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,6 +20,7 @@ import java.util.List;
 import java.util.Random;
 import java.util.stream.Collectors;
 
+@Lazy
 @RestController
 @RequestMapping("/api/test")
 public class TestApiController {
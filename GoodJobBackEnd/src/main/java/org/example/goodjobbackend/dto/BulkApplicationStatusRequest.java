@@ -0,0 +1,13 @@
+package org.example.goodjobbackend.dto;
+
+import lombok.Data;
+import org.example.goodjobbackend.model.ApplicationStatus;
+
+import java.util.List;
+
+@Data
+public class BulkApplicationStatusRequest {
+    private List<Long> applicationIds;
+    private ApplicationStatus status;
+    private Long employerId;  // Nếu có, chỉ cập nhật các đơn thuộc employer này
+}
@@ -0,0 +1,17 @@
+package org.example.goodjobbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkApplicationStatusResponse {
+    private int total;
+    private List<Long> updatedIds;
+    private List<Long> unchangedIds;   // Đã ở trạng thái yêu cầu
+    private List<Long> notFoundIds;    // Không tồn tại hoặc không thuộc employer
+}
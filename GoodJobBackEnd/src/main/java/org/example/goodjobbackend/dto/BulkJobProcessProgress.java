@@ -0,0 +1,23 @@
+package org.example.goodjobbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Tiến độ của một yêu cầu duyệt hàng loạt, gửi sau mỗi lô đã xử lý xong.
+ * results chỉ chứa kết quả của lô vừa xử lý; lần gửi cuối cùng có done = true.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobProcessProgress {
+    private int processed;
+    private int total;
+    private int succeeded;
+    private int failed;
+    private boolean done;
+    private List<BulkJobProcessResult> results;
+}
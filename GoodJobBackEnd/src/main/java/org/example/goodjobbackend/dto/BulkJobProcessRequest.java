@@ -0,0 +1,14 @@
+package org.example.goodjobbackend.dto;
+
+import lombok.Data;
+import org.example.goodjobbackend.model.JobStatus;
+
+import java.util.List;
+
+@Data
+public class BulkJobProcessRequest {
+    private List<Long> jobIds;       // Danh sách ID công việc cần xử lý
+    private JobStatus status;
+    private String rejectionReason;  // Chỉ cần khi status là REJECTED
+    private Long adminId;            // ID của admin xử lý
+}
@@ -0,0 +1,17 @@
+package org.example.goodjobbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobProcessResponse {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BulkJobProcessResult> results;
+}
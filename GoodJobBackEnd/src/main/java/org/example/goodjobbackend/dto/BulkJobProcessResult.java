@@ -0,0 +1,17 @@
+package org.example.goodjobbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Kết quả xử lý của từng công việc trong một yêu cầu duyệt hàng loạt
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkJobProcessResult {
+    private Long jobId;
+    private boolean success;
+    private String message;
+}
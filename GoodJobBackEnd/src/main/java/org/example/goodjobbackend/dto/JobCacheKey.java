@@ -0,0 +1,18 @@
+package org.example.goodjobbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Những gì quyết định nội dung JobDTO của một job: version của job (tăng khi nội dung job đổi)
+ * và version của employer (tên công ty, logo). Lượt xem/ứng tuyển không nằm trong key nên bản đã cache
+ * có thể hiển thị bộ đếm cũ cho tới khi job đổi nội dung (vì vậy ETag là weak).
+ * Được lấy bằng một câu query nhỏ để trả lời 304 mà không nạp job.
+ */
+@Data
+@AllArgsConstructor
+public class JobCacheKey {
+    private Long jobId;
+    private Long version;
+    private Long employerVersion;
+}
@@ -1,5 +1,6 @@
 package org.example.goodjobbackend.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Data;
 import org.example.goodjobbackend.model.Job;
 import org.example.goodjobbackend.model.JobStatus;
@@ -7,6 +8,7 @@ import org.example.goodjobbackend.model.JobType;
 import java.time.LocalDateTime;
 
 @Data
+@JsonFilter(JobFields.FILTER_ID)
 public class JobDTO {
     private Long jobId;
     private Long employerId;
@@ -0,0 +1,72 @@
+package org.example.goodjobbackend.dto;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Sparse fieldset cho JobDTO (tham số fields của các API danh sách job), ví dụ
+ * fields=jobId,title,employerName,location hoặc fields=summary (mọi field trừ description, requirement).
+ */
+public final class JobFields {
+
+    public static final String FILTER_ID = "jobFields";
+    public static final String SUMMARY = "summary";
+
+    // Tên property JSON của JobDTO, cần cập nhật khi JobDTO thêm field
+    // (liệt kê sẵn thay vì đọc bằng reflection để bản native image không cần thêm metadata)
+    public static final List<String> ALL = List.of(
+            "jobId", "employerId", "employerName", "companyLogo", "title", "description", "requirement",
+            "location", "jobType", "salaryMin", "salaryMax", "salaryCurrency", "applyCount", "viewCount",
+            "postedAt", "expireAt", "isSalaryPublic", "isActive", "status", "imageUrl");
+
+    // Các cột TEXT dài, chỉ trang chi tiết mới cần
+    private static final Set<String> LONG_TEXT = Set.of("description", "requirement");
+
+    private JobFields() {
+    }
+
+    /**
+     * Đọc tham số fields; null/rỗng nghĩa là đủ mọi field
+     * @throws IllegalArgumentException nếu có tên field không thuộc JobDTO
+     */
+    public static Set<String> parse(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        if (fields == null || fields.isBlank()) {
+            selected.addAll(ALL);
+            return selected;
+        }
+        if (SUMMARY.equals(fields.trim())) {
+            ALL.stream().filter(name -> !LONG_TEXT.contains(name)).forEach(selected::add);
+            return selected;
+        }
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!ALL.contains(trimmed)) {
+                throw new IllegalArgumentException("Trường không hợp lệ: " + trimmed + ". Các trường hợp lệ: "
+                        + String.join(",", ALL) + " hoặc " + SUMMARY);
+            }
+            selected.add(trimmed);
+        }
+        return selected;
+    }
+
+    // Chỉ ghi các field đã chọn của JobDTO, các class khác ghi đủ
+    public static FilterProvider filter(Set<String> fields) {
+        return new SimpleFilterProvider()
+                .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(fields));
+    }
+
+    // Filter mặc định của ObjectMapper: JobDTO được ghi đủ khi response không chọn field
+    public static FilterProvider serializeAll() {
+        return new SimpleFilterProvider().setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+    }
+}
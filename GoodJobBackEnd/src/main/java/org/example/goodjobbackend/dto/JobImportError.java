@@ -0,0 +1,16 @@
+package org.example.goodjobbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lỗi của một dòng trong file nhập công việc (rowNumber bắt đầu từ 1, không tính header)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobImportError {
+    private long rowNumber;
+    private String message;
+}
@@ -0,0 +1,33 @@
+package org.example.goodjobbackend.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Trạng thái của một lượt nhập công việc hàng loạt, dùng để theo dõi tiến độ và để tiếp tục
+ * từ dòng đã commit cuối cùng nếu lượt nhập bị gián đoạn
+ */
+@Data
+@NoArgsConstructor
+public class JobImportStatus {
+    public enum State {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private String importId;
+    private Long employerId;
+    private String fileName;
+    private String format;
+    private State state;
+    private long committedRows;   // Số dòng đã xử lý và commit xong
+    private long inserted;
+    private long failed;
+    private List<JobImportError> errors = new ArrayList<>();  // Chỉ giữ tối đa một số lỗi đầu tiên
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
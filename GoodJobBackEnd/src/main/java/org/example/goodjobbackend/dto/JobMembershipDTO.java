@@ -0,0 +1,14 @@
+package org.example.goodjobbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobMembershipDTO {
+    private Long jobId;
+    private boolean saved;
+    private boolean applied;
+}
@@ -0,0 +1,21 @@
+package org.example.goodjobbackend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.goodjobbackend.model.Job;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Các công việc chờ duyệt đang được giao cho một admin, cùng thời điểm hết hạn giữ chỗ
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ModerationLeaseResponse {
+    private Long adminId;
+    private LocalDateTime expiresAt;
+    private List<Job> jobs;
+}
@@ -0,0 +1,28 @@
+package org.example.goodjobbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.example.goodjobbackend.model.ApplicationStatus;
+
+import java.util.List;
+
+/**
+ * Sự kiện phát ra khi một lô đơn ứng tuyển được chuyển sang cùng một trạng thái.
+ * Chứa sẵn các thông tin cần cho email để listener không phải nạp lại entity.
+ */
+@Getter
+@AllArgsConstructor
+public class ApplicationStatusChangedEvent {
+    private final List<ChangedApplication> applications;
+    private final ApplicationStatus status;
+
+    @Getter
+    @AllArgsConstructor
+    public static class ChangedApplication {
+        private final Long applicationId;
+        private final String applicantEmail;
+        private final String applicantName;
+        private final String jobTitle;
+        private final String companyName;
+    }
+}
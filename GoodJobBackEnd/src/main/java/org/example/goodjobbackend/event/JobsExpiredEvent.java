@@ -0,0 +1,26 @@
+package org.example.goodjobbackend.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Sự kiện phát ra sau khi một lô công việc bị chuyển sang trạng thái EXPIRED.
+ * Các listener dùng sự kiện này để thông báo cho employer và làm mới dữ liệu phụ thuộc.
+ */
+@Getter
+@AllArgsConstructor
+public class JobsExpiredEvent {
+    private final List<ExpiredJob> jobs;
+    private final LocalDateTime expiredAt;
+
+    @Getter
+    @AllArgsConstructor
+    public static class ExpiredJob {
+        private final Long jobId;
+        private final String title;
+        private final Long employerId;
+    }
+}
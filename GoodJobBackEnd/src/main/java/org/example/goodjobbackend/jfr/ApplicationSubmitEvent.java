@@ -0,0 +1,40 @@
+package org.example.goodjobbackend.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Một lần nộp đơn ứng tuyển (JobApplicationService.apply), kể cả khi bị từ chối vì nộp trùng.
+ */
+@Name(ApplicationSubmitEvent.NAME)
+@Label("Application Submit")
+@Category({"GoodJob", "Business"})
+@Description("Nộp đơn ứng tuyển")
+@StackTrace(false)
+public class ApplicationSubmitEvent extends Event {
+
+    public static final String NAME = "org.example.goodjobbackend.ApplicationSubmit";
+
+    public static final String SUCCESS = "success";
+    public static final String DUPLICATE = "duplicate";
+    public static final String FAILURE = "failure";
+
+    @Label("Job Id")
+    private long jobId;
+
+    @Label("Applicant Id")
+    private long applicantId;
+
+    @Label("Outcome")
+    private String outcome;
+
+    public void complete(Long jobId, Long applicantId, String outcome) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.jobId = jobId == null ? 0 : jobId;
+        this.applicantId = applicantId == null ? 0 : applicantId;
+        this.outcome = outcome;
+        commit();
+    }
+}
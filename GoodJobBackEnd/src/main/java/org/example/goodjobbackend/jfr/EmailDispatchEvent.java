@@ -0,0 +1,36 @@
+package org.example.goodjobbackend.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Một lần gửi email qua SMTP (có thể gồm cả lô nhiều email).
+ */
+@Name(EmailDispatchEvent.NAME)
+@Label("Email Dispatch")
+@Category({"GoodJob", "Business"})
+@Description("Gửi email qua JavaMailSender")
+@StackTrace(false)
+public class EmailDispatchEvent extends Event {
+
+    public static final String NAME = "org.example.goodjobbackend.EmailDispatch";
+
+    @Label("Email Type")
+    private String type;
+
+    @Label("Messages")
+    private int messages;
+
+    @Label("Success")
+    private boolean success;
+
+    public void complete(String type, int messages, boolean success) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.type = type;
+        this.messages = messages;
+        this.success = success;
+        commit();
+    }
+}
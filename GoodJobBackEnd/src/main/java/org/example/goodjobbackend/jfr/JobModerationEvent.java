@@ -0,0 +1,44 @@
+package org.example.goodjobbackend.jfr;
+
+import jdk.jfr.*;
+import org.example.goodjobbackend.model.JobStatus;
+
+/**
+ * Admin xử lý (duyệt/từ chối/xóa) một công việc qua JobService.processJob.
+ */
+@Name(JobModerationEvent.NAME)
+@Label("Job Moderation")
+@Category({"GoodJob", "Business"})
+@Description("Admin xử lý trạng thái một công việc")
+public class JobModerationEvent extends Event {
+
+    public static final String NAME = "org.example.goodjobbackend.JobModeration";
+
+    @Label("Job Id")
+    private long jobId;
+
+    @Label("Admin Id")
+    private long adminId;
+
+    @Label("Old Status")
+    private String oldStatus;
+
+    @Label("New Status")
+    private String newStatus;
+
+    @Label("Success")
+    private boolean success;
+
+    public void complete(Long jobId, Long adminId, JobStatus oldStatus, JobStatus newStatus, boolean success) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.jobId = jobId == null ? 0 : jobId;
+        this.adminId = adminId == null ? 0 : adminId;
+        this.oldStatus = oldStatus == null ? null : oldStatus.name();
+        this.newStatus = newStatus == null ? null : newStatus.name();
+        this.success = success;
+        commit();
+    }
+}
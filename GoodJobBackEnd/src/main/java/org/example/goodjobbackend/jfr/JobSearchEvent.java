@@ -0,0 +1,81 @@
+package org.example.goodjobbackend.jfr;
+
+import jdk.jfr.*;
+import org.example.goodjobbackend.model.JobStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Một lần tìm kiếm công việc có bộ lọc (JobService.searchJobs / searchJobsByStatus).
+ * Khi không có recording nào bật event này, begin/end/shouldCommit là no-op và JIT loại bỏ luôn việc cấp phát object,
+ * các field chỉ được gán sau khi shouldCommit() trả về true.
+ */
+@Name(JobSearchEvent.NAME)
+@Label("Job Search")
+@Category({"GoodJob", "Business"})
+@Description("Tìm kiếm công việc với từ khóa và bộ lọc")
+@StackTrace(false)
+public class JobSearchEvent extends Event {
+
+    public static final String NAME = "org.example.goodjobbackend.JobSearch";
+
+    private static final int MAX_KEYWORD_LENGTH = 100;
+
+    @Label("Keyword")
+    private String keyword;
+
+    @Label("Filter Shape")
+    @Description("Các bộ lọc được dùng, ví dụ keyword+location+salary")
+    private String filter;
+
+    @Label("Status")
+    private String status;
+
+    @Label("Page")
+    private int page;
+
+    @Label("Page Size")
+    private int pageSize;
+
+    @Label("Sort")
+    private String sort;
+
+    @Label("Rows")
+    @Description("Số job trả về trong trang")
+    private int rows;
+
+    @Label("Total Rows")
+    private long totalRows;
+
+    public void complete(String keyword, String location, Double minSalary, Double maxSalary,
+                         JobStatus status, Pageable pageable, Page<?> result) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.keyword = keyword == null || keyword.length() <= MAX_KEYWORD_LENGTH
+                ? keyword : keyword.substring(0, MAX_KEYWORD_LENGTH);
+        this.filter = filterShape(keyword, location, minSalary, maxSalary);
+        this.status = status == null ? null : status.name();
+        this.page = pageable.getPageNumber();
+        this.pageSize = pageable.getPageSize();
+        this.sort = pageable.getSort().isSorted() ? pageable.getSort().toString() : null;
+        this.rows = result.getNumberOfElements();
+        this.totalRows = result.getTotalElements();
+        commit();
+    }
+
+    static String filterShape(String keyword, String location, Double minSalary, Double maxSalary) {
+        StringBuilder shape = new StringBuilder();
+        if (keyword != null && !keyword.isBlank()) {
+            shape.append("keyword");
+        }
+        if (location != null && !location.isBlank()) {
+            shape.append(shape.isEmpty() ? "" : "+").append("location");
+        }
+        if (minSalary != null || maxSalary != null) {
+            shape.append(shape.isEmpty() ? "" : "+").append("salary");
+        }
+        return shape.isEmpty() ? "none" : shape.toString();
+    }
+}
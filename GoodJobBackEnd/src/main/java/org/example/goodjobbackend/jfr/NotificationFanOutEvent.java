@@ -0,0 +1,37 @@
+package org.example.goodjobbackend.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * Lưu một lô thông báo cùng lúc (thông báo cho người dùng hoặc cho admin).
+ */
+@Name(NotificationFanOutEvent.NAME)
+@Label("Notification Fan-out")
+@Category({"GoodJob", "Business"})
+@Description("Tạo hàng loạt thông báo trong một lần saveAll")
+@StackTrace(false)
+public class NotificationFanOutEvent extends Event {
+
+    public static final String NAME = "org.example.goodjobbackend.NotificationFanOut";
+
+    @Label("Audience")
+    @Description("user hoặc admin")
+    private String audience;
+
+    @Label("Notification Type")
+    private String notificationType;
+
+    @Label("Notifications")
+    private int notifications;
+
+    public void complete(String audience, Enum<?> notificationType, int notifications) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.audience = audience;
+        this.notificationType = notificationType == null ? null : notificationType.name();
+        this.notifications = notifications;
+        commit();
+    }
+}
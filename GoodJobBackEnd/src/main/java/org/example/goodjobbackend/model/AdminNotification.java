@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 @Table(name = "admin_notifications")
 public class AdminNotification {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "admin_notifications_seq")
+    @SequenceGenerator(name = "admin_notifications_seq", sequenceName = "admin_notifications_seq", allocationSize = 50)
     private Long id;
 
     @Enumerated(EnumType.STRING)
@@ -0,0 +1,90 @@
+package org.example.goodjobbackend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Bản lưu trữ của Job đã bị xóa, từ chối hoặc hết hạn lâu ngày.
+ * Các cột giữ nguyên tên như bảng jobs để có thể sao chép qua lại bằng INSERT ... SELECT.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "jobs_archive", indexes = {
+    @Index(name = "idx_jobs_archive_employer_id", columnList = "employer_id")
+})
+public class ArchivedJob {
+    @Id
+    @Column(name = "job_id")
+    private Long jobId;
+
+    // Giữ nguyên version của job khi lưu trữ/khôi phục
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "employer_id", nullable = false)
+    private Long employerId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(columnDefinition = "TEXT")
+    private String requirement;
+
+    private String location;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type")
+    private JobType jobType;
+
+    @Column(name = "salary_min")
+    private Double salaryMin;
+
+    @Column(name = "salary_max")
+    private Double salaryMax;
+
+    @Column(name = "salary_currency")
+    private String salaryCurrency;
+
+    @Column(name = "apply_count")
+    private Integer applyCount;
+
+    @Column(name = "view_count")
+    private Integer viewCount;
+
+    @Column(name = "posted_at")
+    private LocalDateTime postedAt;
+
+    @Column(name = "expire_at")
+    private LocalDateTime expireAt;
+
+    @Column(name = "is_salary_public")
+    private Boolean isSalaryPublic;
+
+    @Column(name = "is_active")
+    private Boolean isActive;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private JobStatus status;
+
+    @Column(name = "rejection_reason", columnDefinition = "TEXT")
+    private String rejectionReason;
+
+    @Column(name = "image_url")
+    private String imageUrl;
+
+    @Column(name = "processed_by")
+    private Long processedBy;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
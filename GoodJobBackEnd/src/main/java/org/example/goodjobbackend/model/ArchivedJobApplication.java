@@ -0,0 +1,49 @@
+package org.example.goodjobbackend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Bản lưu trữ của JobApplication thuộc một Job đã được lưu trữ.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "job_applications_archive", indexes = {
+    @Index(name = "idx_job_applications_archive_job_id", columnList = "job_id"),
+    @Index(name = "idx_job_applications_archive_applicant_id", columnList = "applicant_id")
+})
+public class ArchivedJobApplication {
+    @Id
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "applicant_id", nullable = false)
+    private Long applicantId;
+
+    @Column(name = "employer_id", nullable = false)
+    private Long employerId;
+
+    @Column(name = "cover_letter", columnDefinition = "TEXT")
+    private String coverLetter;
+
+    @Column(name = "resume_url")
+    private String resumeUrl;
+
+    @Column(name = "applied_at")
+    private LocalDateTime appliedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ApplicationStatus status;
+
+    @Column(name = "employer_viewed")
+    private boolean employerViewed;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
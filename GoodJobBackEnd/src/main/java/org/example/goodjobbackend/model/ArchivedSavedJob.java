@@ -0,0 +1,32 @@
+package org.example.goodjobbackend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * Bản lưu trữ của SavedJob thuộc một Job đã được lưu trữ.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "saved_jobs_archive", indexes = {
+    @Index(name = "idx_saved_jobs_archive_job_id", columnList = "job_id")
+})
+public class ArchivedSavedJob {
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "saved_at")
+    private LocalDateTime savedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -14,14 +15,25 @@ import java.util.List;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+// Chỉ ghi các cột đã đổi để lần lưu entity không ghi đè viewCount/applyCount đang được tăng song song
+@DynamicUpdate
 @Entity
-@Table(name = "jobs")
+@Table(name = "jobs", indexes = {
+    @Index(name = "idx_jobs_status_expire_at", columnList = "status, expire_at")
+})
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Job {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "jobs_seq")
+    @SequenceGenerator(name = "jobs_seq", sequenceName = "jobs_seq", allocationSize = 50)
     private Long jobId;
 
+    // Tăng khi nội dung job đổi (lưu entity và các câu UPDATE hàng loạt trong JobRepository), dùng làm ETag.
+    // Lượt xem/ứng tuyển không tăng version để không gây OptimisticLockException khi sửa/duyệt job
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "employer_id", insertable = false, updatable = false)
     @JsonBackReference(value = "employer-jobs")
@@ -0,0 +1,58 @@
+package org.example.goodjobbackend.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.example.goodjobbackend.dto.JobImportStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tiến độ đã commit của một lượt nhập công việc (xem JobImportService).
+ * Các lỗi đầu tiên được lưu dưới dạng JSON trong cột errors.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "job_imports", indexes = {
+    @Index(name = "idx_job_imports_state", columnList = "state")
+})
+public class JobImport {
+    @Id
+    @Column(name = "import_id", length = 36)
+    private String importId;
+
+    @Column(name = "employer_id", nullable = false)
+    private Long employerId;
+
+    @Column(name = "file_name", nullable = false)
+    private String fileName;
+
+    @Column(nullable = false, length = 16)
+    private String format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private JobImportStatus.State state;
+
+    @Column(name = "committed_rows", nullable = false)
+    private long committedRows;
+
+    @Column(nullable = false)
+    private long inserted;
+
+    @Column(nullable = false)
+    private long failed;
+
+    @Column(columnDefinition = "TEXT")
+    private String errors;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+}
@@ -4,5 +4,6 @@ public enum JobStatus {
     PENDING,     // Chờ duyệt
     APPROVED,    // Đã duyệt
     REJECTED,    // Từ chối
-    DELETED      // Đã xóa
+    DELETED,     // Đã xóa
+    EXPIRED      // Hết hạn
 } 
\ No newline at end of file
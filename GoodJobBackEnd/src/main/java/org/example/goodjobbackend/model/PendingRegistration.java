@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 @Table(name = "pending_registrations")
 public class PendingRegistration {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pending_registrations_seq")
+    @SequenceGenerator(name = "pending_registrations_seq", sequenceName = "pending_registrations_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
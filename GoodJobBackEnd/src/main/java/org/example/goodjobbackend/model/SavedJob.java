@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 })
 public class SavedJob {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saved_jobs_seq")
+    @SequenceGenerator(name = "saved_jobs_seq", sequenceName = "saved_jobs_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
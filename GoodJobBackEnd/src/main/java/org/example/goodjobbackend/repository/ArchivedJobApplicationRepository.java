@@ -0,0 +1,47 @@
+package org.example.goodjobbackend.repository;
+
+import org.example.goodjobbackend.dto.JobApplicationDTO;
+import org.example.goodjobbackend.model.ArchivedJobApplication;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedJobApplicationRepository extends JpaRepository<ArchivedJobApplication, Long> {
+
+    String APPLICATION_COLUMNS = "id, job_id, applicant_id, employer_id, cover_letter, resume_url, " +
+            "applied_at, status, employer_viewed";
+
+    @Modifying
+    @Query(value = "INSERT INTO job_applications_archive (" + APPLICATION_COLUMNS + ", archived_at) " +
+            "SELECT " + APPLICATION_COLUMNS + ", :archivedAt FROM job_applications WHERE job_id IN (:jobIds)",
+            nativeQuery = true)
+    int copyFromLive(@Param("jobIds") List<Long> jobIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO job_applications (" + APPLICATION_COLUMNS + ") " +
+            "SELECT " + APPLICATION_COLUMNS + " FROM job_applications_archive WHERE job_id = :jobId",
+            nativeQuery = true)
+    int copyToLive(@Param("jobId") Long jobId);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedJobApplication a WHERE a.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+
+    // Lấy đơn ứng tuyển đã lưu trữ của một ứng viên, ghép thông tin job/user/employer trong một truy vấn
+    @Query("SELECT new org.example.goodjobbackend.dto.JobApplicationDTO(" +
+           "a.id, a.jobId, j.title, a.applicantId, u.fullName, u.email, a.employerId, e.companyName, " +
+           "a.coverLetter, a.resumeUrl, a.appliedAt, a.status, a.employerViewed, j.imageUrl, j.jobType) " +
+           "FROM ArchivedJobApplication a " +
+           "JOIN ArchivedJob j ON j.jobId = a.jobId " +
+           "JOIN User u ON u.id = a.applicantId " +
+           "LEFT JOIN Employer e ON e.id = a.employerId " +
+           "WHERE a.applicantId = :userId " +
+           "ORDER BY a.appliedAt DESC")
+    List<JobApplicationDTO> findDTOsByApplicantId(@Param("userId") Long userId);
+}
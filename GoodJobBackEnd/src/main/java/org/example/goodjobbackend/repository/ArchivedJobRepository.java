@@ -0,0 +1,41 @@
+package org.example.goodjobbackend.repository;
+
+import org.example.goodjobbackend.dto.JobCacheKey;
+import org.example.goodjobbackend.model.ArchivedJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ArchivedJobRepository extends JpaRepository<ArchivedJob, Long> {
+
+    String JOB_COLUMNS = "job_id, version, employer_id, title, description, requirement, location, " +
+            "job_type, salary_min, salary_max, salary_currency, apply_count, view_count, posted_at, expire_at, " +
+            "is_salary_public, is_active, status, rejection_reason, image_url, processed_by, processed_at";
+
+    // Sao chép các job từ bảng jobs sang bảng lưu trữ
+    @Modifying
+    @Query(value = "INSERT INTO jobs_archive (" + JOB_COLUMNS + ", archived_at) " +
+            "SELECT " + JOB_COLUMNS + ", :archivedAt FROM jobs WHERE job_id IN (:jobIds)",
+            nativeQuery = true)
+    int copyFromLive(@Param("jobIds") List<Long> jobIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    // Sao chép job từ bảng lưu trữ trở lại bảng jobs
+    @Modifying
+    @Query(value = "INSERT INTO jobs (" + JOB_COLUMNS + ") " +
+            "SELECT " + JOB_COLUMNS + " FROM jobs_archive WHERE job_id = :jobId",
+            nativeQuery = true)
+    int copyToLive(@Param("jobId") Long jobId);
+
+    // Version của job đã lưu trữ và employer của nó để tính ETag
+    @Query("SELECT new org.example.goodjobbackend.dto.JobCacheKey(" +
+            "a.jobId, a.version, e.version) " +
+            "FROM ArchivedJob a LEFT JOIN Employer e ON e.id = a.employerId WHERE a.jobId = :jobId")
+    Optional<JobCacheKey> findCacheKeyById(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,31 @@
+package org.example.goodjobbackend.repository;
+
+import org.example.goodjobbackend.model.ArchivedSavedJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArchivedSavedJobRepository extends JpaRepository<ArchivedSavedJob, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO saved_jobs_archive (id, user_id, job_id, saved_at, archived_at) " +
+            "SELECT id, user_id, job_id, saved_at, :archivedAt FROM saved_jobs WHERE job_id IN (:jobIds)",
+            nativeQuery = true)
+    int copyFromLive(@Param("jobIds") List<Long> jobIds, @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "INSERT INTO saved_jobs (id, user_id, job_id, saved_at) " +
+            "SELECT id, user_id, job_id, saved_at FROM saved_jobs_archive WHERE job_id = :jobId",
+            nativeQuery = true)
+    int copyToLive(@Param("jobId") Long jobId);
+
+    @Modifying
+    @Query("DELETE FROM ArchivedSavedJob s WHERE s.jobId = :jobId")
+    int deleteByJobId(@Param("jobId") Long jobId);
+}
@@ -1,19 +1,40 @@
 package org.example.goodjobbackend.repository;
 
+import org.example.goodjobbackend.dto.JobApplicationDTO;
 import org.example.goodjobbackend.model.JobApplication;
 import org.example.goodjobbackend.model.ApplicationStatus;
 import org.example.goodjobbackend.model.Job;
 import org.example.goodjobbackend.model.User;
 import org.example.goodjobbackend.model.Employer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
+
+    // Ghép thông tin job/ứng viên/employer vào JobApplicationDTO trong một truy vấn
+    String DTO_SELECT = "SELECT new org.example.goodjobbackend.dto.JobApplicationDTO(" +
+            "ja.id, j.jobId, j.title, a.id, a.fullName, a.email, e.id, e.companyName, " +
+            "ja.coverLetter, ja.resumeUrl, ja.appliedAt, ja.status, ja.employerViewed, j.imageUrl, j.jobType) " +
+            "FROM JobApplication ja JOIN ja.job j JOIN ja.applicant a JOIN ja.employer e ";
+
+    String FILTERS = "AND (:status IS NULL OR ja.status = :status) " +
+            "AND (:viewed IS NULL OR ja.employerViewed = :viewed) ";
+
+    // Phân trang theo cursor (appliedAt, id) giảm dần; trang đầu dùng query riêng không có điều kiện này
+    // để planner không phải chọn một plan chung cho cả hai trường hợp
+    String AFTER_CURSOR = "AND (ja.appliedAt < :cursorAt OR (ja.appliedAt = :cursorAt AND ja.id < :cursorId)) ";
+
+    String NEWEST_FIRST = "ORDER BY ja.appliedAt DESC, ja.id DESC";
+
     List<JobApplication> findByJob(Job job);
     List<JobApplication> findByApplicant(User applicant);
     List<JobApplication> findByEmployer(Employer employer);
@@ -32,4 +53,77 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     
     @Query("SELECT ja FROM JobApplication ja WHERE ja.job.jobId = :jobId AND ja.applicant.id = :applicantId")
     List<JobApplication> findByJobIdAndApplicantId(@Param("jobId") Long jobId, @Param("applicantId") Long applicantId);
+    
+    @Query(value = DTO_SELECT + "WHERE ja.job.jobId = :jobId " + FILTERS + NEWEST_FIRST,
+           countQuery = "SELECT COUNT(ja) FROM JobApplication ja WHERE ja.job.jobId = :jobId " + FILTERS)
+    Page<JobApplicationDTO> findDTOsByJobId(@Param("jobId") Long jobId,
+                                            @Param("status") ApplicationStatus status,
+                                            @Param("viewed") Boolean viewed,
+                                            Pageable pageable);
+
+    @Query(value = DTO_SELECT + "WHERE ja.employer.id = :employerId " + FILTERS + NEWEST_FIRST,
+           countQuery = "SELECT COUNT(ja) FROM JobApplication ja WHERE ja.employer.id = :employerId " + FILTERS)
+    Page<JobApplicationDTO> findDTOsByEmployerId(@Param("employerId") Long employerId,
+                                                 @Param("status") ApplicationStatus status,
+                                                 @Param("viewed") Boolean viewed,
+                                                 Pageable pageable);
+
+    @Query(value = DTO_SELECT + "WHERE ja.applicant.id = :userId " + FILTERS + NEWEST_FIRST,
+           countQuery = "SELECT COUNT(ja) FROM JobApplication ja WHERE ja.applicant.id = :userId " + FILTERS)
+    Page<JobApplicationDTO> findDTOsByApplicantId(@Param("userId") Long userId,
+                                                  @Param("status") ApplicationStatus status,
+                                                  @Param("viewed") Boolean viewed,
+                                                  Pageable pageable);
+
+    // Không đếm tổng số dòng, chỉ lấy trang đầu hoặc trang kế tiếp sau cursor
+    @Query(DTO_SELECT + "WHERE ja.job.jobId = :jobId " + FILTERS + NEWEST_FIRST)
+    List<JobApplicationDTO> findFirstDTOsByJobId(@Param("jobId") Long jobId,
+                                                 @Param("status") ApplicationStatus status,
+                                                 @Param("viewed") Boolean viewed,
+                                                 Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE ja.job.jobId = :jobId " + FILTERS + AFTER_CURSOR + NEWEST_FIRST)
+    List<JobApplicationDTO> findDTOsByJobIdAfter(@Param("jobId") Long jobId,
+                                                 @Param("status") ApplicationStatus status,
+                                                 @Param("viewed") Boolean viewed,
+                                                 @Param("cursorAt") LocalDateTime cursorAt,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE ja.employer.id = :employerId " + FILTERS + NEWEST_FIRST)
+    List<JobApplicationDTO> findFirstDTOsByEmployerId(@Param("employerId") Long employerId,
+                                                      @Param("status") ApplicationStatus status,
+                                                      @Param("viewed") Boolean viewed,
+                                                      Pageable pageable);
+
+    @Query(DTO_SELECT + "WHERE ja.employer.id = :employerId " + FILTERS + AFTER_CURSOR + NEWEST_FIRST)
+    List<JobApplicationDTO> findDTOsByEmployerIdAfter(@Param("employerId") Long employerId,
+                                                      @Param("status") ApplicationStatus status,
+                                                      @Param("viewed") Boolean viewed,
+                                                      @Param("cursorAt") LocalDateTime cursorAt,
+                                                      @Param("cursorId") Long cursorId,
+                                                      Pageable pageable);
+
+    @Query("SELECT ja.job.jobId FROM JobApplication ja WHERE ja.applicant.id = :userId")
+    List<Long> findJobIdsByApplicantId(@Param("userId") Long userId);
+
+    // Khóa các đơn ứng tuyển (theo thứ tự id để hai request đồng thời không deadlock) tới hết transaction,
+    // để trạng thái đọc sau đó không bị request khác đổi trước câu UPDATE
+    @Query(value = "SELECT id FROM job_applications WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockByIds(@Param("ids") List<Long> ids);
+
+    // Thông tin tối thiểu để cập nhật trạng thái hàng loạt (gọi sau lockByIds)
+    // (id, status, applicantId, applicantName, applicantEmail, jobTitle, employerId, companyName)
+    @Query("SELECT ja.id, ja.status, a.id, a.fullName, a.email, j.title, e.id, e.companyName " +
+           "FROM JobApplication ja JOIN ja.applicant a JOIN ja.job j JOIN ja.employer e " +
+           "WHERE ja.id IN :ids")
+    List<Object[]> findStatusTargets(@Param("ids") List<Long> ids);
+
+    @Modifying
+    @Query("UPDATE JobApplication ja SET ja.status = :status WHERE ja.id IN :ids AND ja.status <> :status")
+    int updateStatuses(@Param("ids") List<Long> ids, @Param("status") ApplicationStatus status);
+
+    @Modifying
+    @Query("DELETE FROM JobApplication ja WHERE ja.job.jobId IN :jobIds")
+    int deleteByJobIds(@Param("jobIds") List<Long> jobIds);
 } 
\ No newline at end of file
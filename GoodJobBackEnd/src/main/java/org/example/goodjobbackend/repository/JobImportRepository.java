@@ -0,0 +1,24 @@
+package org.example.goodjobbackend.repository;
+
+import org.example.goodjobbackend.dto.JobImportStatus;
+import org.example.goodjobbackend.model.JobImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface JobImportRepository extends JpaRepository<JobImport, String> {
+
+    // Đánh dấu các lượt nhập đang chạy dở là lỗi (gọi khi ứng dụng khởi động)
+    @Transactional
+    @Modifying
+    @Query("UPDATE JobImport i SET i.state = :failed, i.message = :message WHERE i.state IN :states")
+    int markInterrupted(@Param("states") List<JobImportStatus.State> states,
+                        @Param("failed") JobImportStatus.State failed,
+                        @Param("message") String message);
+}
@@ -1,9 +1,11 @@
 package org.example.goodjobbackend.repository;
 
+import org.example.goodjobbackend.dto.JobCacheKey;
 import org.example.goodjobbackend.dto.JobCountDTO;
 import org.example.goodjobbackend.model.Job;
 import org.example.goodjobbackend.model.JobStatus;
 import org.example.goodjobbackend.model.Employer;
+import org.example.goodjobbackend.model.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,11 +14,17 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface JobRepository extends JpaRepository<Job, Long> {
 
+    String CACHE_KEY_SELECT = "SELECT new org.example.goodjobbackend.dto.JobCacheKey(" +
+            "j.jobId, j.version, e.version) FROM Job j JOIN j.employer e ";
+
     // Tìm kiếm với bộ lọc (keyword, location, salary range), mặc định status = APPROVED
     @Query("SELECT j FROM Job j WHERE " +
             "(:keyword IS NULL OR :keyword = '' OR " +
@@ -65,6 +73,19 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     // Lấy danh sách công việc theo status (phân trang)
     Page<Job> findByStatus(JobStatus status, Pageable pageable);
 
+    // Chỉ lấy version của job/employer để tính ETag, không nạp nội dung job
+    @Query(CACHE_KEY_SELECT + "WHERE j.jobId = :jobId")
+    Optional<JobCacheKey> findCacheKeyById(@Param("jobId") Long jobId);
+
+    // Version của các job trên một trang theo status, cùng thứ tự và tổng số với findByStatus
+    @Query(value = CACHE_KEY_SELECT + "WHERE j.status = :status",
+           countQuery = "SELECT COUNT(j) FROM Job j WHERE j.status = :status")
+    Page<JobCacheKey> findCacheKeysByStatus(@Param("status") JobStatus status, Pageable pageable);
+
+    // Nạp job kèm employer theo danh sách id (dùng sau khi đã có id của trang)
+    @Query("SELECT j FROM Job j JOIN FETCH j.employer WHERE j.jobId IN :jobIds")
+    List<Job> findAllWithEmployerByJobIdIn(@Param("jobIds") Collection<Long> jobIds);
+
     // Lấy danh sách công việc theo status, sắp xếp theo postedAt giảm dần (phân trang)
     Page<Job> findByStatusOrderByPostedAtDesc(JobStatus status, Pageable pageable);
 
@@ -97,6 +118,97 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     @Query("SELECT j FROM Job j WHERE j.status = 'DELETED'")
     List<Job> findAllDeleted();
 
+    // Hàng đợi duyệt: chỗ giữ của admin nằm trên chính dòng job (lease_admin_id, lease_expires_at) để mọi
+    // instance cùng thấy; các cột này không thuộc entity và không tăng version vì không đổi nội dung job.
+    // Gia hạn các job chờ duyệt admin đang giữ (chỗ giữ còn hạn)
+    @Modifying
+    @Query(value = "UPDATE jobs SET lease_expires_at = :expiresAt " +
+                   "WHERE lease_admin_id = :adminId AND lease_expires_at > :now AND status = 'PENDING'",
+           nativeQuery = true)
+    int renewLeases(@Param("adminId") Long adminId,
+                    @Param("now") LocalDateTime now,
+                    @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Id các job chờ duyệt admin đang giữ, theo thứ tự đăng (cũ trước)
+    @Query(value = "SELECT job_id FROM jobs " +
+                   "WHERE lease_admin_id = :adminId AND lease_expires_at > :now AND status = 'PENDING' " +
+                   "ORDER BY posted_at, job_id", nativeQuery = true)
+    List<Long> findLeasedJobIds(@Param("adminId") Long adminId, @Param("now") LocalDateTime now);
+
+    // Lấy và khóa tới hết transaction các job chờ duyệt chưa ai giữ (hoặc chỗ giữ đã hết hạn), cũ trước;
+    // bỏ qua dòng đang bị admin khác nhận cùng lúc để hai admin không bao giờ nhận trùng job
+    @Query(value = "SELECT job_id FROM jobs " +
+                   "WHERE status = 'PENDING' AND (lease_expires_at IS NULL OR lease_expires_at <= :now) " +
+                   "ORDER BY posted_at, job_id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockLeasableJobIds(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Giao các job đã khóa bằng lockLeasableJobIds cho admin
+    @Modifying
+    @Query(value = "UPDATE jobs SET lease_admin_id = :adminId, lease_expires_at = :expiresAt " +
+                   "WHERE job_id IN (:jobIds)", nativeQuery = true)
+    int assignLeases(@Param("jobIds") List<Long> jobIds,
+                     @Param("adminId") Long adminId,
+                     @Param("expiresAt") LocalDateTime expiresAt);
+
+    // Trả lại mọi chỗ giữ của admin
+    @Modifying
+    @Query(value = "UPDATE jobs SET lease_admin_id = NULL, lease_expires_at = NULL WHERE lease_admin_id = :adminId",
+           nativeQuery = true)
+    int releaseLeases(@Param("adminId") Long adminId);
+
+    // Bỏ chỗ giữ của các job vừa được xử lý
+    @Modifying
+    @Query(value = "UPDATE jobs SET lease_admin_id = NULL, lease_expires_at = NULL " +
+                   "WHERE job_id IN (:jobIds) AND lease_admin_id IS NOT NULL", nativeQuery = true)
+    int clearLeases(@Param("jobIds") Collection<Long> jobIds);
+
+    // Thu hồi các chỗ giữ đã hết hạn
+    @Modifying
+    @Query(value = "UPDATE jobs SET lease_admin_id = NULL, lease_expires_at = NULL " +
+                   "WHERE lease_admin_id IS NOT NULL AND lease_expires_at <= :now", nativeQuery = true)
+    int clearExpiredLeases(@Param("now") LocalDateTime now);
+
+    // Số job chờ duyệt đang được giữ theo từng admin (adminId, số job)
+    @Query(value = "SELECT lease_admin_id, COUNT(*) FROM jobs " +
+                   "WHERE lease_admin_id IS NOT NULL AND lease_expires_at > :now AND status = 'PENDING' " +
+                   "GROUP BY lease_admin_id", nativeQuery = true)
+    List<Object[]> countActiveLeasesByAdmin(@Param("now") LocalDateTime now);
+
+    long countByStatus(JobStatus status);
+
+    // Chỉ lấy employerId của job (dùng khi tạo đơn ứng tuyển mà không cần nạp cả job)
+    @Query("SELECT j.employerId FROM Job j WHERE j.jobId = :jobId")
+    Optional<Long> findEmployerIdByJobId(@Param("jobId") Long jobId);
+
+    // Lấy thông tin tối thiểu (jobId, title, status, expireAt) để duyệt hàng loạt
+    @Query("SELECT j.jobId, j.title, j.status, j.expireAt FROM Job j WHERE j.jobId IN :jobIds")
+    List<Object[]> findModerationTargets(@Param("jobIds") List<Long> jobIds);
+
+    // Chuyển trạng thái hàng loạt; bỏ qua các job đã ở trạng thái đích
+    // (các câu UPDATE hàng loạt đổi nội dung job không qua entity nên phải tự tăng version để ETag thay đổi)
+    @Modifying
+    @Query("UPDATE Job j SET j.status = :status, j.processedBy = :admin, j.processedAt = :now, " +
+           "j.version = j.version + 1, " +
+           "j.rejectionReason = COALESCE(:rejectionReason, j.rejectionReason), " +
+           "j.isActive = CASE WHEN :deactivate = true THEN false ELSE j.isActive END " +
+           "WHERE j.jobId IN :jobIds AND j.status <> :status")
+    int processJobs(@Param("jobIds") List<Long> jobIds,
+                    @Param("status") JobStatus status,
+                    @Param("admin") User admin,
+                    @Param("now") LocalDateTime now,
+                    @Param("rejectionReason") String rejectionReason,
+                    @Param("deactivate") boolean deactivate);
+
+    // Đọc lại (trong cùng transaction với processJobs) các job vừa được chính lần xử lý này cập nhật:
+    // job bị request khác đổi trạng thái trước đó không khớp admin/thời điểm nên không có trong kết quả
+    @Query("SELECT j.jobId, j.title, j.expireAt FROM Job j " +
+           "WHERE j.jobId IN :jobIds AND j.status = :status AND j.processedBy = :admin AND j.processedAt = :now")
+    List<Object[]> findProcessedJobs(@Param("jobIds") List<Long> jobIds,
+                                     @Param("status") JobStatus status,
+                                     @Param("admin") User admin,
+                                     @Param("now") LocalDateTime now);
+
+    // Bộ đếm không tăng version: không làm hỏng ETag hay optimistic lock của các lần sửa job
     @Modifying
     @Query("UPDATE Job j SET j.viewCount = j.viewCount + 1 WHERE j.jobId = :jobId")
     void incrementViewCount(@Param("jobId") Long jobId);
@@ -105,6 +217,38 @@ public interface JobRepository extends JpaRepository<Job, Long> {
     @Query("UPDATE Job j SET j.applyCount = j.applyCount + 1 WHERE j.jobId = :jobId")
     void incrementApplyCount(@Param("jobId") Long jobId);
 
+    // Lấy và khóa tới hết transaction các job đã duyệt nhưng đã quá hạn (jobId, title, employerId), theo thứ tự
+    // expireAt; bỏ qua dòng đang bị khóa để không job nào vừa bị thao tác khác đổi trạng thái mà vẫn được báo hết hạn
+    @Query(value = "SELECT job_id, title, employer_id FROM jobs " +
+                   "WHERE status = 'APPROVED' AND expire_at <= :now " +
+                   "ORDER BY expire_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Object[]> lockDueForExpiry(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // Lấy các job đã duyệt sắp hết hạn trong khoảng (from, to] (jobId, expireAt)
+    @Query("SELECT j.jobId, j.expireAt FROM Job j " +
+           "WHERE j.status = 'APPROVED' AND j.expireAt > :from AND j.expireAt <= :to " +
+           "ORDER BY j.expireAt")
+    List<Object[]> findUpcomingExpirations(@Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to,
+                                           Pageable pageable);
+
+    // Chuyển các job quá hạn sang trạng thái EXPIRED (chỉ áp dụng cho job còn APPROVED)
+    @Modifying
+    @Query("UPDATE Job j SET j.status = :expired, j.isActive = false, j.version = j.version + 1 " +
+           "WHERE j.jobId IN :jobIds AND j.status = 'APPROVED' AND j.expireAt <= :now")
+    int expireJobs(@Param("jobIds") List<Long> jobIds,
+                   @Param("expired") JobStatus expired,
+                   @Param("now") LocalDateTime now);
+
+    // Lấy các job "lạnh" có thể chuyển sang bảng lưu trữ
+    @Query("SELECT j.jobId FROM Job j WHERE " +
+           "(j.status IN :coldStatuses AND COALESCE(j.processedAt, j.postedAt) < :cutoff) " +
+           "OR (j.status = :expired AND j.expireAt < :cutoff)")
+    List<Long> findArchivableJobIds(@Param("coldStatuses") List<JobStatus> coldStatuses,
+                                    @Param("expired") JobStatus expired,
+                                    @Param("cutoff") LocalDateTime cutoff,
+                                    Pageable pageable);
+
     @Query("SELECT SUM(j.viewCount) FROM Job j")
     Long getAllView();
 
@@ -3,6 +3,9 @@ package org.example.goodjobbackend.repository;
 import org.example.goodjobbackend.model.Notification;
 import org.example.goodjobbackend.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -13,4 +16,21 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
     List<Notification> findByUserIdAndReadFalseOrderByCreatedAtDesc(Long userId);
     long countByUserIdAndReadFalse(Long userId);
+
+    // Bỏ liên kết (có khóa ngoại) tới các đơn ứng tuyển sắp được chuyển sang bảng lưu trữ,
+    // id đơn được giữ lại ở archived_application_id để gắn lại khi khôi phục
+    @Modifying
+    @Query(value = "UPDATE notifications SET archived_application_id = related_application_id, " +
+            "related_application_id = NULL WHERE related_application_id IN " +
+            "(SELECT id FROM job_applications WHERE job_id IN (:jobIds))",
+            nativeQuery = true)
+    int detachApplicationsOfJobs(@Param("jobIds") List<Long> jobIds);
+
+    // Gắn lại liên kết sau khi các đơn ứng tuyển của job đã được khôi phục về bảng chính
+    @Modifying
+    @Query(value = "UPDATE notifications SET related_application_id = archived_application_id, " +
+            "archived_application_id = NULL WHERE archived_application_id IN " +
+            "(SELECT id FROM job_applications WHERE job_id = :jobId)",
+            nativeQuery = true)
+    int reattachApplicationsOfJob(@Param("jobId") Long jobId);
 } 
\ No newline at end of file
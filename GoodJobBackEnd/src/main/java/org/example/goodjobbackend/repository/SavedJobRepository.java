@@ -2,7 +2,11 @@ package org.example.goodjobbackend.repository;
 
 import org.example.goodjobbackend.model.SavedJob;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -29,4 +33,26 @@ public interface SavedJobRepository extends JpaRepository<SavedJob, Long> {
      * Delete a saved job by user and job ids
      */
     void deleteByUserIdAndJobJobId(Long userId, Long jobId);
+    
+    /**
+     * Delete a saved job by user and job ids in a single statement (no select first)
+     * @return the number of rows deleted (0 or 1)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SavedJob s WHERE s.user.id = :userId AND s.job.jobId = :jobId")
+    int deleteByUserIdAndJobId(@Param("userId") Long userId, @Param("jobId") Long jobId);
+    
+    /**
+     * Ids of all jobs saved by a user
+     */
+    @Query("SELECT s.job.jobId FROM SavedJob s WHERE s.user.id = :userId")
+    List<Long> findJobIdsByUserId(@Param("userId") Long userId);
+    
+    /**
+     * Delete all saved jobs that belong to the given jobs
+     */
+    @Modifying
+    @Query("DELETE FROM SavedJob s WHERE s.job.jobId IN :jobIds")
+    int deleteByJobIds(@Param("jobIds") List<Long> jobIds);
 } 
\ No newline at end of file
@@ -13,6 +13,7 @@ import org.example.goodjobbackend.model.UserRole;
 import org.example.goodjobbackend.repository.PendingRegistrationRepository;
 import org.example.goodjobbackend.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -31,6 +32,7 @@ public class AdminAuthService {
     private final UserRepository userRepository;
     private final PendingRegistrationRepository pendingRegistrationRepository;
     private final PasswordEncoder passwordEncoder;
+    @Lazy
     private final EmailService emailService;
 
     @Value("${admin.registration.code:admin123}")
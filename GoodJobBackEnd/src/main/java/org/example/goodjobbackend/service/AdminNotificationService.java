@@ -1,6 +1,6 @@
 package org.example.goodjobbackend.service;
 
-import jakarta.transaction.Transactional;
+import org.example.goodjobbackend.jfr.NotificationFanOutEvent;
 import org.example.goodjobbackend.model.AdminAction;
 import org.example.goodjobbackend.model.AdminNotification;
 import org.example.goodjobbackend.model.Job;
@@ -11,6 +11,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -54,6 +55,15 @@ public class AdminNotificationService {
         return adminNotificationRepository.save(notification);
     }
     
+    // Lưu nhiều thông báo cùng lúc (được gom thành batch insert)
+    public List<AdminNotification> createNotifications(List<AdminNotification> notifications) {
+        NotificationFanOutEvent event = new NotificationFanOutEvent();
+        event.begin();
+        List<AdminNotification> saved = adminNotificationRepository.saveAll(notifications);
+        event.complete("admin", notifications.isEmpty() ? null : notifications.get(0).getType(), notifications.size());
+        return saved;
+    }
+    
     // For testing: Create with specific timestamp
     public AdminNotification createNotificationWithTimestamp(
             AdminAction actionType, User user, String description, 
@@ -74,40 +84,49 @@ public class AdminNotificationService {
         return adminNotificationRepository.save(notification);
     }
     
+    @Transactional(readOnly = true)
     public Page<AdminNotification> getAllNotifications(Pageable pageable) {
         return adminNotificationRepository.findAllByOrderByTimestampDesc(pageable);
     }
     
+    @Transactional(readOnly = true)
     public List<AdminNotification> getRecentNotifications() {
         return adminNotificationRepository.findTop10ByOrderByTimestampDesc();
     }
     
+    @Transactional(readOnly = true)
     public Page<AdminNotification> getNotificationsByType(AdminAction type, Pageable pageable) {
         return adminNotificationRepository.findByTypeOrderByTimestampDesc(type, pageable);
     }
     
+    @Transactional(readOnly = true)
     public Page<AdminNotification> getNotificationsByUser(Long userId, Pageable pageable) {
         return adminNotificationRepository.findByUserIdOrderByTimestampDesc(userId, pageable);
     }
     
+    @Transactional(readOnly = true)
     public Page<AdminNotification> getNotificationsByJob(Long jobId, Pageable pageable) {
         return adminNotificationRepository.findByJobIdOrderByTimestampDesc(jobId, pageable);
     }
     
+    @Transactional(readOnly = true)
     public List<AdminNotification> getNotificationsByDateRange(LocalDateTime start, LocalDateTime end) {
         return adminNotificationRepository.findByTimestampBetweenOrderByTimestampDesc(start, end);
     }
     
     // New methods for read/unread notifications
     
+    @Transactional(readOnly = true)
     public List<AdminNotification> getUnreadNotifications() {
         return adminNotificationRepository.findByReadFalseOrderByTimestampDesc();
     }
     
+    @Transactional(readOnly = true)
     public Page<AdminNotification> getNotificationsByReadStatus(Boolean read, Pageable pageable) {
         return adminNotificationRepository.findByReadOrderByTimestampDesc(read, pageable);
     }
     
+    @Transactional(readOnly = true)
     public Long getUnreadCount() {
         return adminNotificationRepository.countByReadFalse();
     }
@@ -0,0 +1,134 @@
+package org.example.goodjobbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.goodjobbackend.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+
+/**
+ * Xuất danh sách ứng viên của một công việc ra CSV.
+ *
+ * Dữ liệu được đọc bằng cursor JDBC chỉ-tiến (forward-only) với fetch size cố định và ghi ra
+ * từng dòng ngay khi đọc, nên bộ nhớ dùng không phụ thuộc số đơn ứng tuyển của job.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ApplicationExportService {
+
+    private static final String[] HEADER = {
+            "application_id", "applicant_name", "applicant_email", "phone_number",
+            "status", "applied_at", "employer_viewed", "resume_url", "cover_letter"
+    };
+
+    private static final String EXPORT_SQL =
+            "SELECT ja.id, u.full_name, u.email, u.phone_number, ja.status, ja.applied_at, " +
+            "ja.employer_viewed, ja.resume_url, ja.cover_letter " +
+            "FROM job_applications ja JOIN users u ON u.id = ja.applicant_id " +
+            "WHERE ja.job_id = ? " +
+            "ORDER BY ja.applied_at DESC, ja.id DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final JobRepository jobRepository;
+
+    @Value("${app.applications.export.fetch-size:500}")
+    private int fetchSize;
+
+    /**
+     * Kiểm tra job tồn tại và thuộc về employer trước khi bắt đầu ghi response
+     */
+    public void checkAccess(Long jobId, Long employerId) {
+        Long ownerId = jobRepository.findEmployerIdByJobId(jobId)
+                .orElseThrow(() -> new RuntimeException("Không tìm thấy công việc với ID: " + jobId));
+        if (!ownerId.equals(employerId)) {
+            throw new IllegalArgumentException("Công việc không thuộc về nhà tuyển dụng này");
+        }
+    }
+
+    /**
+     * Ghi toàn bộ đơn ứng tuyển của job ra output dưới dạng CSV (UTF-8 có BOM để Excel hiển thị đúng tiếng Việt)
+     * @return số dòng đã ghi
+     */
+    public long exportCsv(Long jobId, OutputStream output) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+        writer.write('\uFEFF');
+        writeRow(writer, HEADER);
+
+        // PostgreSQL chỉ dùng cursor phía server khi đang trong transaction (autocommit = false)
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Long rows = readOnly.execute(status -> jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // MySQL Connector/J chỉ stream từng dòng khi fetch size = Integer.MIN_VALUE
+            boolean mysql = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("mysql");
+            statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+            statement.setLong(1, jobId);
+            return statement;
+        }, resultSet -> {
+            long count = 0;
+            String[] row = new String[HEADER.length];
+            try {
+                while (resultSet.next()) {
+                    row[0] = String.valueOf(resultSet.getLong(1));
+                    row[1] = resultSet.getString(2);
+                    row[2] = resultSet.getString(3);
+                    row[3] = resultSet.getString(4);
+                    row[4] = resultSet.getString(5);
+                    Timestamp appliedAt = resultSet.getTimestamp(6);
+                    row[5] = appliedAt == null ? null : appliedAt.toLocalDateTime().toString();
+                    row[6] = String.valueOf(resultSet.getBoolean(7));
+                    row[7] = resultSet.getString(8);
+                    row[8] = resultSet.getString(9);
+                    writeRow(writer, row);
+                    count++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return count;
+        }));
+        writer.flush();
+        log.info("Đã xuất {} đơn ứng tuyển của công việc {}", rows, jobId);
+        return rows == null ? 0 : rows;
+    }
+
+    private void writeRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(writer, values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    // Escape theo RFC 4180; thêm dấu ' trước các giá trị có thể bị Excel hiểu là công thức
+    private void writeField(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        } else {
+            writer.write(value);
+        }
+    }
+}
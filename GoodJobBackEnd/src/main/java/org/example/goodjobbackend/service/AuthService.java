@@ -12,6 +12,7 @@ import org.example.goodjobbackend.model.UserRole;
 import org.example.goodjobbackend.repository.EmployerRepository;
 import org.example.goodjobbackend.repository.PendingRegistrationRepository;
 import org.example.goodjobbackend.repository.UserRepository;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,6 +27,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PendingRegistrationRepository pendingRegistrationRepository;
     private final PasswordEncoder passwordEncoder;
+    @Lazy
     private final EmailService emailService;
     private final EmployerRepository employerRepository;
 
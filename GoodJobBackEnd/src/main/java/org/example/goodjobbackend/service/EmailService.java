@@ -1,23 +1,55 @@
 package org.example.goodjobbackend.service;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
+import org.example.goodjobbackend.event.ApplicationStatusChangedEvent;
+import org.example.goodjobbackend.jfr.EmailDispatchEvent;
+import org.example.goodjobbackend.model.ApplicationStatus;
 import org.example.goodjobbackend.model.JobApplication;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Khởi tạo trễ: bean (cùng meter gửi email) chỉ được tạo ở lần gửi đầu tiên; các service dùng nó inject qua @Lazy.
+ */
 @Slf4j
 @Service
+@Lazy
 @RequiredArgsConstructor
 public class EmailService {
+    private static final int EMAIL_BATCH_SIZE = 50;
+
     private final JavaMailSender mailSender;
     private final TemplateEngine templateEngine;
+    private final MeterRegistry meterRegistry;
+
+    private enum EmailType { VERIFICATION, OTP, VERIFICATION_CODE, APPLICATION_STATUS }
+
+    // Meter tạo sẵn cho từng loại email để lúc gửi không phải dựng tag
+    private final Map<EmailType, Timer> sendTimers = new EnumMap<>(EmailType.class);
+    private final Map<EmailType, Timer> failedSendTimers = new EnumMap<>(EmailType.class);
+    private final Map<EmailType, Counter> sentMessages = new EnumMap<>(EmailType.class);
 
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -25,6 +57,45 @@ public class EmailService {
     @Value("${app.frontend-url:http://localhost:3000}")
     private String frontendUrl;
 
+    @PostConstruct
+    void registerMetrics() {
+        for (EmailType type : EmailType.values()) {
+            String tag = type.name().toLowerCase();
+            sendTimers.put(type, sendTimer(tag, "success"));
+            failedSendTimers.put(type, sendTimer(tag, "failure"));
+            sentMessages.put(type, Counter.builder("goodjob.email.messages")
+                    .description("Số email đã gửi thành công")
+                    .tag("type", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    private Timer sendTimer(String type, String outcome) {
+        return Timer.builder("goodjob.email.send")
+                .description("Thời gian gửi email qua SMTP (một lần gửi có thể gồm cả lô email)")
+                .tag("type", type)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private void send(EmailType type, MimeMessage... messages) {
+        EmailDispatchEvent event = new EmailDispatchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            mailSender.send(messages);
+            success = true;
+        } finally {
+            (success ? sendTimers : failedSendTimers).get(type).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            event.complete(type.name(), messages.length, success);
+            if (success) {
+                sentMessages.get(type).increment(messages.length);
+            }
+        }
+    }
+
     public void sendVerificationEmail(String to, String token, String fullName) throws MessagingException {
         log.info("Bắt đầu gửi email xác thực đến: {}", to);
         try {
@@ -43,7 +114,7 @@ public class EmailService {
             helper.setSubject("Xác thực tài khoản - GoodJob");
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            send(EmailType.VERIFICATION, message);
             log.info("Đã gửi email xác thực thành công đến: {}", to);
         } catch (Exception e) {
             log.error("Lỗi khi gửi email xác thực đến {}: {}", to, e.getMessage(), e);
@@ -69,7 +140,7 @@ public class EmailService {
             helper.setSubject("Mã xác thực OTP - GoodJob");
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            send(EmailType.OTP, message);
             log.info("Đã gửi email OTP thành công đến: {}", to);
         } catch (Exception e) {
             log.error("Lỗi khi gửi email OTP đến {}: {}", to, e.getMessage(), e);
@@ -95,7 +166,7 @@ public class EmailService {
             helper.setSubject("Mã xác thực đăng ký - GoodJob");
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            send(EmailType.VERIFICATION_CODE, message);
             log.info("Đã gửi mã xác thực thành công đến: {}", to);
         } catch (Exception e) {
             log.error("Lỗi khi gửi mã xác thực đến {}: {}", to, e.getMessage(), e);
@@ -104,15 +175,53 @@ public class EmailService {
     }
 
     public void sendApplicationStatusEmail(JobApplication application) throws MessagingException {
+        send(EmailType.APPLICATION_STATUS, createApplicationStatusMessage(
+                application.getApplicant().getEmail(),
+                application.getApplicant().getFullName(),
+                application.getJob().getTitle(),
+                application.getEmployer().getCompanyName(),
+                application.getStatus()));
+    }
+
+    /**
+     * Gửi email cập nhật trạng thái cho cả lô đơn ứng tuyển sau khi transaction đã commit.
+     * Email được gửi theo từng nhóm qua cùng một kết nối SMTP, chạy nền để không làm chậm request.
+     */
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        List<ApplicationStatusChangedEvent.ChangedApplication> applications = event.getApplications();
+        int sent = 0;
+        for (int from = 0; from < applications.size(); from += EMAIL_BATCH_SIZE) {
+            List<ApplicationStatusChangedEvent.ChangedApplication> batch =
+                    applications.subList(from, Math.min(from + EMAIL_BATCH_SIZE, applications.size()));
+            try {
+                List<MimeMessage> messages = new ArrayList<>(batch.size());
+                for (ApplicationStatusChangedEvent.ChangedApplication application : batch) {
+                    messages.add(createApplicationStatusMessage(application.getApplicantEmail(),
+                            application.getApplicantName(), application.getJobTitle(),
+                            application.getCompanyName(), event.getStatus()));
+                }
+                send(EmailType.APPLICATION_STATUS, messages.toArray(new MimeMessage[0]));
+                sent += messages.size();
+            } catch (MessagingException | MailException e) {
+                log.error("Lỗi khi gửi email cập nhật trạng thái cho {} đơn ứng tuyển: {}", batch.size(), e.getMessage());
+            }
+        }
+        log.info("Đã gửi {}/{} email cập nhật trạng thái đơn ứng tuyển", sent, applications.size());
+    }
+
+    private MimeMessage createApplicationStatusMessage(String to, String applicantName, String jobTitle,
+                                                       String companyName, ApplicationStatus status) throws MessagingException {
         String templateName = "application-status";
         Context context = new Context();
         
         // Thêm các thông tin cần thiết vào context
-        context.setVariable("applicantName", application.getApplicant().getFullName());
-        context.setVariable("jobTitle", application.getJob().getTitle());
-        context.setVariable("companyName", application.getEmployer().getCompanyName());
-        context.setVariable("status", application.getStatus().name());
-        context.setVariable("isApproved", application.getStatus().name().equals("APPROVED"));
+        context.setVariable("applicantName", applicantName);
+        context.setVariable("jobTitle", jobTitle);
+        context.setVariable("companyName", companyName);
+        context.setVariable("status", status.name());
+        context.setVariable("isApproved", status == ApplicationStatus.APPROVED);
         
         // Process template thành HTML
         String emailContent = templateEngine.process(templateName, context);
@@ -121,11 +230,9 @@ public class EmailService {
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
         
-        helper.setTo(application.getApplicant().getEmail());
-        helper.setSubject("Cập nhật trạng thái đơn ứng tuyển - " + application.getJob().getTitle());
+        helper.setTo(to);
+        helper.setSubject("Cập nhật trạng thái đơn ứng tuyển - " + jobTitle);
         helper.setText(emailContent, true);
-
-        // Gửi email
-        mailSender.send(message);
+        return message;
     }
 }
\ No newline at end of file
@@ -3,94 +3,219 @@ package org.example.goodjobbackend.service;
 import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.example.goodjobbackend.dto.BulkApplicationStatusRequest;
+import org.example.goodjobbackend.dto.BulkApplicationStatusResponse;
+import org.example.goodjobbackend.dto.CursorPage;
 import org.example.goodjobbackend.dto.JobApplicationDTO;
 import org.example.goodjobbackend.dto.JobApplicationRequest;
+import org.example.goodjobbackend.event.ApplicationStatusChangedEvent;
+import org.example.goodjobbackend.jfr.ApplicationSubmitEvent;
 import org.example.goodjobbackend.model.ApplicationStatus;
 import org.example.goodjobbackend.model.JobApplication;
+import org.example.goodjobbackend.model.Notification;
 import org.example.goodjobbackend.model.NotificationType;
+import org.example.goodjobbackend.repository.ArchivedJobApplicationRepository;
 import org.example.goodjobbackend.repository.JobApplicationRepository;
 import org.example.goodjobbackend.repository.JobRepository;
 import org.example.goodjobbackend.repository.UserRepository;
 import org.example.goodjobbackend.repository.EmployerRepository;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class JobApplicationService {
 
+    private static final String UNIQUE_APPLICATION_CONSTRAINT = "uk_job_applications_job_applicant";
+
     private final JobApplicationRepository jobApplicationRepository;
+    @Lazy
     private final EmailService emailService;
     private final JobRepository jobRepository;
     private final UserRepository userRepository;
     private final EmployerRepository employerRepository;
     private final NotificationService notificationService;
+    private final ArchivedJobApplicationRepository archivedJobApplicationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JobMembershipService jobMembershipService;
+
+    @Value("${app.applications.bulk.max-size:1000}")
+    private int maxBulkSize;
 
     /**
-     * Nộp đơn ứng tuyển
+     * Nộp đơn ứng tuyển.
+     * Việc chống nộp trùng dựa vào unique constraint (job_id, applicant_id) thay vì kiểm tra trước,
+     * nên hai request đồng thời không thể cùng tạo đơn. Job, ứng viên và nhà tuyển dụng chỉ được
+     * gắn bằng tham chiếu id, không nạp cả entity.
      */
     @jakarta.transaction.Transactional
     public JobApplication apply(JobApplicationRequest request) {
-        // Kiểm tra xem đã apply chưa
-        List<JobApplication> existingApplications = jobApplicationRepository.findByJobIdAndApplicantId(
-                request.getJobId(), request.getApplicantId());
-        if (!existingApplications.isEmpty()) {
-            throw new RuntimeException("Bạn đã ứng tuyển vị trí này rồi");
-        }
+        ApplicationSubmitEvent event = new ApplicationSubmitEvent();
+        event.begin();
+        String outcome = ApplicationSubmitEvent.FAILURE;
+        try {
+            Long employerId = jobRepository.findEmployerIdByJobId(request.getJobId())
+                    .orElseThrow(() -> new RuntimeException("Không tìm thấy công việc với ID: " + request.getJobId()));
 
-        // Tìm job, user và employer
-        var job = jobRepository.findById(request.getJobId())
-                .orElseThrow(() -> new RuntimeException("Không tìm thấy công việc với ID: " + request.getJobId()));
-        
-        var applicant = userRepository.findById(request.getApplicantId())
-                .orElseThrow(() -> new RuntimeException("Không tìm thấy người dùng với ID: " + request.getApplicantId()));
-        
-        var employer = employerRepository.findById(job.getEmployerId())
-                .orElseThrow(() -> new RuntimeException("Không tìm thấy nhà tuyển dụng với ID: " + job.getEmployerId()));
-
-        // Tạo đơn ứng tuyển mới
-        JobApplication application = JobApplication.builder()
-                .job(job)
-                .applicant(applicant)
-                .employer(employer)
-                .coverLetter(request.getCoverLetter())
-                .resumeUrl(request.getResumeUrl())
-                .status(ApplicationStatus.PENDING)
-                .employerViewed(false)
-                .build();
+            // Tạo đơn ứng tuyển mới
+            JobApplication application = JobApplication.builder()
+                    .job(jobRepository.getReferenceById(request.getJobId()))
+                    .applicant(userRepository.getReferenceById(request.getApplicantId()))
+                    .employer(employerRepository.getReferenceById(employerId))
+                    .coverLetter(request.getCoverLetter())
+                    .resumeUrl(request.getResumeUrl())
+                    .status(ApplicationStatus.PENDING)
+                    .employerViewed(false)
+                    .build();
+
+            // Kiểm tra trước vì sau khi INSERT lỗi, transaction trên PostgreSQL không còn chạy được câu nào khác
+            if (!userRepository.existsById(request.getApplicantId())) {
+                throw new RuntimeException("Không tìm thấy người dùng với ID: " + request.getApplicantId());
+            }
 
-        // Lưu đơn ứng tuyển
-        application = jobApplicationRepository.save(application);
+            try {
+                // Flush ngay để vi phạm unique constraint xuất hiện tại đây chứ không phải lúc commit
+                // (id dạng sequence nên save() chỉ xếp câu INSERT vào hàng đợi, câu UPDATE JPQL bên dưới không flush nó)
+                application = jobApplicationRepository.saveAndFlush(application);
+            } catch (DataIntegrityViolationException e) {
+                if (isDuplicateApplication(e)) {
+                    outcome = ApplicationSubmitEvent.DUPLICATE;
+                    throw new RuntimeException("Bạn đã ứng tuyển vị trí này rồi");
+                }
+                throw e;
+            }
 
-        // Tăng số lượng ứng tuyển của job
-        jobRepository.incrementApplyCount(request.getJobId());
+            // Tăng số lượng ứng tuyển của job
+            jobRepository.incrementApplyCount(request.getJobId());
 
-        return application;
+            jobMembershipService.onApplied(request.getApplicantId(), request.getJobId());
+            outcome = ApplicationSubmitEvent.SUCCESS;
+            return application;
+        } finally {
+            event.complete(request.getJobId(), request.getApplicantId(), outcome);
+        }
     }
 
+    // Kiểm tra lỗi có phải do vi phạm unique constraint (job_id, applicant_id) hay không
+    private boolean isDuplicateApplication(DataIntegrityViolationException e) {
+        Throwable cause = e;
+        while (cause != null) {
+            if (cause instanceof ConstraintViolationException violation) {
+                String constraintName = violation.getConstraintName();
+                return constraintName != null
+                        && constraintName.toLowerCase().contains(UNIQUE_APPLICATION_CONSTRAINT);
+            }
+            cause = cause.getCause();
+        }
+        return false;
+    }
+
+    @Transactional(readOnly = true)
     public List<JobApplicationDTO> getApplicationsByUserId(Long userId) {
-        List<JobApplication> applications = jobApplicationRepository.findByApplicantId(userId);
-        return applications.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        List<JobApplicationDTO> result = new ArrayList<>(
+                jobApplicationRepository.findDTOsByApplicantId(userId, null, null, Pageable.unpaged()).getContent());
+        // Bổ sung các đơn ứng tuyển thuộc công việc đã được lưu trữ
+        result.addAll(archivedJobApplicationRepository.findDTOsByApplicantId(userId));
+        return result;
     }
 
+    @Transactional(readOnly = true)
     public List<JobApplicationDTO> getApplicationsByJobId(Long jobId) {
-        List<JobApplication> applications = jobApplicationRepository.findByJobId(jobId);
-        return applications.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return jobApplicationRepository.findDTOsByJobId(jobId, null, null, Pageable.unpaged()).getContent();
     }
 
+    @Transactional(readOnly = true)
     public List<JobApplicationDTO> getApplicationsByEmployerId(Long employerId) {
-        List<JobApplication> applications = jobApplicationRepository.findByEmployerId(employerId);
-        return applications.stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        return jobApplicationRepository.findDTOsByEmployerId(employerId, null, null, Pageable.unpaged()).getContent();
+    }
+
+    // Các biến thể phân trang, lọc theo trạng thái và trạng thái đã xem (null = không lọc)
+
+    @Transactional(readOnly = true)
+    public Page<JobApplicationDTO> getApplicationsByUserId(Long userId, ApplicationStatus status, Pageable pageable) {
+        return jobApplicationRepository.findDTOsByApplicantId(userId, status, null, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<JobApplicationDTO> getApplicationsByJobId(Long jobId, ApplicationStatus status, Boolean viewed,
+                                                          Pageable pageable) {
+        return jobApplicationRepository.findDTOsByJobId(jobId, status, viewed, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<JobApplicationDTO> getApplicationsByEmployerId(Long employerId, ApplicationStatus status, Boolean viewed,
+                                                               Pageable pageable) {
+        return jobApplicationRepository.findDTOsByEmployerId(employerId, status, viewed, pageable);
+    }
+
+    // Phân trang theo cursor: không cần đếm tổng và không bị chậm dần ở các trang sâu
+
+    @Transactional(readOnly = true)
+    public CursorPage<JobApplicationDTO> getApplicationsByJobIdAfter(Long jobId, ApplicationStatus status, Boolean viewed,
+                                                                     String cursor, int size) {
+        ApplicationCursor after = ApplicationCursor.decode(cursor);
+        List<JobApplicationDTO> items = after == null
+                ? jobApplicationRepository.findFirstDTOsByJobId(jobId, status, viewed, PageRequest.of(0, size))
+                : jobApplicationRepository.findDTOsByJobIdAfter(
+                        jobId, status, viewed, after.appliedAt(), after.id(), PageRequest.of(0, size));
+        return toCursorPage(items, size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<JobApplicationDTO> getApplicationsByEmployerIdAfter(Long employerId, ApplicationStatus status,
+                                                                          Boolean viewed, String cursor, int size) {
+        ApplicationCursor after = ApplicationCursor.decode(cursor);
+        List<JobApplicationDTO> items = after == null
+                ? jobApplicationRepository.findFirstDTOsByEmployerId(employerId, status, viewed, PageRequest.of(0, size))
+                : jobApplicationRepository.findDTOsByEmployerIdAfter(
+                        employerId, status, viewed, after.appliedAt(), after.id(), PageRequest.of(0, size));
+        return toCursorPage(items, size);
+    }
+
+    private CursorPage<JobApplicationDTO> toCursorPage(List<JobApplicationDTO> items, int size) {
+        String nextCursor = null;
+        if (items.size() == size && !items.isEmpty()) {
+            JobApplicationDTO last = items.get(items.size() - 1);
+            nextCursor = new ApplicationCursor(last.getAppliedAt(), last.getId()).encode();
+        }
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    // Cursor dạng "appliedAt|id" được mã hóa base64 để client chỉ cần gửi lại nguyên chuỗi
+    private record ApplicationCursor(LocalDateTime appliedAt, Long id) {
+        // null nếu không có cursor (trang đầu)
+        static ApplicationCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+                if (parts.length != 2) {
+                    throw new IllegalArgumentException("Cursor không hợp lệ");
+                }
+                return new ApplicationCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Cursor không hợp lệ");
+            }
+        }
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((appliedAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+        }
     }
 
     @Transactional
@@ -154,6 +279,111 @@ public class JobApplicationService {
         return convertToDTO(updatedApplication);
     }
 
+    /**
+     * Cập nhật trạng thái hàng loạt cho các đơn ứng tuyển.
+     * Các đơn được khóa (SELECT ... FOR UPDATE) trước khi đọc trạng thái, nên request đồng thời cho cùng đơn
+     * chờ nhau và mỗi thay đổi chỉ được báo một lần.
+     * Trạng thái được cập nhật bằng một câu UPDATE theo tập id; thông báo cho ứng viên được batch insert,
+     * mỗi employer chỉ nhận một thông báo tổng hợp, còn email được gửi nền sau khi commit.
+     */
+    @Transactional
+    public BulkApplicationStatusResponse updateApplicationStatuses(BulkApplicationStatusRequest request) {
+        ApplicationStatus status = request.getStatus();
+        if (status == null) {
+            throw new IllegalArgumentException("Trạng thái không được để trống");
+        }
+        List<Long> ids = request.getApplicationIds() == null ? new ArrayList<>()
+                : new ArrayList<>(new LinkedHashSet<>(request.getApplicationIds()));
+        ids.removeIf(Objects::isNull);
+        if (ids.size() > maxBulkSize) {
+            throw new IllegalArgumentException("Chỉ được cập nhật tối đa " + maxBulkSize + " đơn ứng tuyển mỗi lần");
+        }
+        if (ids.isEmpty()) {
+            return new BulkApplicationStatusResponse(0, List.of(), List.of(), List.of());
+        }
+
+        // Khóa trước khi đọc: trạng thái cũ, thông báo và event chỉ dựa trên các đơn mà câu UPDATE thực sự đổi
+        jobApplicationRepository.lockByIds(ids);
+        Map<Long, Object[]> targets = new HashMap<>();
+        for (Object[] row : jobApplicationRepository.findStatusTargets(ids)) {
+            if (request.getEmployerId() == null || request.getEmployerId().equals(row[6])) {
+                targets.put((Long) row[0], row);
+            }
+        }
+
+        List<Long> updatedIds = new ArrayList<>();
+        List<Long> unchangedIds = new ArrayList<>();
+        List<Long> notFoundIds = new ArrayList<>();
+        for (Long id : ids) {
+            Object[] row = targets.get(id);
+            if (row == null) {
+                notFoundIds.add(id);
+            } else if (row[1] == status) {
+                unchangedIds.add(id);
+            } else {
+                updatedIds.add(id);
+            }
+        }
+        if (updatedIds.isEmpty()) {
+            return new BulkApplicationStatusResponse(ids.size(), updatedIds, unchangedIds, notFoundIds);
+        }
+
+        int count = jobApplicationRepository.updateStatuses(updatedIds, status);
+        if (count != updatedIds.size()) {
+            throw new IllegalStateException("Số đơn ứng tuyển được cập nhật (" + count + ") khác với số đơn đã khóa ("
+                    + updatedIds.size() + ")");
+        }
+
+        // Chỉ gửi email và thông báo khi trạng thái mới là APPROVED hoặc REJECTED
+        if (status == ApplicationStatus.APPROVED || status == ApplicationStatus.REJECTED) {
+            notifyStatusChanges(updatedIds, targets, status);
+        }
+
+        return new BulkApplicationStatusResponse(ids.size(), updatedIds, unchangedIds, notFoundIds);
+    }
+
+    private void notifyStatusChanges(List<Long> updatedIds, Map<Long, Object[]> targets, ApplicationStatus status) {
+        String statusText = status == ApplicationStatus.APPROVED ? "chấp nhận" : "từ chối";
+        List<Notification> notifications = new ArrayList<>();
+        List<ApplicationStatusChangedEvent.ChangedApplication> changed = new ArrayList<>();
+        // employerId -> tên các vị trí có đơn được cập nhật
+        Map<Long, List<String>> jobTitlesByEmployer = new LinkedHashMap<>();
+
+        for (Long id : updatedIds) {
+            Object[] row = targets.get(id);
+            String jobTitle = (String) row[5];
+            String companyName = (String) row[7];
+
+            // Thông báo cho ứng viên
+            Notification notification = new Notification();
+            notification.setUser(userRepository.getReferenceById((Long) row[2]));
+            notification.setTitle("Cập nhật trạng thái đơn ứng tuyển");
+            notification.setContent(String.format("Đơn ứng tuyển của bạn cho vị trí %s tại %s đã được %s",
+                    jobTitle, companyName, statusText));
+            notification.setType(NotificationType.APPLICATION_STATUS);
+            notification.setRelatedApplication(jobApplicationRepository.getReferenceById(id));
+            notifications.add(notification);
+
+            changed.add(new ApplicationStatusChangedEvent.ChangedApplication(
+                    id, (String) row[4], (String) row[3], jobTitle, companyName));
+            jobTitlesByEmployer.computeIfAbsent((Long) row[6], employerId -> new ArrayList<>()).add(jobTitle);
+        }
+
+        // Một thông báo tổng hợp cho mỗi employer (employer id trùng với user id)
+        jobTitlesByEmployer.forEach((employerId, jobTitles) -> {
+            Notification digest = new Notification();
+            digest.setUser(userRepository.getReferenceById(employerId));
+            digest.setTitle("Cập nhật trạng thái đơn ứng tuyển");
+            digest.setContent(String.format("Đã %s %d đơn ứng tuyển cho các vị trí: %s",
+                    statusText, jobTitles.size(), String.join(", ", new LinkedHashSet<>(jobTitles))));
+            digest.setType(NotificationType.APPLICATION_STATUS);
+            notifications.add(digest);
+        });
+
+        notificationService.createNotifications(notifications);
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(changed, status));
+    }
+
     @Transactional
     public JobApplicationDTO markAsViewed(Long applicationId) {
         JobApplication application = jobApplicationRepository.findById(applicationId)
@@ -164,6 +394,7 @@ public class JobApplicationService {
         return convertToDTO(updatedApplication);
     }
 
+    @Transactional(readOnly = true)
     public JobApplication getJobApplicationById(Long id) {
         return jobApplicationRepository.findById(id)
             .orElseThrow(() -> new RuntimeException("Không tìm thấy đơn ứng tuyển với id: " + id));
@@ -0,0 +1,169 @@
+package org.example.goodjobbackend.service;
+
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.goodjobbackend.dto.JobCacheKey;
+import org.example.goodjobbackend.model.*;
+import org.example.goodjobbackend.repository.*;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Chuyển các job "lạnh" (DELETED, REJECTED hoặc EXPIRED lâu ngày) cùng các đơn ứng tuyển
+ * và lượt lưu của chúng sang các bảng *_archive để giữ bảng jobs nhỏ gọn.
+ * Mỗi lô được chuyển trong một transaction riêng; dữ liệu có thể được khôi phục lại.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobArchiveService {
+
+    private static final List<JobStatus> COLD_STATUSES = List.of(JobStatus.DELETED, JobStatus.REJECTED);
+
+    private final JobRepository jobRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final SavedJobRepository savedJobRepository;
+    private final NotificationRepository notificationRepository;
+    private final ArchivedJobRepository archivedJobRepository;
+    private final ArchivedJobApplicationRepository archivedJobApplicationRepository;
+    private final ArchivedSavedJobRepository archivedSavedJobRepository;
+    private final EmployerRepository employerRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JobMembershipService jobMembershipService;
+
+    @Value("${app.jobs.archive.batch-size:200}")
+    private int batchSize;
+
+    // Thời gian một job phải ở trạng thái "lạnh" trước khi được lưu trữ
+    @Value("${app.jobs.archive.retention:P30D}")
+    private Duration retention;
+
+    /**
+     * Lưu trữ toàn bộ job "lạnh" theo từng lô
+     * @return số job đã được lưu trữ
+     */
+    @Scheduled(cron = "${app.jobs.archive.cron:0 30 3 * * *}")
+    public int archiveColdJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(retention);
+        int total = 0;
+        while (true) {
+            Integer archived = transactionTemplate.execute(status -> {
+                List<Long> jobIds = jobRepository.findArchivableJobIds(
+                        COLD_STATUSES, JobStatus.EXPIRED, cutoff, PageRequest.of(0, batchSize));
+                if (!jobIds.isEmpty()) {
+                    archiveBatch(jobIds, now);
+                }
+                return jobIds.size();
+            });
+            if (archived == null || archived == 0) {
+                break;
+            }
+            total += archived;
+            if (archived < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Đã lưu trữ {} công việc", total);
+        }
+        return total;
+    }
+
+    // Sao chép sang bảng lưu trữ rồi xóa khỏi bảng chính, con trước cha sau
+    private void archiveBatch(List<Long> jobIds, LocalDateTime archivedAt) {
+        archivedJobRepository.copyFromLive(jobIds, archivedAt);
+        archivedJobApplicationRepository.copyFromLive(jobIds, archivedAt);
+        archivedSavedJobRepository.copyFromLive(jobIds, archivedAt);
+
+        notificationRepository.detachApplicationsOfJobs(jobIds);
+        savedJobRepository.deleteByJobIds(jobIds);
+        jobApplicationRepository.deleteByJobIds(jobIds);
+        jobRepository.deleteAllByIdInBatch(jobIds);
+        invalidateMembershipsAfterCommit();
+    }
+
+    /**
+     * Khôi phục một job đã lưu trữ cùng các đơn ứng tuyển và lượt lưu về bảng chính,
+     * thông báo của các đơn được gắn lại với đơn như trước khi lưu trữ
+     */
+    @Transactional
+    public void restoreJob(Long jobId) {
+        if (!archivedJobRepository.existsById(jobId)) {
+            throw new EntityNotFoundException("Không tìm thấy công việc đã lưu trữ với id: " + jobId);
+        }
+        archivedJobRepository.copyToLive(jobId);
+        archivedJobApplicationRepository.copyToLive(jobId);
+        archivedSavedJobRepository.copyToLive(jobId);
+        notificationRepository.reattachApplicationsOfJob(jobId);
+
+        archivedSavedJobRepository.deleteByJobId(jobId);
+        archivedJobApplicationRepository.deleteByJobId(jobId);
+        archivedJobRepository.deleteById(jobId);
+        invalidateMembershipsAfterCommit();
+    }
+
+    // Cache saved/applied chỉ được xóa khi transaction đã commit, để không request nào nạp lại nó từ dữ liệu cũ
+    private void invalidateMembershipsAfterCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                jobMembershipService.invalidateAll();
+            }
+        });
+    }
+
+    /**
+     * Tìm job trong bảng lưu trữ, trả về dưới dạng Job (chỉ dùng để đọc, không được lưu lại)
+     */
+    public Optional<Job> findArchivedJob(Long jobId) {
+        return archivedJobRepository.findById(jobId).map(this::toJob);
+    }
+
+    public Optional<JobCacheKey> findArchivedJobCacheKey(Long jobId) {
+        return archivedJobRepository.findCacheKeyById(jobId);
+    }
+
+    public boolean isArchived(Long jobId) {
+        return archivedJobRepository.existsById(jobId);
+    }
+
+    private Job toJob(ArchivedJob archived) {
+        Job job = new Job();
+        job.setJobId(archived.getJobId());
+        job.setVersion(archived.getVersion());
+        job.setEmployerId(archived.getEmployerId());
+        job.setEmployer(employerRepository.findById(archived.getEmployerId()).orElse(null));
+        job.setTitle(archived.getTitle());
+        job.setDescription(archived.getDescription());
+        job.setRequirement(archived.getRequirement());
+        job.setLocation(archived.getLocation());
+        job.setJobType(archived.getJobType());
+        job.setSalaryMin(archived.getSalaryMin());
+        job.setSalaryMax(archived.getSalaryMax());
+        job.setSalaryCurrency(archived.getSalaryCurrency());
+        job.setApplyCount(archived.getApplyCount());
+        job.setViewCount(archived.getViewCount());
+        job.setPostedAt(archived.getPostedAt());
+        job.setExpireAt(archived.getExpireAt());
+        job.setIsSalaryPublic(archived.getIsSalaryPublic());
+        job.setIsActive(archived.getIsActive());
+        job.setStatus(archived.getStatus());
+        job.setRejectionReason(archived.getRejectionReason());
+        job.setImageUrl(archived.getImageUrl());
+        job.setProcessedAt(archived.getProcessedAt());
+        return job;
+    }
+}
@@ -0,0 +1,184 @@
+package org.example.goodjobbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.goodjobbackend.event.JobsExpiredEvent;
+import org.example.goodjobbackend.model.JobStatus;
+import org.example.goodjobbackend.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Xử lý hết hạn công việc dựa trên Job.expireAt.
+ *
+ * Các job APPROVED sắp hết hạn trong khoảng lookahead được nạp vào một hàng đợi ưu tiên
+ * theo thời điểm hết hạn; service chỉ thức dậy đúng lúc job đầu hàng đợi hết hạn (hoặc khi
+ * hết khoảng lookahead) và quét theo lô các job quá hạn bằng index (status, expire_at).
+ * Hàng đợi chỉ quyết định thời điểm thức dậy, còn việc chuyển trạng thái luôn dựa trên DB,
+ * nên một mục cũ trong hàng đợi chỉ gây ra một lần quét thừa.
+ * Mỗi lô khóa các dòng quá hạn (FOR UPDATE SKIP LOCKED) trước khi cập nhật, nên sự kiện hết hạn chỉ phát
+ * cho đúng những job mà lô đó đã chuyển trạng thái, kể cả khi nhiều instance hay thao tác khác chạy đồng thời.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobExpiryService {
+
+    private final JobRepository jobRepository;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.jobs.expiry.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.jobs.expiry.lookahead:PT1H}")
+    private Duration lookahead;
+
+    private final PriorityQueue<UpcomingExpiry> queue =
+            new PriorityQueue<>(Comparator.comparing(UpcomingExpiry::expireAt));
+
+    private LocalDateTime loadedUntil;
+    private LocalDateTime nextWakeUpAt;
+    private ScheduledFuture<?> nextWakeUp;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        taskScheduler.schedule(this::runCycle, LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    /**
+     * Đăng ký thời điểm hết hạn của một job vừa được duyệt hoặc cập nhật.
+     * Chỉ những job hết hạn trong khoảng đã nạp mới cần vào hàng đợi; phần còn lại
+     * sẽ được nạp ở lần làm mới tiếp theo.
+     */
+    public void track(Long jobId, LocalDateTime expireAt) {
+        if (jobId == null || expireAt == null) {
+            return;
+        }
+        synchronized (queue) {
+            if (loadedUntil == null || expireAt.isAfter(loadedUntil)) {
+                return;
+            }
+            queue.add(new UpcomingExpiry(jobId, expireAt));
+            scheduleNext();
+        }
+    }
+
+    /**
+     * Chuyển toàn bộ job APPROVED đã quá hạn sang EXPIRED, mỗi lô trong một transaction riêng.
+     * @return số job đã hết hạn
+     */
+    public int expireDueJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        while (true) {
+            // Các dòng đọc được đã bị khóa nên câu UPDATE cập nhật đúng từng dòng đó, không hơn không kém
+            List<Object[]> due = transactionTemplate.execute(status -> {
+                List<Object[]> rows = jobRepository.lockDueForExpiry(now, batchSize);
+                if (!rows.isEmpty()) {
+                    List<Long> jobIds = rows.stream().map(row -> ((Number) row[0]).longValue()).toList();
+                    int updated = jobRepository.expireJobs(jobIds, JobStatus.EXPIRED, now);
+                    if (updated != rows.size()) {
+                        throw new IllegalStateException("Số công việc hết hạn (" + updated
+                                + ") khác số dòng đã khóa (" + rows.size() + ")");
+                    }
+                }
+                return rows;
+            });
+            if (due == null || due.isEmpty()) {
+                break;
+            }
+
+            List<JobsExpiredEvent.ExpiredJob> expiredJobs = due.stream()
+                    .map(row -> new JobsExpiredEvent.ExpiredJob(((Number) row[0]).longValue(), (String) row[1],
+                            ((Number) row[2]).longValue()))
+                    .toList();
+            eventPublisher.publishEvent(new JobsExpiredEvent(expiredJobs, now));
+            total += due.size();
+
+            if (due.size() < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Đã chuyển {} công việc sang trạng thái hết hạn", total);
+        }
+        return total;
+    }
+
+    private synchronized void runCycle() {
+        try {
+            expireDueJobs();
+        } catch (Exception e) {
+            log.error("Lỗi khi xử lý công việc hết hạn: {}", e.getMessage(), e);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        synchronized (queue) {
+            while (!queue.isEmpty() && !queue.peek().expireAt().isAfter(now)) {
+                queue.poll();
+            }
+            if (loadedUntil == null || !loadedUntil.isAfter(now)) {
+                refill(now);
+            }
+            nextWakeUpAt = null;
+            scheduleNext();
+        }
+    }
+
+    // Nạp lại hàng đợi với các job hết hạn trong khoảng (now, now + lookahead]
+    private void refill(LocalDateTime now) {
+        LocalDateTime horizon = now.plus(lookahead);
+        List<Object[]> upcoming;
+        try {
+            upcoming = jobRepository.findUpcomingExpirations(now, horizon, PageRequest.of(0, batchSize));
+        } catch (Exception e) {
+            log.error("Lỗi khi nạp danh sách công việc sắp hết hạn: {}", e.getMessage(), e);
+            loadedUntil = now.plus(Duration.ofMinutes(1));
+            return;
+        }
+
+        queue.clear();
+        upcoming.forEach(row -> queue.add(new UpcomingExpiry((Long) row[0], (LocalDateTime) row[1])));
+
+        // Nếu kết quả bị cắt bởi batchSize thì chỉ coi như đã nạp đến job cuối cùng
+        loadedUntil = upcoming.size() < batchSize
+                ? horizon
+                : (LocalDateTime) upcoming.get(upcoming.size() - 1)[1];
+    }
+
+    // Hẹn giờ thức dậy tại thời điểm hết hạn sớm nhất, hoặc khi cần nạp lại hàng đợi
+    private void scheduleNext() {
+        LocalDateTime wakeUpAt = loadedUntil;
+        if (!queue.isEmpty() && queue.peek().expireAt().isBefore(wakeUpAt)) {
+            wakeUpAt = queue.peek().expireAt();
+        }
+        if (nextWakeUp != null && !nextWakeUp.isDone() && nextWakeUpAt != null
+                && !nextWakeUpAt.isAfter(wakeUpAt)) {
+            return;
+        }
+        if (nextWakeUp != null) {
+            nextWakeUp.cancel(false);
+        }
+        nextWakeUpAt = wakeUpAt;
+        nextWakeUp = taskScheduler.schedule(this::runCycle, wakeUpAt.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private record UpcomingExpiry(Long jobId, LocalDateTime expireAt) {
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.goodjobbackend.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * Đọc tuần tự từng dòng của file nhập công việc (CSV có header hoặc mảng JSON),
+ * mỗi dòng được trả về dưới dạng map tên cột đã chuẩn hóa -> giá trị chuỗi. Không nạp cả file vào bộ nhớ.
+ */
+public abstract class JobImportReader implements Closeable {
+
+    public static JobImportReader open(Path file, String format, ObjectMapper objectMapper) throws IOException {
+        InputStream input = new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+        if ("json".equalsIgnoreCase(format)) {
+            return new JsonReader(objectMapper.getFactory().createParser(input), objectMapper);
+        }
+        return new CsvReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+    }
+
+    // Tên cột không phân biệt hoa thường, bỏ "_" và khoảng trắng: "salary_min", "Salary Min" -> "salarymin"
+    public static String normalize(String column) {
+        return column.trim().toLowerCase().replace("_", "").replace(" ", "");
+    }
+
+    /**
+     * @return dòng tiếp theo, hoặc null khi đã hết file
+     */
+    public abstract Map<String, String> next() throws IOException;
+
+    // CSV theo RFC 4180: hỗ trợ giá trị trong dấu ngoặc kép chứa dấu phẩy, xuống dòng và "" escape
+    private static final class CsvReader extends JobImportReader {
+        private final BufferedReader reader;
+        private final List<String> header;
+
+        CsvReader(BufferedReader reader) throws IOException {
+            this.reader = reader;
+            List<String> columns = readRecord();
+            if (columns == null) {
+                throw new IOException("File CSV trống");
+            }
+            // Bỏ BOM nếu file được lưu từ Excel
+            if (!columns.isEmpty() && columns.get(0).startsWith("\uFEFF")) {
+                columns.set(0, columns.get(0).substring(1));
+            }
+            this.header = columns.stream().map(JobImportReader::normalize).toList();
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            List<String> values;
+            do {
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isBlank());
+
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < header.size() && i < values.size(); i++) {
+                row.put(header.get(i), values.get(i));
+            }
+            return row;
+        }
+
+        private List<String> readRecord() throws IOException {
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            List<String> values = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int nextChar = reader.read();
+                        if (nextChar == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            if (nextChar != -1) {
+                                reader.reset();
+                            }
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            values.add(field.toString());
+            return values;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    // Mảng JSON các object, đọc bằng streaming parser từng phần tử một
+    private static final class JsonReader extends JobImportReader {
+        private final JsonParser parser;
+        private final ObjectMapper objectMapper;
+        private boolean started;
+
+        JsonReader(JsonParser parser, ObjectMapper objectMapper) {
+            this.parser = parser;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public Map<String, String> next() throws IOException {
+            if (!started) {
+                if (parser.nextToken() != JsonToken.START_ARRAY) {
+                    throw new IOException("File JSON phải là một mảng các công việc");
+                }
+                started = true;
+            }
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            JsonNode node = objectMapper.readTree(parser);
+            Map<String, String> row = new HashMap<>();
+            node.fields().forEachRemaining(field ->
+                    row.put(normalize(field.getKey()), field.getValue().isNull() ? null : field.getValue().asText()));
+            return row;
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
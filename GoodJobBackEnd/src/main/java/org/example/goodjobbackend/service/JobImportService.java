@@ -0,0 +1,420 @@
+package org.example.goodjobbackend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.goodjobbackend.dto.JobImportError;
+import org.example.goodjobbackend.dto.JobImportStatus;
+import org.example.goodjobbackend.model.AdminAction;
+import org.example.goodjobbackend.model.Job;
+import org.example.goodjobbackend.model.JobImport;
+import org.example.goodjobbackend.model.JobType;
+import org.example.goodjobbackend.model.User;
+import org.example.goodjobbackend.repository.EmployerRepository;
+import org.example.goodjobbackend.repository.JobImportRepository;
+import org.example.goodjobbackend.repository.JobRepository;
+import org.example.goodjobbackend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+/**
+ * Nhập hàng loạt công việc từ file CSV/JSON cho nhà tuyển dụng.
+ *
+ * File được lưu xuống thư mục import rồi xử lý nền: đọc tuần tự từng lô, kiểm tra các dòng
+ * trong lô song song, rồi insert các dòng hợp lệ bằng JDBC batch và cập nhật tiến độ (bảng job_imports)
+ * trong cùng một transaction. Lượt nhập bị gián đoạn (lỗi DB, khởi động lại ứng dụng) tiếp tục đúng
+ * từ lô chưa commit. Mỗi lượt nhập chỉ tạo một thông báo admin tổng hợp.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int MAX_TITLE_LENGTH = 255;
+    private static final TypeReference<List<JobImportError>> ERRORS_TYPE = new TypeReference<>() {
+    };
+
+    private final JobRepository jobRepository;
+    private final JobImportRepository jobImportRepository;
+    private final EmployerRepository employerRepository;
+    private final UserRepository userRepository;
+    private final AdminNotificationService adminNotificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.jobs.import.dir:${java.io.tmpdir}/goodjob-imports}")
+    private Path importDir;
+
+    @Value("${app.jobs.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.jobs.import.concurrency:2}")
+    private int concurrency;
+
+    // Lượt nhập đã dùng trên instance này; lượt nhập khác được đọc từ database khi cần
+    private final Map<String, JobImportStatus> imports = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() throws IOException {
+        Files.createDirectories(importDir);
+        executor = Executors.newFixedThreadPool(concurrency);
+    }
+
+    // Lượt nhập đang chạy dở khi ứng dụng dừng coi như bị gián đoạn
+    // (chạy khi ứng dụng đã sẵn sàng, không truy cập database lúc dựng context)
+    @EventListener(ApplicationReadyEvent.class)
+    public void markInterruptedImports() {
+        jobImportRepository.markInterrupted(
+                List.of(JobImportStatus.State.RUNNING, JobImportStatus.State.QUEUED),
+                JobImportStatus.State.FAILED,
+                "Bị gián đoạn do ứng dụng khởi động lại, có thể tiếp tục");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Lưu file và bắt đầu nhập nền
+     * @return trạng thái ban đầu (chứa importId để theo dõi tiến độ)
+     */
+    public JobImportStatus submit(Long employerId, MultipartFile file) throws IOException {
+        if (employerId == null || employerRepository.findByUserId(employerId).isEmpty()) {
+            throw new RuntimeException("Không tìm thấy thông tin nhà tuyển dụng");
+        }
+        if (file == null || file.isEmpty()) {
+            throw new IllegalArgumentException("File nhập không được để trống");
+        }
+        String fileName = file.getOriginalFilename() == null ? "import" : file.getOriginalFilename();
+        String format = fileName.toLowerCase().endsWith(".json") ? "json" : "csv";
+
+        JobImportStatus status = new JobImportStatus();
+        status.setImportId(UUID.randomUUID().toString());
+        status.setEmployerId(employerId);
+        status.setFileName(fileName);
+        status.setFormat(format);
+        status.setState(JobImportStatus.State.QUEUED);
+        status.setCreatedAt(LocalDateTime.now());
+
+        try (InputStream input = file.getInputStream()) {
+            Files.copy(input, dataFile(status), StandardCopyOption.REPLACE_EXISTING);
+        }
+        imports.put(status.getImportId(), status);
+        saveState(status);
+        executor.submit(() -> run(status));
+        return snapshot(status);
+    }
+
+    /**
+     * Tiếp tục một lượt nhập bị lỗi từ lô chưa commit
+     */
+    public JobImportStatus resume(String importId) {
+        JobImportStatus status = findImport(importId);
+        synchronized (status) {
+            if (status.getState() != JobImportStatus.State.FAILED) {
+                throw new IllegalStateException("Chỉ có thể tiếp tục lượt nhập đã bị lỗi");
+            }
+            status.setState(JobImportStatus.State.QUEUED);
+            status.setMessage(null);
+        }
+        saveState(status);
+        executor.submit(() -> run(status));
+        return snapshot(status);
+    }
+
+    public JobImportStatus getStatus(String importId) {
+        return snapshot(findImport(importId));
+    }
+
+    private JobImportStatus findImport(String importId) {
+        JobImportStatus status = imports.get(importId);
+        if (status != null) {
+            return status;
+        }
+        JobImport saved = jobImportRepository.findById(importId)
+                .orElseThrow(() -> new RuntimeException("Không tìm thấy lượt nhập với id: " + importId));
+        return imports.computeIfAbsent(importId, id -> toStatus(saved));
+    }
+
+    private void run(JobImportStatus status) {
+        synchronized (status) {
+            status.setState(JobImportStatus.State.RUNNING);
+        }
+        saveState(status);
+
+        try (JobImportReader reader = JobImportReader.open(dataFile(status), status.getFormat(), objectMapper)) {
+            // Bỏ qua các dòng đã commit ở lần chạy trước
+            long rowNumber = 0;
+            while (rowNumber < status.getCommittedRows() && reader.next() != null) {
+                rowNumber++;
+            }
+
+            List<Map<String, String>> chunk = new ArrayList<>(batchSize);
+            Map<String, String> row;
+            do {
+                row = reader.next();
+                if (row != null) {
+                    chunk.add(row);
+                }
+                if (chunk.size() == batchSize || (row == null && !chunk.isEmpty())) {
+                    processChunk(status, rowNumber, chunk);
+                    rowNumber += chunk.size();
+                    chunk.clear();
+                }
+            } while (row != null && !Thread.currentThread().isInterrupted());
+
+            if (Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Lượt nhập bị dừng");
+            }
+            finish(status);
+        } catch (Exception e) {
+            log.error("Lỗi khi nhập công việc {}: {}", status.getImportId(), e.getMessage(), e);
+            synchronized (status) {
+                status.setState(JobImportStatus.State.FAILED);
+                status.setMessage(e.getMessage());
+            }
+            saveState(status);
+        }
+    }
+
+    private void processChunk(JobImportStatus status, long firstRow, List<Map<String, String>> chunk) {
+        // Kiểm tra các dòng song song; kết quả giữ đúng thứ tự dòng
+        List<ValidatedRow> validated = IntStream.range(0, chunk.size())
+                .parallel()
+                .mapToObj(i -> validate(firstRow + i + 1, chunk.get(i), status.getEmployerId()))
+                .toList();
+
+        List<Job> jobs = validated.stream().map(ValidatedRow::job).filter(Objects::nonNull).toList();
+
+        JobImportStatus progress = snapshot(status);
+        progress.setCommittedRows(firstRow + chunk.size());
+        progress.setInserted(progress.getInserted() + jobs.size());
+        for (ValidatedRow row : validated) {
+            if (row.error() != null) {
+                progress.setFailed(progress.getFailed() + 1);
+                if (progress.getErrors().size() < MAX_REPORTED_ERRORS) {
+                    progress.getErrors().add(row.error());
+                }
+            }
+        }
+
+        // Lô job và tiến độ được commit cùng nhau: không có lô nào được insert hai lần khi tiếp tục
+        // saveAll + id pooled + hibernate.jdbc.batch_size => insert theo JDBC batch
+        JobImport record = toEntity(progress);
+        transactionTemplate.executeWithoutResult(tx -> {
+            if (!jobs.isEmpty()) {
+                jobRepository.saveAll(jobs);
+            }
+            jobImportRepository.save(record);
+        });
+
+        synchronized (status) {
+            status.setCommittedRows(progress.getCommittedRows());
+            status.setInserted(progress.getInserted());
+            status.setFailed(progress.getFailed());
+            status.setErrors(progress.getErrors());
+        }
+    }
+
+    private void finish(JobImportStatus status) throws IOException {
+        User user = userRepository.findById(status.getEmployerId())
+                .orElseThrow(() -> new RuntimeException("Không tìm thấy thông tin nhà tuyển dụng"));
+        adminNotificationService.createNotificationWithoutJob(
+                AdminAction.CREATE,
+                user,
+                "Nhập hàng loạt " + status.getInserted() + " công việc mới từ file " + status.getFileName()
+                        + (status.getFailed() > 0 ? " (" + status.getFailed() + " dòng lỗi)" : "")
+        );
+
+        synchronized (status) {
+            status.setState(JobImportStatus.State.COMPLETED);
+            status.setFinishedAt(LocalDateTime.now());
+        }
+        saveState(status);
+        Files.deleteIfExists(dataFile(status));
+        log.info("Đã nhập {} công việc cho nhà tuyển dụng {} ({} dòng lỗi)",
+                status.getInserted(), status.getEmployerId(), status.getFailed());
+    }
+
+    private ValidatedRow validate(long rowNumber, Map<String, String> row, Long employerId) {
+        try {
+            String title = text(row, "title");
+            if (title == null) {
+                throw new IllegalArgumentException("Thiếu tiêu đề công việc");
+            }
+            if (title.length() > MAX_TITLE_LENGTH) {
+                throw new IllegalArgumentException("Tiêu đề dài quá " + MAX_TITLE_LENGTH + " ký tự");
+            }
+
+            Double salaryMin = number(row, "salarymin");
+            Double salaryMax = number(row, "salarymax");
+            if ((salaryMin != null && salaryMin < 0) || (salaryMax != null && salaryMax < 0)) {
+                throw new IllegalArgumentException("Mức lương không được âm");
+            }
+            if (salaryMin != null && salaryMax != null && salaryMin > salaryMax) {
+                throw new IllegalArgumentException("Lương tối thiểu lớn hơn lương tối đa");
+            }
+
+            LocalDateTime expireAt = dateTime(row, "expireat");
+            if (expireAt != null && !expireAt.isAfter(LocalDateTime.now())) {
+                throw new IllegalArgumentException("Ngày hết hạn phải ở tương lai");
+            }
+
+            Job job = new Job();
+            job.setEmployerId(employerId);
+            job.setTitle(title);
+            job.setDescription(text(row, "description"));
+            job.setRequirement(text(row, "requirement"));
+            job.setLocation(text(row, "location"));
+            job.setJobType(jobType(row));
+            job.setSalaryMin(salaryMin);
+            job.setSalaryMax(salaryMax);
+            job.setSalaryCurrency(text(row, "salarycurrency"));
+            job.setExpireAt(expireAt);
+            job.setIsSalaryPublic(Boolean.parseBoolean(text(row, "issalarypublic")));
+            job.setImageUrl(text(row, "imageurl"));
+            return new ValidatedRow(job, null);
+        } catch (IllegalArgumentException e) {
+            return new ValidatedRow(null, new JobImportError(rowNumber, e.getMessage()));
+        }
+    }
+
+    private String text(Map<String, String> row, String column) {
+        String value = row.get(column);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private Double number(Map<String, String> row, String column) {
+        String value = text(row, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Giá trị không hợp lệ ở cột " + column + ": " + value);
+        }
+    }
+
+    // Chấp nhận "2025-12-31T17:00:00" hoặc chỉ ngày "2025-12-31" (hết hạn cuối ngày)
+    private LocalDateTime dateTime(Map<String, String> row, String column) {
+        String value = text(row, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return value.length() <= 10 ? LocalDate.parse(value).atTime(23, 59, 59) : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Ngày không hợp lệ ở cột " + column + ": " + value);
+        }
+    }
+
+    private JobType jobType(Map<String, String> row) {
+        String value = text(row, "jobtype");
+        if (value == null) {
+            return null;
+        }
+        try {
+            return JobType.valueOf(value.toUpperCase().replace('-', '_').replace(' ', '_'));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Loại công việc không hợp lệ: " + value);
+        }
+    }
+
+    private Path dataFile(JobImportStatus status) {
+        return importDir.resolve(status.getImportId() + "." + status.getFormat());
+    }
+
+    private void saveState(JobImportStatus status) {
+        jobImportRepository.save(toEntity(snapshot(status)));
+    }
+
+    private JobImport toEntity(JobImportStatus status) {
+        JobImport record = new JobImport();
+        record.setImportId(status.getImportId());
+        record.setEmployerId(status.getEmployerId());
+        record.setFileName(status.getFileName());
+        record.setFormat(status.getFormat());
+        record.setState(status.getState());
+        record.setCommittedRows(status.getCommittedRows());
+        record.setInserted(status.getInserted());
+        record.setFailed(status.getFailed());
+        record.setMessage(status.getMessage());
+        record.setCreatedAt(status.getCreatedAt());
+        record.setFinishedAt(status.getFinishedAt());
+        try {
+            record.setErrors(objectMapper.writeValueAsString(status.getErrors()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Không ghi được danh sách lỗi nhập công việc", e);
+        }
+        return record;
+    }
+
+    private JobImportStatus toStatus(JobImport record) {
+        JobImportStatus status = new JobImportStatus();
+        status.setImportId(record.getImportId());
+        status.setEmployerId(record.getEmployerId());
+        status.setFileName(record.getFileName());
+        status.setFormat(record.getFormat());
+        status.setState(record.getState());
+        status.setCommittedRows(record.getCommittedRows());
+        status.setInserted(record.getInserted());
+        status.setFailed(record.getFailed());
+        status.setMessage(record.getMessage());
+        status.setCreatedAt(record.getCreatedAt());
+        status.setFinishedAt(record.getFinishedAt());
+        if (record.getErrors() != null) {
+            try {
+                status.setErrors(new ArrayList<>(objectMapper.readValue(record.getErrors(), ERRORS_TYPE)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Không đọc được danh sách lỗi nhập công việc", e);
+            }
+        }
+        return status;
+    }
+
+    private JobImportStatus snapshot(JobImportStatus status) {
+        synchronized (status) {
+            JobImportStatus copy = new JobImportStatus();
+            copy.setImportId(status.getImportId());
+            copy.setEmployerId(status.getEmployerId());
+            copy.setFileName(status.getFileName());
+            copy.setFormat(status.getFormat());
+            copy.setState(status.getState());
+            copy.setCommittedRows(status.getCommittedRows());
+            copy.setInserted(status.getInserted());
+            copy.setFailed(status.getFailed());
+            copy.setErrors(new ArrayList<>(status.getErrors()));
+            copy.setMessage(status.getMessage());
+            copy.setCreatedAt(status.getCreatedAt());
+            copy.setFinishedAt(status.getFinishedAt());
+            return copy;
+        }
+    }
+
+    private record ValidatedRow(Job job, JobImportError error) {
+    }
+}
@@ -0,0 +1,189 @@
+package org.example.goodjobbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.goodjobbackend.dto.JobMembershipDTO;
+import org.example.goodjobbackend.repository.JobApplicationRepository;
+import org.example.goodjobbackend.repository.SavedJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Trả lời hàng loạt câu hỏi "đã lưu?" / "đã ứng tuyển?" cho một danh sách job của một user.
+ *
+ * Với mỗi user, tập jobId đã lưu và đã ứng tuyển được nạp một lần rồi giữ trong bộ nhớ dưới dạng
+ * mảng long đã sắp xếp (tra cứu bằng binary search). Các thay đổi từ toggleSaveJob và apply được
+ * áp dụng vào cache sau khi transaction commit; cache giới hạn số user và bỏ các user ít dùng nhất.
+ *
+ * Cache nằm trong từng instance nên không thấy thay đổi được ghi qua instance khác: mỗi user được nạp lại
+ * sau app.membership-cache.ttl, vì vậy danh sách có thể cũ tối đa chừng đó thời gian. Kiểm tra một job
+ * đơn lẻ (SavedJobService.isJobSavedByUser) luôn đọc database.
+ */
+@Service
+@RequiredArgsConstructor
+public class JobMembershipService {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final SavedJobRepository savedJobRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+
+    @Value("${app.membership-cache.max-users:10000}")
+    private int maxUsers;
+
+    @Value("${app.membership-cache.ttl:PT30S}")
+    private Duration ttl;
+
+    private final Map<Long, Membership> memberships = new ConcurrentHashMap<>();
+
+    /**
+     * Trạng thái đã lưu/đã ứng tuyển của từng job, theo đúng thứ tự jobIds
+     */
+    public List<JobMembershipDTO> getMemberships(Long userId, List<Long> jobIds) {
+        Membership membership = load(userId);
+        long[] saved = membership.savedJobIds;
+        long[] applied = membership.appliedJobIds;
+        List<JobMembershipDTO> result = new ArrayList<>(jobIds.size());
+        for (Long jobId : jobIds) {
+            if (jobId != null) {
+                result.add(new JobMembershipDTO(jobId,
+                        Arrays.binarySearch(saved, jobId) >= 0,
+                        Arrays.binarySearch(applied, jobId) >= 0));
+            }
+        }
+        return result;
+    }
+
+    public void onSaved(Long userId, Long jobId, boolean saved) {
+        afterCommit(() -> update(userId, membership ->
+                membership.savedJobIds = saved ? with(membership.savedJobIds, jobId) : without(membership.savedJobIds, jobId)));
+    }
+
+    public void onApplied(Long userId, Long jobId) {
+        afterCommit(() -> update(userId, membership ->
+                membership.appliedJobIds = with(membership.appliedJobIds, jobId)));
+    }
+
+    // Dùng khi dữ liệu thay đổi hàng loạt (lưu trữ/khôi phục job); phải gọi sau khi transaction đã commit,
+    // xóa sớm hơn thì request đồng thời có thể nạp lại cache từ dữ liệu cũ và giữ nó đến hết TTL
+    public void invalidateAll() {
+        memberships.clear();
+    }
+
+    private Membership load(Long userId) {
+        Membership membership = memberships.computeIfAbsent(userId, id -> new Membership());
+        long now = System.nanoTime();
+        membership.lastAccess = now;
+        if (!isFresh(membership, now)) {
+            // Khóa riêng từng user (không dùng synchronized để tránh ghim virtual thread khi truy vấn DB)
+            membership.lock.lock();
+            try {
+                if (!isFresh(membership, System.nanoTime())) {
+                    membership.savedJobIds = toSortedArray(savedJobRepository.findJobIdsByUserId(userId));
+                    membership.appliedJobIds = toSortedArray(jobApplicationRepository.findJobIdsByApplicantId(userId));
+                    membership.loadedAt = System.nanoTime();
+                    membership.loaded = true;
+                }
+            } finally {
+                membership.lock.unlock();
+            }
+            evictIfNeeded();
+        }
+        return membership;
+    }
+
+    private boolean isFresh(Membership membership, long now) {
+        return membership.loaded && now - membership.loadedAt < ttl.toNanos();
+    }
+
+    // Chỉ cập nhật user đã có trong cache; nếu đang nạp thì chờ nạp xong rồi mới áp dụng thay đổi
+    private void update(Long userId, Consumer<Membership> change) {
+        Membership membership = memberships.get(userId);
+        if (membership == null) {
+            return;
+        }
+        membership.lock.lock();
+        try {
+            if (membership.loaded) {
+                change.accept(membership);
+            }
+        } finally {
+            membership.lock.unlock();
+        }
+    }
+
+    // Bỏ 10% user lâu không dùng nhất khi vượt giới hạn
+    private void evictIfNeeded() {
+        if (memberships.size() <= maxUsers) {
+            return;
+        }
+        int toEvict = Math.max(1, maxUsers / 10);
+        memberships.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastAccess))
+                .limit(toEvict)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(memberships::remove);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static long[] toSortedArray(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        return ids.stream().mapToLong(Long::longValue).sorted().distinct().toArray();
+    }
+
+    private static long[] with(long[] sorted, long id) {
+        int index = Arrays.binarySearch(sorted, id);
+        if (index >= 0) {
+            return sorted;
+        }
+        int insertAt = -index - 1;
+        long[] result = new long[sorted.length + 1];
+        System.arraycopy(sorted, 0, result, 0, insertAt);
+        result[insertAt] = id;
+        System.arraycopy(sorted, insertAt, result, insertAt + 1, sorted.length - insertAt);
+        return result;
+    }
+
+    private static long[] without(long[] sorted, long id) {
+        int index = Arrays.binarySearch(sorted, id);
+        if (index < 0) {
+            return sorted;
+        }
+        long[] result = new long[sorted.length - 1];
+        System.arraycopy(sorted, 0, result, 0, index);
+        System.arraycopy(sorted, index + 1, result, index, sorted.length - index - 1);
+        return result;
+    }
+
+    // Mảng được thay mới mỗi lần thay đổi (copy-on-write) nên đọc không cần khóa
+    private static final class Membership {
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile boolean loaded;
+        private volatile long[] savedJobIds = EMPTY;
+        private volatile long[] appliedJobIds = EMPTY;
+        private volatile long loadedAt;
+        private volatile long lastAccess;
+    }
+}
@@ -0,0 +1,214 @@
+package org.example.goodjobbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.goodjobbackend.dto.BulkJobProcessProgress;
+import org.example.goodjobbackend.dto.BulkJobProcessRequest;
+import org.example.goodjobbackend.dto.BulkJobProcessResponse;
+import org.example.goodjobbackend.dto.BulkJobProcessResult;
+import org.example.goodjobbackend.model.*;
+import org.example.goodjobbackend.repository.JobRepository;
+import org.example.goodjobbackend.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * Duyệt/từ chối/xóa công việc hàng loạt.
+ *
+ * Danh sách job được chia thành các lô; mỗi lô chạy trong một transaction riêng gồm một câu
+ * SELECT lấy thông tin tối thiểu, một câu UPDATE theo tập id, một câu SELECT đọc lại các job thực sự
+ * được cập nhật và một batch insert thông báo admin.
+ * Kết quả, thông báo và lịch hết hạn chỉ dựa trên các job thực sự được cập nhật, nên job bị request khác
+ * xử lý đồng thời không bị báo thành công hay thông báo hai lần. Tiến độ được báo lại sau mỗi lô.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobModerationService {
+
+    private final JobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final AdminNotificationService adminNotificationService;
+    private final JobExpiryService jobExpiryService;
+    private final ModerationQueueService moderationQueueService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.jobs.moderation.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.jobs.moderation.max-jobs:10000}")
+    private int maxJobs;
+
+    public BulkJobProcessResponse processJobs(BulkJobProcessRequest request) {
+        List<BulkJobProcessResult> results = new ArrayList<>();
+        BulkJobProcessProgress last = processJobs(request, progress -> results.addAll(progress.getResults()));
+        return new BulkJobProcessResponse(last.getTotal(), last.getSucceeded(), last.getFailed(), results);
+    }
+
+    /**
+     * Xử lý hàng loạt, gọi progressListener sau mỗi lô
+     * @return tiến độ cuối cùng (done = true)
+     */
+    public BulkJobProcessProgress processJobs(BulkJobProcessRequest request, Consumer<BulkJobProcessProgress> progressListener) {
+        List<Long> jobIds = validate(request);
+        User admin = userRepository.findById(request.getAdminId())
+                .orElseThrow(() -> new RuntimeException("Không tìm thấy admin"));
+
+        int processed = 0;
+        int succeeded = 0;
+        int failed = 0;
+        for (int from = 0; from < jobIds.size(); from += batchSize) {
+            List<Long> batch = jobIds.subList(from, Math.min(from + batchSize, jobIds.size()));
+            List<BulkJobProcessResult> batchResults;
+            try {
+                batchResults = transactionTemplate.execute(status -> processBatch(batch, request, admin));
+            } catch (Exception e) {
+                log.error("Lỗi khi xử lý lô công việc {}: {}", batch, e.getMessage(), e);
+                batchResults = batch.stream()
+                        .map(jobId -> new BulkJobProcessResult(jobId, false, "Lỗi khi xử lý: " + e.getMessage()))
+                        .toList();
+            }
+
+            processed += batch.size();
+            for (BulkJobProcessResult result : batchResults) {
+                if (result.isSuccess()) {
+                    succeeded++;
+                } else {
+                    failed++;
+                }
+            }
+            progressListener.accept(new BulkJobProcessProgress(
+                    processed, jobIds.size(), succeeded, failed, processed == jobIds.size(), batchResults));
+        }
+
+        if (jobIds.isEmpty()) {
+            BulkJobProcessProgress empty = new BulkJobProcessProgress(0, 0, 0, 0, true, List.of());
+            progressListener.accept(empty);
+            return empty;
+        }
+        log.info("Admin {} đã xử lý hàng loạt {} công việc sang {}: {} thành công, {} thất bại",
+                admin.getUsername(), jobIds.size(), request.getStatus(), succeeded, failed);
+        return new BulkJobProcessProgress(processed, jobIds.size(), succeeded, failed, true, List.of());
+    }
+
+    private List<Long> validate(BulkJobProcessRequest request) {
+        if (request.getStatus() == null) {
+            throw new IllegalArgumentException("Trạng thái không được để trống");
+        }
+        if (request.getAdminId() == null) {
+            throw new IllegalArgumentException("adminId không được để trống");
+        }
+        if (request.getStatus() == JobStatus.REJECTED
+                && (request.getRejectionReason() == null || request.getRejectionReason().trim().isEmpty())) {
+            throw new IllegalArgumentException("Lý do từ chối là bắt buộc khi từ chối công việc");
+        }
+        if (request.getJobIds() == null) {
+            return List.of();
+        }
+        // Bỏ id null và id trùng, giữ nguyên thứ tự gửi lên
+        List<Long> jobIds = new ArrayList<>(new LinkedHashSet<>(request.getJobIds()));
+        jobIds.removeIf(Objects::isNull);
+        if (jobIds.size() > maxJobs) {
+            throw new IllegalArgumentException("Chỉ được xử lý tối đa " + maxJobs + " công việc mỗi lần");
+        }
+        return jobIds;
+    }
+
+    private List<BulkJobProcessResult> processBatch(List<Long> jobIds, BulkJobProcessRequest request, User admin) {
+        JobStatus newStatus = request.getStatus();
+        // Cùng độ chính xác với cột processed_at để đọc lại được đúng các job vừa cập nhật
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+
+        Map<Long, Object[]> targets = new HashMap<>();
+        for (Object[] row : jobRepository.findModerationTargets(jobIds)) {
+            targets.put((Long) row[0], row);
+        }
+
+        List<Long> toUpdate = new ArrayList<>();
+        for (Long jobId : jobIds) {
+            Object[] row = targets.get(jobId);
+            if (row != null && row[2] != newStatus) {
+                toUpdate.add(jobId);
+            }
+        }
+
+        Map<Long, Object[]> updated = new HashMap<>();
+        String rejectionReason = newStatus == JobStatus.REJECTED ? request.getRejectionReason() : null;
+        if (!toUpdate.isEmpty()) {
+            int count = jobRepository.processJobs(toUpdate, newStatus, admin, now, rejectionReason,
+                    newStatus == JobStatus.DELETED);
+            if (count > 0) {
+                for (Object[] row : jobRepository.findProcessedJobs(toUpdate, newStatus, admin, now)) {
+                    updated.put((Long) row[0], row);
+                }
+            }
+        }
+
+        List<BulkJobProcessResult> results = new ArrayList<>();
+        List<AdminNotification> notifications = new ArrayList<>(updated.size());
+        List<Long> processedIds = new ArrayList<>(updated.size());
+        for (Long jobId : jobIds) {
+            Object[] target = targets.get(jobId);
+            Object[] row = updated.get(jobId);
+            if (target == null) {
+                results.add(new BulkJobProcessResult(jobId, false, "Không tìm thấy công việc với id: " + jobId));
+            } else if (target[2] == newStatus) {
+                results.add(new BulkJobProcessResult(jobId, false, "Công việc đã ở trạng thái " + newStatus));
+            } else if (row == null) {
+                // Request khác đã xử lý job giữa lúc đọc và lúc cập nhật
+                results.add(new BulkJobProcessResult(jobId, false, "Công việc vừa được xử lý bởi thao tác khác"));
+            } else {
+                results.add(new BulkJobProcessResult(jobId, true, "Đã chuyển sang trạng thái " + newStatus));
+                processedIds.add(jobId);
+                notifications.add(buildNotification(admin, jobId, (String) row[1], (JobStatus) target[2], newStatus,
+                        rejectionReason, now));
+                if (newStatus == JobStatus.APPROVED) {
+                    jobExpiryService.track(jobId, (LocalDateTime) row[2]);
+                }
+            }
+        }
+        if (processedIds.isEmpty()) {
+            return results;
+        }
+        adminNotificationService.createNotifications(notifications);
+        moderationQueueService.onProcessed(processedIds, admin.getId());
+        return results;
+    }
+
+    // Nội dung thông báo giống với JobService.processJob
+    private AdminNotification buildNotification(User admin, Long jobId, String title, JobStatus oldStatus,
+                                                JobStatus newStatus, String rejectionReason, LocalDateTime now) {
+        AdminAction action;
+        String description;
+        if (newStatus == JobStatus.APPROVED) {
+            action = AdminAction.APPROVE;
+            description = "Công việc được phê duyệt: " + title;
+        } else if (newStatus == JobStatus.REJECTED) {
+            action = AdminAction.REJECT;
+            description = "Công việc bị từ chối: " + title + ". Lý do: " + rejectionReason;
+        } else if (newStatus == JobStatus.DELETED) {
+            action = AdminAction.DELETE;
+            description = "Công việc bị xóa: " + title;
+        } else {
+            action = AdminAction.UPDATE;
+            description = "Trạng thái công việc thay đổi từ " + oldStatus + " thành " + newStatus + ": " + title;
+        }
+
+        AdminNotification notification = new AdminNotification();
+        notification.setType(action);
+        notification.setJobId(jobId);
+        notification.setJobTitle(title);
+        notification.setTimestamp(now);
+        notification.setUsername(admin.getUsername());
+        notification.setUser(admin);
+        notification.setDescription(description);
+        notification.setRead(true);
+        return notification;
+    }
+}
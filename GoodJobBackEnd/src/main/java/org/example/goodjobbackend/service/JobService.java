@@ -1,8 +1,9 @@
 package org.example.goodjobbackend.service;
 
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.transaction.Transactional;
 import org.example.goodjobbackend.dto.*;
+import org.example.goodjobbackend.jfr.JobModerationEvent;
+import org.example.goodjobbackend.jfr.JobSearchEvent;
 import org.example.goodjobbackend.model.*;
 import org.example.goodjobbackend.repository.JobRepository;
 import org.example.goodjobbackend.repository.UserRepository;
@@ -10,11 +11,16 @@ import org.example.goodjobbackend.repository.EmployerRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,48 +31,80 @@ public class JobService {
     private final EmployerRepository employerRepository;
     private final AdminNotificationService adminNotificationService;
     private final TestDataService testDataService;
+    private final JobExpiryService jobExpiryService;
+    private final JobArchiveService jobArchiveService;
+    private final ModerationQueueService moderationQueueService;
 
     // Lấy toàn bộ danh sách công việc (phân trang)
+    @Transactional(readOnly = true)
     public Page<Job> getAllJobs(Pageable pageable) {
         return jobRepository.findAll(pageable);
     }
 
     // Lấy toàn bộ danh sách công việc (không phân trang)
+    @Transactional(readOnly = true)
     public List<Job> getAllJobs() {
         return jobRepository.findAll();
     }
 
     // Lấy danh sách công việc có status = APPROVED (không phân trang)
+    @Transactional(readOnly = true)
     public List<Job> getAllApprovedJobs() {
         return jobRepository.findAllApproved();
     }
 
     // Lấy danh sách công việc có status = PENDING (không phân trang)
+    @Transactional(readOnly = true)
     public List<Job> getAllPendingJobs() {
         return jobRepository.findAllPending();
     }
 
     // Lấy danh sách công việc có status = REJECTED (không phân trang)
+    @Transactional(readOnly = true)
     public List<Job> getAllRejectedJobs() {
         return jobRepository.findAllRejected();
     }
 
     // Lấy danh sách công việc có status = DELETED (không phân trang)
+    @Transactional(readOnly = true)
     public List<Job> getAllDeletedJobs() {
         return jobRepository.findAllDeleted();
     }
 
     // Lấy danh sách công việc theo trạng thái (phân trang)
+    @Transactional(readOnly = true)
     public Page<Job> getJobsByStatus(JobStatus status, Pageable pageable) {
         return jobRepository.findByStatus(status, pageable);
     }
 
+    // Version của các job trên một trang theo trạng thái (để tính ETag trước khi nạp nội dung)
+    @Transactional(readOnly = true)
+    public Page<JobCacheKey> getJobCacheKeysByStatus(JobStatus status, Pageable pageable) {
+        return jobRepository.findCacheKeysByStatus(status, pageable);
+    }
+
+    // Nạp các job theo danh sách id và giữ nguyên thứ tự đó; id không còn tồn tại bị bỏ qua
+    @Transactional(readOnly = true)
+    public List<Job> getJobsInOrder(List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Job> jobsById = jobRepository.findAllWithEmployerByJobIdIn(jobIds).stream()
+                .collect(Collectors.toMap(Job::getJobId, Function.identity()));
+        return jobIds.stream()
+                .map(jobsById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     // Lấy danh sách công việc theo trạng thái (không phân trang)
+    @Transactional(readOnly = true)
     public List<Job> getJobsByStatus(JobStatus status) {
         return jobRepository.findByStatus(status);
     }
 
     // Lấy danh sách công việc theo employer (phân trang)
+    @Transactional(readOnly = true)
     public Page<Job> getJobsByEmployer(Long userId, Pageable pageable) {
         Employer employer = employerRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Không tìm thấy thông tin nhà tuyển dụng"));
@@ -74,18 +112,36 @@ public class JobService {
     }
 
     // Lấy danh sách công việc theo employer (không phân trang)
+    @Transactional(readOnly = true)
     public List<Job> getJobsByEmployer(Long userId) {
         Employer employer = employerRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Không tìm thấy thông tin nhà tuyển dụng"));
         return jobRepository.findByEmployer(employer);
     }
 
-    // Lấy công việc theo ID
+    // Lấy công việc theo ID (tìm thêm trong bảng lưu trữ nếu không còn ở bảng chính)
+    @Transactional(readOnly = true)
     public Job getJobById(Long jobId) {
         return jobRepository.findById(jobId)
+                .or(() -> jobArchiveService.findArchivedJob(jobId))
                 .orElseThrow(() -> new EntityNotFoundException("Không tìm thấy công việc với id: " + jobId));
     }
 
+    // Version của job (bảng chính hoặc lưu trữ) và employer, rỗng nếu không tìm thấy
+    @Transactional(readOnly = true)
+    public Optional<JobCacheKey> getJobCacheKey(Long jobId) {
+        return jobRepository.findCacheKeyById(jobId)
+                .or(() -> jobArchiveService.findArchivedJobCacheKey(jobId));
+    }
+
+    // Lấy công việc đang ở bảng chính để cập nhật (job đã lưu trữ phải được khôi phục trước)
+    private Job getLiveJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> jobArchiveService.isArchived(jobId)
+                        ? new IllegalStateException("Công việc đã được lưu trữ, cần khôi phục trước khi cập nhật")
+                        : new EntityNotFoundException("Không tìm thấy công việc với id: " + jobId));
+    }
+
     // Tạo công việc mới
     @Transactional
     public Job createJob(JobRequest jobRequest) {
@@ -112,7 +168,7 @@ public class JobService {
     // Cập nhật công việc
     @Transactional
     public Job updateJob(Long jobId, JobRequest jobRequest) {
-        Job job = getJobById(jobId);
+        Job job = getLiveJob(jobId);
         Employer employer = employerRepository.findByUserId(jobRequest.getEmployerId())
                 .orElseThrow(() -> new RuntimeException("Không tìm thấy thông tin nhà tuyển dụng"));
 
@@ -121,6 +177,9 @@ public class JobService {
         }
         updateJobFromRequest(job, jobRequest);
         Job updatedJob = jobRepository.save(job);
+        if (updatedJob.getStatus() == JobStatus.APPROVED) {
+            jobExpiryService.track(updatedJob.getJobId(), updatedJob.getExpireAt());
+        }
         
         // Create admin notification for job update
         User user = employer.getUser();
@@ -137,7 +196,22 @@ public class JobService {
     // Xử lý trạng thái công việc (APPROVED, REJECTED, DELETED)
     @Transactional
     public Job processJob(Long jobId, JobProcessRequest processRequest) {
-        Job job = getJobById(jobId);
+        JobModerationEvent event = new JobModerationEvent();
+        event.begin();
+        JobStatus oldStatus = null;
+        boolean success = false;
+        try {
+            Job job = getLiveJob(jobId);
+            oldStatus = job.getStatus();
+            Job processedJob = processLiveJob(job, processRequest);
+            success = true;
+            return processedJob;
+        } finally {
+            event.complete(jobId, processRequest.getAdminId(), oldStatus, processRequest.getStatus(), success);
+        }
+    }
+
+    private Job processLiveJob(Job job, JobProcessRequest processRequest) {
         User admin = userRepository.findById(processRequest.getAdminId())
                 .orElseThrow(() -> new RuntimeException("Không tìm thấy admin"));
 
@@ -158,6 +232,9 @@ public class JobService {
         }
 
         Job processedJob = jobRepository.save(job);
+        if (processedJob.getStatus() == JobStatus.APPROVED) {
+            jobExpiryService.track(processedJob.getJobId(), processedJob.getExpireAt());
+        }
         
         // Create admin notification for job processing
         AdminAction action;
@@ -178,6 +255,7 @@ public class JobService {
         }
         
         adminNotificationService.createNotification(action, processedJob, admin, description);
+        moderationQueueService.onProcessed(processedJob.getJobId(), admin.getId());
         
         return processedJob;
     }
@@ -185,7 +263,7 @@ public class JobService {
     // Test mode method to process a job without requiring admin validation
     @Transactional
     public Job processJobForTesting(Long jobId, JobStatus newStatus, String rejectionReason) {
-        Job job = getJobById(jobId);
+        Job job = getLiveJob(jobId);
         User testAdmin = testDataService.getMockAdminUser();
         
         JobStatus oldStatus = job.getStatus();
@@ -257,6 +335,7 @@ public class JobService {
     }
 
     // Lấy danh sách công việc theo userId (phân trang)
+    @Transactional(readOnly = true)
     public Page<Job> getAllJobsByUserId(Long userId, Pageable pageable) {
         Employer employer = employerRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Không tìm thấy thông tin nhà tuyển dụng"));
@@ -264,6 +343,7 @@ public class JobService {
     }
 
     // Lấy danh sách công việc theo userId (không phân trang)
+    @Transactional(readOnly = true)
     public List<Job> getAllJobsByUserId(Long userId) {
         Employer employer = employerRepository.findByUserId(userId)
                 .orElseThrow(() -> new RuntimeException("Không tìm thấy thông tin nhà tuyển dụng"));
@@ -271,25 +351,38 @@ public class JobService {
     }
 
     // Tìm kiếm công việc với bộ lọc (mặc định status = APPROVED)
+    @Transactional(readOnly = true)
     public Page<Job> searchJobs(String keyword, String location, Double minSalary, Double maxSalary, Pageable pageable) {
-        return jobRepository.searchWithFilters(keyword, location, minSalary, maxSalary, pageable);
+        JobSearchEvent event = new JobSearchEvent();
+        event.begin();
+        Page<Job> result = jobRepository.searchWithFilters(keyword, location, minSalary, maxSalary, pageable);
+        event.complete(keyword, location, minSalary, maxSalary, JobStatus.APPROVED, pageable, result);
+        return result;
     }
 
     // Tìm kiếm công việc theo trạng thái với bộ lọc
+    @Transactional(readOnly = true)
     public Page<Job> searchJobsByStatus(String keyword, String location, Double minSalary, Double maxSalary, JobStatus status, Pageable pageable) {
-        return jobRepository.searchWithFiltersAndStatus(keyword, location, minSalary, maxSalary, status, pageable);
+        JobSearchEvent event = new JobSearchEvent();
+        event.begin();
+        Page<Job> result = jobRepository.searchWithFiltersAndStatus(keyword, location, minSalary, maxSalary, status, pageable);
+        event.complete(keyword, location, minSalary, maxSalary, status, pageable, result);
+        return result;
     }
 
     // Lấy tổng số lượt xem tất cả công việc
+    @Transactional(readOnly = true)
     public Long getTotalViewCount() {
         return jobRepository.getAllView();
     }
 
     // Lấy tổng số lượt ứng tuyển tất cả công việc
+    @Transactional(readOnly = true)
     public Long getTotalApplyCount() {
         return jobRepository.getAllApply();
     }
 
+    @Transactional(readOnly = true)
     public List<JobCountDTO> getJobCountsByStatus() {
         List<Object[]> rawResults = jobRepository.countJobsByStatus();
         List<JobCountDTO> results = new ArrayList<>();
@@ -298,10 +391,10 @@ public class JobService {
             Long count = (Long) row[1];
             results.add(new JobCountDTO(status, count));
         }
-        System.out.println(results);
         return results;
     }
 
+    @Transactional(readOnly = true)
     public List<JobSearchStats> getJobSearchStats(String keyword) {
         List<Object[]> results = jobRepository.countJobsByKeyword(keyword);
         return results.stream()
@@ -0,0 +1,188 @@
+package org.example.goodjobbackend.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.goodjobbackend.dto.ModerationLeaseResponse;
+import org.example.goodjobbackend.model.Job;
+import org.example.goodjobbackend.model.JobStatus;
+import org.example.goodjobbackend.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Hàng đợi duyệt công việc cho nhiều admin cùng lúc.
+ *
+ * Mỗi admin nhận một lô nhỏ job PENDING (cũ trước) và giữ chỗ chúng trong một khoảng thời gian;
+ * các admin khác sẽ không nhận lại những job đó. Khi job được xử lý, chỗ giữ được trả lại;
+ * chỗ giữ quá hạn (admin bỏ dở) được thu hồi để admin khác nhận tiếp.
+ *
+ * Chỗ giữ lưu trên chính dòng job (lease_admin_id, lease_expires_at) nên mọi instance cùng thấy.
+ * Khóa dòng (FOR UPDATE SKIP LOCKED) chỉ dùng trong transaction nhận job để hai admin không nhận trùng;
+ * chỗ giữ sau đó tồn tại qua nhiều request của admin cho tới khi hết hạn. Thống kê năng suất vẫn
+ * tính theo từng instance.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ModerationQueueService {
+
+    private final JobRepository jobRepository;
+
+    @Value("${app.jobs.moderation.lease-ttl:PT10M}")
+    private Duration leaseTtl;
+
+    @Value("${app.jobs.moderation.max-lease-size:50}")
+    private int maxLeaseSize;
+
+    private final Map<Long, AdminStats> adminStats = new ConcurrentHashMap<>();
+    private final AtomicLong requeuedLeases = new AtomicLong();
+
+    /**
+     * Giao tối đa size job chờ duyệt cho admin. Các job admin đang giữ được trả lại trước và
+     * được gia hạn, sau đó bổ sung thêm job chưa ai giữ cho đủ số lượng.
+     */
+    @Transactional
+    public ModerationLeaseResponse lease(Long adminId, int size) {
+        if (adminId == null) {
+            throw new IllegalArgumentException("adminId không được để trống");
+        }
+        int wanted = Math.max(1, Math.min(size, maxLeaseSize));
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(leaseTtl);
+
+        // Gia hạn các job admin đang giữ
+        jobRepository.renewLeases(adminId, now, expiresAt);
+        List<Long> claimed = new ArrayList<>(jobRepository.findLeasedJobIds(adminId, now));
+
+        // Nhận thêm job chưa ai giữ (hoặc bị bỏ dở) cho đủ số lượng
+        if (claimed.size() < wanted) {
+            List<Long> free = jobRepository.lockLeasableJobIds(now, wanted - claimed.size());
+            if (!free.isEmpty()) {
+                jobRepository.assignLeases(free, adminId, expiresAt);
+                claimed.addAll(free);
+            }
+        }
+
+        stats(adminId).leased.addAndGet(claimed.size());
+
+        Map<Long, Job> jobs = jobRepository.findAllById(claimed).stream()
+                .collect(Collectors.toMap(Job::getJobId, Function.identity()));
+        List<Job> ordered = claimed.stream()
+                .map(jobs::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new ModerationLeaseResponse(adminId, expiresAt, ordered);
+    }
+
+    /**
+     * Trả lại toàn bộ job admin đang giữ (ví dụ khi admin rời trang duyệt)
+     * @return số job được trả lại
+     */
+    @Transactional
+    public int release(Long adminId) {
+        return jobRepository.releaseLeases(adminId);
+    }
+
+    /**
+     * Gọi sau khi một job đã được duyệt/từ chối/xóa: bỏ chỗ giữ và cập nhật thống kê của admin
+     */
+    @Transactional
+    public void onProcessed(Long jobId, Long adminId) {
+        jobRepository.clearLeases(List.of(jobId));
+        if (adminId != null) {
+            AdminStats stats = stats(adminId);
+            stats.processed.incrementAndGet();
+            stats.lastProcessedAt = LocalDateTime.now();
+        }
+    }
+
+    @Transactional
+    public void onProcessed(Collection<Long> jobIds, Long adminId) {
+        if (!jobIds.isEmpty()) {
+            jobRepository.clearLeases(jobIds);
+        }
+        if (adminId != null && !jobIds.isEmpty()) {
+            AdminStats stats = stats(adminId);
+            stats.processed.addAndGet(jobIds.size());
+            stats.lastProcessedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * Thu hồi các chỗ giữ đã hết hạn để job quay lại hàng đợi
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.moderation.lease-sweep-interval-ms:30000}")
+    @Transactional
+    public void requeueExpiredLeases() {
+        int requeued = jobRepository.clearExpiredLeases(LocalDateTime.now());
+        if (requeued > 0) {
+            requeuedLeases.addAndGet(requeued);
+            log.info("Đã đưa {} công việc bị bỏ dở trở lại hàng đợi duyệt", requeued);
+        }
+    }
+
+    /**
+     * Độ sâu hàng đợi và năng suất của từng admin
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStats() {
+        LocalDateTime now = LocalDateTime.now();
+        long pending = jobRepository.countByStatus(JobStatus.PENDING);
+        Map<Long, Long> activeByAdmin = new HashMap<>();
+        for (Object[] row : jobRepository.countActiveLeasesByAdmin(now)) {
+            activeByAdmin.put(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+        }
+        long leased = activeByAdmin.values().stream().mapToLong(Long::longValue).sum();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("pending", pending);
+        result.put("leased", leased);
+        result.put("available", Math.max(0, pending - leased));
+        result.put("requeuedLeases", requeuedLeases.get());
+
+        List<Map<String, Object>> admins = new ArrayList<>();
+        adminStats.forEach((adminId, stats) -> {
+            Map<String, Object> admin = new LinkedHashMap<>();
+            admin.put("adminId", adminId);
+            admin.put("activeLeases", activeByAdmin.getOrDefault(adminId, 0L));
+            admin.put("leased", stats.leased.get());
+            admin.put("processed", stats.processed.get());
+            admin.put("processedPerHour", stats.processedPerHour(now));
+            admin.put("lastProcessedAt", stats.lastProcessedAt);
+            admins.add(admin);
+        });
+        result.put("admins", admins);
+        return result;
+    }
+
+    private AdminStats stats(Long adminId) {
+        return adminStats.computeIfAbsent(adminId, id -> new AdminStats(LocalDateTime.now()));
+    }
+
+    private static class AdminStats {
+        private final LocalDateTime since;
+        private final AtomicLong leased = new AtomicLong();
+        private final AtomicLong processed = new AtomicLong();
+        private volatile LocalDateTime lastProcessedAt;
+
+        AdminStats(LocalDateTime since) {
+            this.since = since;
+        }
+
+        // Số job xử lý trung bình mỗi giờ kể từ lần đầu admin nhận việc
+        double processedPerHour(LocalDateTime now) {
+            long seconds = Math.max(60, Duration.between(since, now).getSeconds());
+            return processed.get() * 3600.0 / seconds;
+        }
+    }
+}
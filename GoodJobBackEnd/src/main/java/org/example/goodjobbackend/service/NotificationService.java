@@ -1,20 +1,26 @@
 package org.example.goodjobbackend.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.goodjobbackend.event.JobsExpiredEvent;
+import org.example.goodjobbackend.jfr.NotificationFanOutEvent;
 import org.example.goodjobbackend.model.Notification;
 import org.example.goodjobbackend.model.NotificationType;
 import org.example.goodjobbackend.model.JobApplication;
 import org.example.goodjobbackend.model.User;
 import org.example.goodjobbackend.repository.NotificationRepository;
+import org.example.goodjobbackend.repository.UserRepository;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
     private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
 
     public Notification createNotification(User user, String title, String content, 
                                         NotificationType type, JobApplication relatedApplication) {
@@ -27,14 +33,17 @@ public class NotificationService {
         return notificationRepository.save(notification);
     }
 
+    @Transactional(readOnly = true)
     public List<Notification> getUserNotifications(Long userId) {
         return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
     }
 
+    @Transactional(readOnly = true)
     public List<Notification> getUnreadNotifications(Long userId) {
         return notificationRepository.findByUserIdAndReadFalseOrderByCreatedAtDesc(userId);
     }
 
+    @Transactional(readOnly = true)
     public long getUnreadCount(Long userId) {
         return notificationRepository.countByUserIdAndReadFalse(userId);
     }
@@ -74,4 +83,33 @@ public class NotificationService {
         String content = "Bài đăng \"" + jobTitle + "\" của bạn đã được " + (isApproved ? "duyệt" : "từ chối");
         return createNotification(employer, title, content, NotificationType.JOB_STATUS, application);
     }
+
+    // Lưu nhiều thông báo cùng lúc (được gom thành batch insert)
+    public List<Notification> createNotifications(List<Notification> notifications) {
+        NotificationFanOutEvent event = new NotificationFanOutEvent();
+        event.begin();
+        List<Notification> saved = notificationRepository.saveAll(notifications);
+        event.complete("user", notifications.isEmpty() ? null : notifications.get(0).getType(), notifications.size());
+        return saved;
+    }
+
+    // Tạo thông báo cho employer khi bài đăng hết hạn (employer id trùng với user id)
+    @EventListener
+    @Transactional
+    public void onJobsExpired(JobsExpiredEvent event) {
+        NotificationFanOutEvent fanOut = new NotificationFanOutEvent();
+        fanOut.begin();
+        List<Notification> notifications = event.getJobs().stream()
+            .map(job -> {
+                Notification notification = new Notification();
+                notification.setUser(userRepository.getReferenceById(job.getEmployerId()));
+                notification.setTitle("Bài đăng đã hết hạn");
+                notification.setContent("Bài đăng \"" + job.getTitle() + "\" của bạn đã hết hạn và không còn hiển thị với ứng viên");
+                notification.setType(NotificationType.JOB_STATUS);
+                return notification;
+            })
+            .collect(Collectors.toList());
+        notificationRepository.saveAll(notifications);
+        fanOut.complete("user", NotificationType.JOB_STATUS, notifications.size());
+    }
 } 
\ No newline at end of file
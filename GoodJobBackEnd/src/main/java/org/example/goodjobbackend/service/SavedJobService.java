@@ -1,13 +1,13 @@
 package org.example.goodjobbackend.service;
 
+import org.example.goodjobbackend.dto.JobMembershipDTO;
 import org.example.goodjobbackend.dto.SavedJobDTO;
-import org.example.goodjobbackend.model.Job;
 import org.example.goodjobbackend.model.SavedJob;
-import org.example.goodjobbackend.model.User;
 import org.example.goodjobbackend.repository.JobRepository;
 import org.example.goodjobbackend.repository.SavedJobRepository;
 import org.example.goodjobbackend.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,46 +20,48 @@ public class SavedJobService {
     private final SavedJobRepository savedJobRepository;
     private final UserRepository userRepository;
     private final JobRepository jobRepository;
+    private final JobMembershipService jobMembershipService;
 
     @Autowired
     public SavedJobService(SavedJobRepository savedJobRepository, 
                           UserRepository userRepository, 
-                          JobRepository jobRepository) {
+                          JobRepository jobRepository,
+                          JobMembershipService jobMembershipService) {
         this.savedJobRepository = savedJobRepository;
         this.userRepository = userRepository;
         this.jobRepository = jobRepository;
+        this.jobMembershipService = jobMembershipService;
     }
 
     /**
-     * Toggle save/unsave a job for a user
+     * Toggle save/unsave a job for a user.
+     * Tries to delete the (user, job) row first; only if nothing was deleted is a new row inserted,
+     * using id references instead of loading the user and job. The unique (user_id, job_id)
+     * constraint settles concurrent toggles: a losing insert means the job is already saved.
+     * Each statement commits on its own so a failed insert does not poison the caller's transaction.
      * @param userId the user ID
      * @param jobId the job ID
      * @return true if job was saved, false if it was unsaved
      */
-    @Transactional
     public boolean toggleSaveJob(Long userId, Long jobId) {
-        // Check if user and job exist
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        
-        Job job = jobRepository.findById(jobId)
-                .orElseThrow(() -> new RuntimeException("Job not found"));
-        
-        // Check if job is already saved
-        boolean jobAlreadySaved = savedJobRepository.existsByUserIdAndJobJobId(userId, jobId);
-        
-        if (jobAlreadySaved) {
-            // Unsave the job
-            savedJobRepository.deleteByUserIdAndJobJobId(userId, jobId);
+        if (savedJobRepository.deleteByUserIdAndJobId(userId, jobId) > 0) {
+            jobMembershipService.onSaved(userId, jobId, false);
             return false;
-        } else {
-            // Save the job
-            SavedJob savedJob = new SavedJob();
-            savedJob.setUser(user);
-            savedJob.setJob(job);
-            savedJobRepository.save(savedJob);
-            return true;
         }
+
+        SavedJob savedJob = new SavedJob();
+        savedJob.setUser(userRepository.getReferenceById(userId));
+        savedJob.setJob(jobRepository.getReferenceById(jobId));
+        try {
+            savedJobRepository.saveAndFlush(savedJob);
+        } catch (DataIntegrityViolationException e) {
+            // Either a concurrent toggle saved it first, or the user/job does not exist
+            if (!savedJobRepository.existsByUserIdAndJobJobId(userId, jobId)) {
+                throw new RuntimeException("User or job not found");
+            }
+        }
+        jobMembershipService.onSaved(userId, jobId, true);
+        return true;
     }
     
     /**
@@ -69,14 +71,26 @@ public class SavedJobService {
      * @return true if the job is saved by the user, false otherwise
      */
     public boolean isJobSavedByUser(Long userId, Long jobId) {
+        // Always read the database: the membership cache is per instance and may lag behind other instances
         return savedJobRepository.existsByUserIdAndJobJobId(userId, jobId);
     }
     
+    /**
+     * Saved/applied flags for a page of jobs in one call
+     * @param userId the user ID
+     * @param jobIds the job IDs shown on the page
+     * @return one entry per job, in the same order
+     */
+    public List<JobMembershipDTO> getJobMemberships(Long userId, List<Long> jobIds) {
+        return jobMembershipService.getMemberships(userId, jobIds);
+    }
+    
     /**
      * Get all saved jobs for a user
      * @param userId the user ID
      * @return a list of saved jobs
      */
+    @Transactional(readOnly = true)
     public List<SavedJobDTO> getSavedJobsByUser(Long userId) {
         List<SavedJob> savedJobs = savedJobRepository.findByUserId(userId);
         
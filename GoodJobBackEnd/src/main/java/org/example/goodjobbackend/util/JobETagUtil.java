@@ -0,0 +1,78 @@
+package org.example.goodjobbackend.util;
+
+import org.example.goodjobbackend.dto.JobCacheKey;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Tính ETag cho API công việc từ {@link JobCacheKey}.
+ * Không gửi Last-Modified: không có cột thời gian nào được cập nhật ở mọi lần sửa job/employer.
+ * Version chỉ tăng nên một ETag đã cũ không bao giờ khớp lại với dữ liệu mới.
+ *
+ * ETag là weak (W/"...") vì Tomcat không nén gzip response có ETag mạnh; bản gzip và bản gốc tương đương về nội dung.
+ * JSON và CBOR của cùng URL có ETag khác nhau (response kèm Vary: Accept).
+ */
+public final class JobETagUtil {
+
+    private JobETagUtil() {
+    }
+
+    // "jobId-version-employerVersion", giống nhau cho job ở bảng chính và bảng lưu trữ (version được giữ nguyên)
+    public static String forJob(JobCacheKey key, WebRequest request) {
+        return weak(key.getJobId() + "-" + key.getVersion() + "-" + key.getEmployerVersion(), request);
+    }
+
+    // Băm tổng số phần tử và (id, version) của từng job theo đúng thứ tự trên trang
+    public static String forPage(Page<JobCacheKey> page, WebRequest request) {
+        StringBuilder source = new StringBuilder().append(page.getTotalElements());
+        for (JobCacheKey key : page.getContent()) {
+            source.append(';').append(key.getJobId())
+                    .append(':').append(key.getVersion())
+                    .append(':').append(key.getEmployerVersion());
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return weak("p-" + HexFormat.of().formatHex(digest, 0, 16), request);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("JVM không hỗ trợ SHA-256", e);
+        }
+    }
+
+    private static String weak(String tag, WebRequest request) {
+        return "W/\"" + tag + (prefersCbor(request) ? "-cbor" : "") + "\"";
+    }
+
+    // Giống cách Spring MVC chọn converter: kiểu được chấp nhận đầu tiên (theo q rồi độ cụ thể) khớp JSON hay CBOR;
+    // JSON đứng trước nên Accept mọi kiểu hoặc application/* vẫn là JSON
+    private static boolean prefersCbor(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) {
+            return false;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (MediaType type : acceptable) {
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
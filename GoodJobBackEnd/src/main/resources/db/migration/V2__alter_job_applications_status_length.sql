@@ -1 +0,0 @@
-ALTER TABLE job_applications MODIFY COLUMN status VARCHAR(20); 
\ No newline at end of file
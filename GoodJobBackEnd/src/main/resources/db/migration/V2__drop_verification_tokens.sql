@@ -1 +0,0 @@
-DROP TABLE IF EXISTS verification_tokens; 
\ No newline at end of file
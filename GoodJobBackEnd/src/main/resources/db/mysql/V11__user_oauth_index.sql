@@ -0,0 +1,3 @@
+-- findByProviderAndProviderId (đăng nhập OAuth2) quét toàn bảng users khi chưa có index
+-- (RepositoryQueryPlanTest phát hiện)
+CREATE INDEX idx_users_oauth2 ON users(oauth2_provider, oauth2_id);
@@ -0,0 +1,136 @@
+-- Schema gốc (tương ứng với schema do ddl-auto=update tạo ra trước khi dùng Flyway)
+-- Database đã có dữ liệu được baseline ở version 1, nên script này chỉ chạy trên database mới
+
+CREATE TABLE users (
+    id bigint AUTO_INCREMENT PRIMARY KEY,
+    username varchar(255) NOT NULL UNIQUE,
+    password varchar(255),
+    full_name varchar(255) NOT NULL,
+    phone_number varchar(255),
+    avatar_url varchar(2000),
+    email varchar(255) NOT NULL UNIQUE,
+    bio varchar(1000),
+    role varchar(255) NOT NULL,
+    active boolean NOT NULL,
+    oauth2_provider varchar(255),
+    oauth2_id varchar(255),
+    created_at datetime(6),
+    last_login datetime(6),
+    is_enabled boolean NOT NULL
+);
+
+CREATE TABLE employers (
+    user_id bigint PRIMARY KEY,
+    version bigint,
+    company_name varchar(255) NOT NULL,
+    company_description varchar(1000),
+    company_website varchar(500),
+    company_logo varchar(1000),
+    company_address varchar(255) NOT NULL,
+    company_size varchar(255),
+    industry varchar(255),
+    tax_code varchar(500),
+    contact_phone varchar(20),
+    social_links text,
+    verified boolean NOT NULL,
+    verification_document varchar(255),
+    active boolean NOT NULL,
+    FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+CREATE TABLE jobs (
+    job_id bigint AUTO_INCREMENT PRIMARY KEY,
+    employer_id bigint NOT NULL,
+    title varchar(255) NOT NULL,
+    description text,
+    requirement text,
+    location varchar(255),
+    job_type varchar(255),
+    salary_min double,
+    salary_max double,
+    salary_currency varchar(255),
+    apply_count integer,
+    view_count integer,
+    posted_at datetime(6),
+    expire_at datetime(6),
+    is_salary_public boolean,
+    is_active boolean,
+    status varchar(255),
+    rejection_reason text,
+    image_url varchar(255),
+    processed_by bigint,
+    processed_at datetime(6),
+    FOREIGN KEY (employer_id) REFERENCES employers(user_id),
+    FOREIGN KEY (processed_by) REFERENCES users(id)
+);
+
+CREATE TABLE job_applications (
+    id bigint AUTO_INCREMENT PRIMARY KEY,
+    job_id bigint NOT NULL,
+    applicant_id bigint NOT NULL,
+    employer_id bigint NOT NULL,
+    cover_letter text,
+    resume_url varchar(255),
+    applied_at datetime(6),
+    status varchar(20),
+    employer_viewed boolean NOT NULL,
+    FOREIGN KEY (job_id) REFERENCES jobs(job_id),
+    FOREIGN KEY (applicant_id) REFERENCES users(id),
+    FOREIGN KEY (employer_id) REFERENCES employers(user_id)
+);
+
+CREATE TABLE notifications (
+    id bigint AUTO_INCREMENT PRIMARY KEY,
+    user_id bigint NOT NULL,
+    title varchar(255) NOT NULL,
+    content text,
+    created_at datetime(6),
+    is_read boolean NOT NULL,
+    notification_type varchar(255),
+    related_application_id bigint,
+    FOREIGN KEY (user_id) REFERENCES users(id),
+    FOREIGN KEY (related_application_id) REFERENCES job_applications(id)
+);
+
+CREATE TABLE admin_notifications (
+    id bigint AUTO_INCREMENT PRIMARY KEY,
+    action_type varchar(255) NOT NULL,
+    job_id bigint,
+    job_title varchar(255),
+    `timestamp` datetime(6) NOT NULL,
+    username varchar(255) NOT NULL,
+    user_id bigint,
+    description text,
+    is_read boolean,
+    FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+CREATE TABLE saved_jobs (
+    id bigint AUTO_INCREMENT PRIMARY KEY,
+    user_id bigint NOT NULL,
+    job_id bigint NOT NULL,
+    saved_at datetime(6),
+    UNIQUE (user_id, job_id),
+    FOREIGN KEY (user_id) REFERENCES users(id),
+    FOREIGN KEY (job_id) REFERENCES jobs(job_id)
+);
+
+CREATE TABLE pending_registrations (
+    id bigint AUTO_INCREMENT PRIMARY KEY,
+    username varchar(255) NOT NULL,
+    password varchar(255) NOT NULL,
+    full_name varchar(255) NOT NULL,
+    email varchar(255) NOT NULL UNIQUE,
+    verification_code varchar(255) NOT NULL,
+    expiry_date datetime(6) NOT NULL,
+    role varchar(255) NOT NULL,
+    used boolean NOT NULL
+);
+
+CREATE INDEX idx_job_applications_job_id ON job_applications(job_id);
+CREATE INDEX idx_job_applications_applicant_id ON job_applications(applicant_id);
+CREATE INDEX idx_job_applications_employer_id ON job_applications(employer_id);
+CREATE INDEX idx_notifications_user_id ON notifications(user_id);
+CREATE INDEX idx_notifications_related_application_id ON notifications(related_application_id);
+CREATE INDEX idx_jobs_employer_id ON jobs(employer_id);
+CREATE INDEX idx_jobs_processed_by ON jobs(processed_by);
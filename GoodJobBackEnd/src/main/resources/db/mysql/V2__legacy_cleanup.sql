@@ -0,0 +1,4 @@
+-- Gộp các script V2 cũ: bỏ bảng verification_tokens và giới hạn độ dài status của đơn ứng tuyển
+DROP TABLE IF EXISTS verification_tokens;
+
+ALTER TABLE job_applications MODIFY COLUMN status varchar(20);
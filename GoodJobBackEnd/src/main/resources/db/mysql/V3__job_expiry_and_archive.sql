@@ -0,0 +1,56 @@
+-- Trạng thái EXPIRED cho job hết hạn (ddl-auto cũ tạo cột enum chỉ gồm 4 trạng thái)
+ALTER TABLE jobs MODIFY COLUMN status varchar(255);
+
+CREATE INDEX idx_jobs_status_expire_at ON jobs(status, expire_at);
+
+-- Bảng lưu trữ cho job "lạnh" và dữ liệu phụ thuộc
+CREATE TABLE jobs_archive (
+    job_id bigint PRIMARY KEY,
+    employer_id bigint NOT NULL,
+    title varchar(255) NOT NULL,
+    description text,
+    requirement text,
+    location varchar(255),
+    job_type varchar(255),
+    salary_min double,
+    salary_max double,
+    salary_currency varchar(255),
+    apply_count integer,
+    view_count integer,
+    posted_at datetime(6),
+    expire_at datetime(6),
+    is_salary_public boolean,
+    is_active boolean,
+    status varchar(255),
+    rejection_reason text,
+    image_url varchar(255),
+    processed_by bigint,
+    processed_at datetime(6),
+    archived_at datetime(6) NOT NULL
+);
+
+CREATE TABLE job_applications_archive (
+    id bigint PRIMARY KEY,
+    job_id bigint NOT NULL,
+    applicant_id bigint NOT NULL,
+    employer_id bigint NOT NULL,
+    cover_letter text,
+    resume_url varchar(255),
+    applied_at datetime(6),
+    status varchar(20),
+    employer_viewed boolean NOT NULL,
+    archived_at datetime(6) NOT NULL
+);
+
+CREATE TABLE saved_jobs_archive (
+    id bigint PRIMARY KEY,
+    user_id bigint NOT NULL,
+    job_id bigint NOT NULL,
+    saved_at datetime(6),
+    archived_at datetime(6) NOT NULL
+);
+
+CREATE INDEX idx_jobs_archive_employer_id ON jobs_archive(employer_id);
+CREATE INDEX idx_job_applications_archive_job_id ON job_applications_archive(job_id);
+CREATE INDEX idx_job_applications_archive_applicant_id ON job_applications_archive(applicant_id);
+CREATE INDEX idx_saved_jobs_archive_job_id ON saved_jobs_archive(job_id);
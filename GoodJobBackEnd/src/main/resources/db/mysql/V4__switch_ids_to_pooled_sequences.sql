@@ -0,0 +1,30 @@
+-- Chuyển ID từ AUTO_INCREMENT sang sequence (allocationSize = 50, optimizer pooled-lo)
+-- MySQL không có sequence, Hibernate dùng bảng <tên>_seq với cột next_val để mô phỏng
+
+CREATE TABLE jobs_seq (next_val bigint);
+INSERT INTO jobs_seq SELECT COALESCE(MAX(job_id), 0) + 1 FROM jobs;
+ALTER TABLE jobs MODIFY job_id bigint NOT NULL;
+
+CREATE TABLE job_applications_seq (next_val bigint);
+INSERT INTO job_applications_seq SELECT COALESCE(MAX(id), 0) + 1 FROM job_applications;
+ALTER TABLE job_applications MODIFY id bigint NOT NULL;
+
+CREATE TABLE notifications_seq (next_val bigint);
+INSERT INTO notifications_seq SELECT COALESCE(MAX(id), 0) + 1 FROM notifications;
+ALTER TABLE notifications MODIFY id bigint NOT NULL;
+
+CREATE TABLE admin_notifications_seq (next_val bigint);
+INSERT INTO admin_notifications_seq SELECT COALESCE(MAX(id), 0) + 1 FROM admin_notifications;
+ALTER TABLE admin_notifications MODIFY id bigint NOT NULL;
+
+CREATE TABLE saved_jobs_seq (next_val bigint);
+INSERT INTO saved_jobs_seq SELECT COALESCE(MAX(id), 0) + 1 FROM saved_jobs;
+ALTER TABLE saved_jobs MODIFY id bigint NOT NULL;
+
+CREATE TABLE users_seq (next_val bigint);
+INSERT INTO users_seq SELECT COALESCE(MAX(id), 0) + 1 FROM users;
+ALTER TABLE users MODIFY id bigint NOT NULL;
+
+CREATE TABLE pending_registrations_seq (next_val bigint);
+INSERT INTO pending_registrations_seq SELECT COALESCE(MAX(id), 0) + 1 FROM pending_registrations;
+ALTER TABLE pending_registrations MODIFY id bigint NOT NULL;
@@ -0,0 +1,25 @@
+-- Index dựa trên các truy vấn thực tế trong repository
+-- MySQL không hỗ trợ partial index nên dùng index ghép với cột điều kiện đứng đầu
+
+-- /api/jobs/approved, searchWithFilters, findByStatus(OrderByPostedAtDesc):
+--   WHERE status = ? ORDER BY posted_at DESC
+CREATE INDEX idx_jobs_status_posted_at ON jobs(status, posted_at DESC);
+-- findByEmployer(employer, pageable) với sort mặc định postedAt,desc
+CREATE INDEX idx_jobs_employer_posted_at ON jobs(employer_id, posted_at DESC);
+
+-- findByUserIdOrderByCreatedAtDesc
+CREATE INDEX idx_notifications_user_created_at ON notifications(user_id, created_at DESC);
+-- findByUserIdAndReadFalseOrderByCreatedAtDesc, countByUserIdAndReadFalse
+CREATE INDEX idx_notifications_user_unread ON notifications(user_id, is_read, created_at DESC);
+
+-- findAllByOrderByTimestampDesc, findTop10ByOrderByTimestampDesc, findByTimestampBetween...
+CREATE INDEX idx_admin_notifications_timestamp ON admin_notifications(`timestamp` DESC);
+-- findByTypeOrderByTimestampDesc
+CREATE INDEX idx_admin_notifications_type_timestamp ON admin_notifications(action_type, `timestamp` DESC);
+-- findByUserIdOrderByTimestampDesc
+CREATE INDEX idx_admin_notifications_user_timestamp ON admin_notifications(user_id, `timestamp` DESC);
+-- findByJobIdOrderByTimestampDesc
+CREATE INDEX idx_admin_notifications_job_timestamp ON admin_notifications(job_id, `timestamp` DESC);
+-- findByReadFalseOrderByTimestampDesc, countByReadFalse
+CREATE INDEX idx_admin_notifications_unread ON admin_notifications(is_read, `timestamp` DESC);
+
@@ -0,0 +1,18 @@
+-- Mỗi ứng viên chỉ được ứng tuyển một lần cho mỗi công việc
+-- Gộp các đơn trùng (giữ đơn cũ nhất) trước khi thêm unique constraint
+UPDATE notifications n
+JOIN job_applications a ON n.related_application_id = a.id
+JOIN (
+    SELECT job_id, applicant_id, MIN(id) AS keep_id
+    FROM job_applications
+    GROUP BY job_id, applicant_id
+) k ON k.job_id = a.job_id AND k.applicant_id = a.applicant_id
+SET n.related_application_id = k.keep_id
+WHERE a.id <> k.keep_id;
+
+DELETE a FROM job_applications a
+JOIN job_applications b
+    ON a.job_id = b.job_id AND a.applicant_id = b.applicant_id AND a.id > b.id;
+
+ALTER TABLE job_applications
+    ADD CONSTRAINT uk_job_applications_job_applicant UNIQUE (job_id, applicant_id);
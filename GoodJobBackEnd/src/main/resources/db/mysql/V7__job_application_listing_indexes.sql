@@ -0,0 +1,33 @@
+-- Index cho danh sách đơn ứng tuyển phân trang theo job/employer/ứng viên,
+-- sắp xếp applied_at DESC, id DESC (dùng cả cho phân trang theo cursor)
+-- MySQL không hỗ trợ partial index nên đưa employer_viewed vào index ghép
+CREATE INDEX idx_job_applications_job_applied ON job_applications(job_id, applied_at DESC, id DESC);
+CREATE INDEX idx_job_applications_employer_applied ON job_applications(employer_id, applied_at DESC, id DESC);
+CREATE INDEX idx_job_applications_applicant_applied ON job_applications(applicant_id, applied_at DESC, id DESC);
+-- Lọc theo trạng thái
+CREATE INDEX idx_job_applications_job_status_applied ON job_applications(job_id, status, applied_at DESC, id DESC);
+CREATE INDEX idx_job_applications_employer_status_applied ON job_applications(employer_id, status, applied_at DESC, id DESC);
+-- Đơn employer chưa xem
+CREATE INDEX idx_job_applications_employer_unviewed ON job_applications(employer_id, employer_viewed, applied_at DESC, id DESC);
+
+-- Các index một cột cũ đã được thay bằng index ghép ở trên (khóa ngoại dùng index ghép mới).
+-- Chỉ database tạo mới từ V1 mới có các index này (database cũ được baseline từ schema ddl-auto không có),
+-- mà MySQL không có DROP INDEX IF EXISTS nên kiểm tra information_schema trước khi xóa.
+SET @drop_index = (SELECT IF(COUNT(*) > 0, 'DROP INDEX idx_job_applications_job_id ON job_applications', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'job_applications' AND index_name = 'idx_job_applications_job_id');
+PREPARE drop_index_statement FROM @drop_index;
+EXECUTE drop_index_statement;
+DEALLOCATE PREPARE drop_index_statement;
+SET @drop_index = (SELECT IF(COUNT(*) > 0, 'DROP INDEX idx_job_applications_applicant_id ON job_applications', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'job_applications' AND index_name = 'idx_job_applications_applicant_id');
+PREPARE drop_index_statement FROM @drop_index;
+EXECUTE drop_index_statement;
+DEALLOCATE PREPARE drop_index_statement;
+SET @drop_index = (SELECT IF(COUNT(*) > 0, 'DROP INDEX idx_job_applications_employer_id ON job_applications', 'DO 0')
+    FROM information_schema.statistics
+    WHERE table_schema = DATABASE() AND table_name = 'job_applications' AND index_name = 'idx_job_applications_employer_id');
+PREPARE drop_index_statement FROM @drop_index;
+EXECUTE drop_index_statement;
+DEALLOCATE PREPARE drop_index_statement;
@@ -0,0 +1,18 @@
+-- Tiến độ các lượt nhập công việc hàng loạt, được cập nhật trong cùng transaction với lô job vừa insert
+-- để lượt nhập bị gián đoạn luôn tiếp tục đúng từ lô chưa commit
+CREATE TABLE IF NOT EXISTS job_imports (
+    import_id varchar(36) PRIMARY KEY,
+    employer_id bigint NOT NULL,
+    file_name varchar(255) NOT NULL,
+    format varchar(16) NOT NULL,
+    state varchar(16) NOT NULL,
+    committed_rows bigint NOT NULL,
+    inserted bigint NOT NULL,
+    failed bigint NOT NULL,
+    errors text,
+    message text,
+    created_at timestamp(6) NOT NULL,
+    finished_at timestamp(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_job_imports_state ON job_imports(state);
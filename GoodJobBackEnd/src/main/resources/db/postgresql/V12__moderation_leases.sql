@@ -0,0 +1,6 @@
+-- Chỗ giữ của hàng đợi duyệt (ModerationQueueService) lưu trên dòng job thay vì trong bộ nhớ từng instance:
+-- admin đang giữ và thời điểm hết hạn, NULL khi chưa ai giữ. Nhận job bằng FOR UPDATE SKIP LOCKED rồi UPDATE,
+-- nên hai admin (kể cả ở hai instance) không nhận trùng job.
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS lease_admin_id bigint;
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS lease_expires_at timestamp(6);
+CREATE INDEX IF NOT EXISTS idx_jobs_lease_admin ON jobs(lease_admin_id, lease_expires_at);
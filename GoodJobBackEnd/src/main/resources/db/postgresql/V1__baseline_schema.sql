@@ -0,0 +1,125 @@
+-- Schema gốc (tương ứng với schema do ddl-auto=update tạo ra trước khi dùng Flyway)
+-- Database đã có dữ liệu được baseline ở version 1, nên script này chỉ chạy trên database mới
+
+CREATE TABLE users (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username varchar(255) NOT NULL UNIQUE,
+    password varchar(255),
+    full_name varchar(255) NOT NULL,
+    phone_number varchar(255),
+    avatar_url varchar(2000),
+    email varchar(255) NOT NULL UNIQUE,
+    bio varchar(1000),
+    role varchar(255) NOT NULL,
+    active boolean NOT NULL,
+    oauth2_provider varchar(255),
+    oauth2_id varchar(255),
+    created_at timestamp(6),
+    last_login timestamp(6),
+    is_enabled boolean NOT NULL
+);
+
+CREATE TABLE employers (
+    user_id bigint PRIMARY KEY REFERENCES users(id),
+    version bigint,
+    company_name varchar(255) NOT NULL,
+    company_description varchar(1000),
+    company_website varchar(500),
+    company_logo varchar(1000),
+    company_address varchar(255) NOT NULL,
+    company_size varchar(255),
+    industry varchar(255),
+    tax_code varchar(500),
+    contact_phone varchar(20),
+    social_links text,
+    verified boolean NOT NULL,
+    verification_document varchar(255),
+    active boolean NOT NULL
+);
+
+CREATE TABLE jobs (
+    job_id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    employer_id bigint NOT NULL REFERENCES employers(user_id),
+    title varchar(255) NOT NULL,
+    description text,
+    requirement text,
+    location varchar(255),
+    job_type varchar(255),
+    salary_min double precision,
+    salary_max double precision,
+    salary_currency varchar(255),
+    apply_count integer,
+    view_count integer,
+    posted_at timestamp(6),
+    expire_at timestamp(6),
+    is_salary_public boolean,
+    is_active boolean,
+    status varchar(255),
+    rejection_reason text,
+    image_url varchar(255),
+    processed_by bigint REFERENCES users(id),
+    processed_at timestamp(6)
+);
+
+CREATE TABLE job_applications (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id bigint NOT NULL REFERENCES jobs(job_id),
+    applicant_id bigint NOT NULL REFERENCES users(id),
+    employer_id bigint NOT NULL REFERENCES employers(user_id),
+    cover_letter text,
+    resume_url varchar(255),
+    applied_at timestamp(6),
+    status varchar(20),
+    employer_viewed boolean NOT NULL
+);
+
+CREATE TABLE notifications (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id bigint NOT NULL REFERENCES users(id),
+    title varchar(255) NOT NULL,
+    content text,
+    created_at timestamp(6),
+    is_read boolean NOT NULL,
+    notification_type varchar(255),
+    related_application_id bigint REFERENCES job_applications(id)
+);
+
+CREATE TABLE admin_notifications (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    action_type varchar(255) NOT NULL,
+    job_id bigint,
+    job_title varchar(255),
+    timestamp timestamp(6) NOT NULL,
+    username varchar(255) NOT NULL,
+    user_id bigint REFERENCES users(id),
+    description text,
+    is_read boolean
+);
+
+CREATE TABLE saved_jobs (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id bigint NOT NULL REFERENCES users(id),
+    job_id bigint NOT NULL REFERENCES jobs(job_id),
+    saved_at timestamp(6),
+    UNIQUE (user_id, job_id)
+);
+
+CREATE TABLE pending_registrations (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username varchar(255) NOT NULL,
+    password varchar(255) NOT NULL,
+    full_name varchar(255) NOT NULL,
+    email varchar(255) NOT NULL UNIQUE,
+    verification_code varchar(255) NOT NULL,
+    expiry_date timestamp(6) NOT NULL,
+    role varchar(255) NOT NULL,
+    used boolean NOT NULL
+);
+
+CREATE INDEX idx_job_applications_job_id ON job_applications(job_id);
+CREATE INDEX idx_job_applications_applicant_id ON job_applications(applicant_id);
+CREATE INDEX idx_job_applications_employer_id ON job_applications(employer_id);
+CREATE INDEX idx_notifications_user_id ON notifications(user_id);
+CREATE INDEX idx_notifications_related_application_id ON notifications(related_application_id);
+CREATE INDEX idx_jobs_employer_id ON jobs(employer_id);
+CREATE INDEX idx_jobs_processed_by ON jobs(processed_by);
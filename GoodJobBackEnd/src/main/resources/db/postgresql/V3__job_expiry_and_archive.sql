@@ -0,0 +1,56 @@
+-- Trạng thái EXPIRED cho job hết hạn (ddl-auto cũ tạo check constraint chỉ gồm 4 trạng thái)
+ALTER TABLE jobs DROP CONSTRAINT IF EXISTS jobs_status_check;
+
+CREATE INDEX IF NOT EXISTS idx_jobs_status_expire_at ON jobs(status, expire_at);
+
+-- Bảng lưu trữ cho job "lạnh" và dữ liệu phụ thuộc
+CREATE TABLE IF NOT EXISTS jobs_archive (
+    job_id bigint PRIMARY KEY,
+    employer_id bigint NOT NULL,
+    title varchar(255) NOT NULL,
+    description text,
+    requirement text,
+    location varchar(255),
+    job_type varchar(255),
+    salary_min double precision,
+    salary_max double precision,
+    salary_currency varchar(255),
+    apply_count integer,
+    view_count integer,
+    posted_at timestamp(6),
+    expire_at timestamp(6),
+    is_salary_public boolean,
+    is_active boolean,
+    status varchar(255),
+    rejection_reason text,
+    image_url varchar(255),
+    processed_by bigint,
+    processed_at timestamp(6),
+    archived_at timestamp(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS job_applications_archive (
+    id bigint PRIMARY KEY,
+    job_id bigint NOT NULL,
+    applicant_id bigint NOT NULL,
+    employer_id bigint NOT NULL,
+    cover_letter text,
+    resume_url varchar(255),
+    applied_at timestamp(6),
+    status varchar(20),
+    employer_viewed boolean NOT NULL,
+    archived_at timestamp(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS saved_jobs_archive (
+    id bigint PRIMARY KEY,
+    user_id bigint NOT NULL,
+    job_id bigint NOT NULL,
+    saved_at timestamp(6),
+    archived_at timestamp(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_jobs_archive_employer_id ON jobs_archive(employer_id);
+CREATE INDEX IF NOT EXISTS idx_job_applications_archive_job_id ON job_applications_archive(job_id);
+CREATE INDEX IF NOT EXISTS idx_job_applications_archive_applicant_id ON job_applications_archive(applicant_id);
+CREATE INDEX IF NOT EXISTS idx_saved_jobs_archive_job_id ON saved_jobs_archive(job_id);
@@ -0,0 +1,30 @@
+-- Chuyển ID từ IDENTITY sang sequence (allocationSize = 50, optimizer pooled-lo)
+-- Mỗi sequence bắt đầu ngay sau ID lớn nhất hiện có để không trùng với dữ liệu cũ
+
+CREATE SEQUENCE IF NOT EXISTS jobs_seq INCREMENT BY 50;
+SELECT setval('jobs_seq', COALESCE((SELECT MAX(job_id) FROM jobs), 0) + 1, false);
+ALTER TABLE jobs ALTER COLUMN job_id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS job_applications_seq INCREMENT BY 50;
+SELECT setval('job_applications_seq', COALESCE((SELECT MAX(id) FROM job_applications), 0) + 1, false);
+ALTER TABLE job_applications ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS notifications_seq INCREMENT BY 50;
+SELECT setval('notifications_seq', COALESCE((SELECT MAX(id) FROM notifications), 0) + 1, false);
+ALTER TABLE notifications ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS admin_notifications_seq INCREMENT BY 50;
+SELECT setval('admin_notifications_seq', COALESCE((SELECT MAX(id) FROM admin_notifications), 0) + 1, false);
+ALTER TABLE admin_notifications ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS saved_jobs_seq INCREMENT BY 50;
+SELECT setval('saved_jobs_seq', COALESCE((SELECT MAX(id) FROM saved_jobs), 0) + 1, false);
+ALTER TABLE saved_jobs ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 1, false);
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS pending_registrations_seq INCREMENT BY 50;
+SELECT setval('pending_registrations_seq', COALESCE((SELECT MAX(id) FROM pending_registrations), 0) + 1, false);
+ALTER TABLE pending_registrations ALTER COLUMN id DROP IDENTITY IF EXISTS;
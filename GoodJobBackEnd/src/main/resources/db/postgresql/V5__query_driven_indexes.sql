@@ -0,0 +1,29 @@
+-- Index dựa trên các truy vấn thực tế trong repository
+
+-- /api/jobs/approved, searchWithFilters, findByStatusOrderByPostedAtDesc:
+--   WHERE status = 'APPROVED' ORDER BY posted_at DESC
+CREATE INDEX IF NOT EXISTS idx_jobs_approved_posted_at ON jobs(posted_at DESC) WHERE status = 'APPROVED';
+-- findByStatus / findByStatusOrderByPostedAtDesc cho các trạng thái khác (admin)
+CREATE INDEX IF NOT EXISTS idx_jobs_status_posted_at ON jobs(status, posted_at DESC);
+-- findByEmployer(employer, pageable) với sort mặc định postedAt,desc
+CREATE INDEX IF NOT EXISTS idx_jobs_employer_posted_at ON jobs(employer_id, posted_at DESC);
+
+-- findByUserIdOrderByCreatedAtDesc
+CREATE INDEX IF NOT EXISTS idx_notifications_user_created_at ON notifications(user_id, created_at DESC);
+-- findByUserIdAndReadFalseOrderByCreatedAtDesc, countByUserIdAndReadFalse
+CREATE INDEX IF NOT EXISTS idx_notifications_user_unread ON notifications(user_id, created_at DESC) WHERE is_read = false;
+
+-- findAllByOrderByTimestampDesc, findTop10ByOrderByTimestampDesc, findByTimestampBetween...
+CREATE INDEX IF NOT EXISTS idx_admin_notifications_timestamp ON admin_notifications(timestamp DESC);
+-- findByTypeOrderByTimestampDesc
+CREATE INDEX IF NOT EXISTS idx_admin_notifications_type_timestamp ON admin_notifications(action_type, timestamp DESC);
+-- findByUserIdOrderByTimestampDesc
+CREATE INDEX IF NOT EXISTS idx_admin_notifications_user_timestamp ON admin_notifications(user_id, timestamp DESC);
+-- findByJobIdOrderByTimestampDesc
+CREATE INDEX IF NOT EXISTS idx_admin_notifications_job_timestamp ON admin_notifications(job_id, timestamp DESC);
+-- findByReadFalseOrderByTimestampDesc, countByReadFalse
+CREATE INDEX IF NOT EXISTS idx_admin_notifications_unread ON admin_notifications(timestamp DESC) WHERE is_read = false;
+
+-- existsByUserIdAndJobJobId / findByUserIdAndJobJobId dùng unique (user_id, job_id);
+-- thêm index theo job_id cho các thao tác theo job (lưu trữ, xóa)
+CREATE INDEX IF NOT EXISTS idx_saved_jobs_job_id ON saved_jobs(job_id);
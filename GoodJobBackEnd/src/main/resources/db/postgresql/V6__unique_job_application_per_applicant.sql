@@ -0,0 +1,16 @@
+-- Mỗi ứng viên chỉ được ứng tuyển một lần cho mỗi công việc
+-- Gộp các đơn trùng (giữ đơn cũ nhất) trước khi thêm unique constraint
+UPDATE notifications n
+SET related_application_id = d.keep_id
+FROM (
+    SELECT id, MIN(id) OVER (PARTITION BY job_id, applicant_id) AS keep_id
+    FROM job_applications
+) d
+WHERE n.related_application_id = d.id AND d.id <> d.keep_id;
+
+DELETE FROM job_applications a
+USING job_applications b
+WHERE a.job_id = b.job_id AND a.applicant_id = b.applicant_id AND a.id > b.id;
+
+ALTER TABLE job_applications
+    ADD CONSTRAINT uk_job_applications_job_applicant UNIQUE (job_id, applicant_id);
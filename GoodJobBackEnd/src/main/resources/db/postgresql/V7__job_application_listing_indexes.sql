@@ -0,0 +1,16 @@
+-- Index cho danh sách đơn ứng tuyển phân trang theo job/employer/ứng viên,
+-- sắp xếp applied_at DESC, id DESC (dùng cả cho phân trang theo cursor)
+CREATE INDEX IF NOT EXISTS idx_job_applications_job_applied ON job_applications(job_id, applied_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_job_applications_employer_applied ON job_applications(employer_id, applied_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_job_applications_applicant_applied ON job_applications(applicant_id, applied_at DESC, id DESC);
+-- Lọc theo trạng thái
+CREATE INDEX IF NOT EXISTS idx_job_applications_job_status_applied ON job_applications(job_id, status, applied_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_job_applications_employer_status_applied ON job_applications(employer_id, status, applied_at DESC, id DESC);
+-- Đơn employer chưa xem
+CREATE INDEX IF NOT EXISTS idx_job_applications_employer_unviewed ON job_applications(employer_id, applied_at DESC, id DESC)
+    WHERE employer_viewed = false;
+
+-- Các index một cột cũ đã được thay bằng index ghép ở trên (job_id còn có unique (job_id, applicant_id))
+DROP INDEX IF EXISTS idx_job_applications_job_id;
+DROP INDEX IF EXISTS idx_job_applications_applicant_id;
+DROP INDEX IF EXISTS idx_job_applications_employer_id;
@@ -0,0 +1,5 @@
+-- Version của job cho optimistic locking và ETag của API công việc.
+-- Mọi câu UPDATE hàng loạt trên jobs phải tự tăng cột này; bảng lưu trữ giữ lại version để
+-- job được khôi phục không quay về version cũ đã từng trả cho client.
+ALTER TABLE jobs ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
+ALTER TABLE jobs_archive ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
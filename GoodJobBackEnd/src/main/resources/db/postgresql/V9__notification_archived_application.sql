@@ -0,0 +1,4 @@
+-- Thông báo trỏ tới đơn ứng tuyển đã được lưu trữ: notifications.related_application_id có khóa ngoại tới
+-- job_applications nên phải để trống, id đơn được giữ ở cột này (không có khóa ngoại) để gắn lại khi khôi phục.
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS archived_application_id bigint;
+CREATE INDEX IF NOT EXISTS idx_notifications_archived_application_id ON notifications (archived_application_id);
@@ -0,0 +1,31 @@
+package org.example.goodjobbackend;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Lớp cha cho test tích hợp: toàn bộ context với profile prod trên một PostgreSQL chạy bằng Testcontainers,
+ * schema do Flyway tạo như khi deploy. Container được khởi động một lần cho mọi lớp test (cần Docker).
+ */
+@SpringBootTest
+@ActiveProfiles({"prod", "test"})
+public abstract class PostgresIntegrationTest {
+
+    @ServiceConnection
+    protected static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    protected TestData data() {
+        return new TestData(jdbcTemplate);
+    }
+}
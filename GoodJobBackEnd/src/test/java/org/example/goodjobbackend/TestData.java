@@ -0,0 +1,68 @@
+package org.example.goodjobbackend;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Tạo dữ liệu tối thiểu bằng SQL (không qua service) cho test tích hợp.
+ * Id lấy từ chính sequence của bảng nên không trùng với id Hibernate cấp (mỗi lần nextval là một khối riêng).
+ */
+public class TestData {
+
+    private final JdbcTemplate jdbc;
+
+    public TestData(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public long user(String role) {
+        long id = nextId("users_seq");
+        jdbc.update("INSERT INTO users (id, username, full_name, email, role, active, is_enabled, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, true, true, now())",
+                id, "test" + id, "Người dùng " + id, "test" + id + "@example.com", role);
+        return id;
+    }
+
+    public long applicant() {
+        return user("USER");
+    }
+
+    public long admin() {
+        return user("ADMIN");
+    }
+
+    public long employer() {
+        long id = user("EMPLOYER");
+        jdbc.update("INSERT INTO employers (user_id, version, company_name, company_address, verified, active) " +
+                "VALUES (?, 0, ?, ?, true, true)", id, "Công ty " + id, "Hà Nội");
+        return id;
+    }
+
+    public long job(long employerId, String status) {
+        return job(employerId, status, LocalDateTime.now().plusDays(30));
+    }
+
+    public long job(long employerId, String status, LocalDateTime expireAt) {
+        long id = nextId("jobs_seq");
+        jdbc.update("INSERT INTO jobs (job_id, version, employer_id, title, description, requirement, location, " +
+                        "apply_count, view_count, posted_at, expire_at, is_salary_public, is_active, status) " +
+                        "VALUES (?, 0, ?, ?, ?, ?, 'Hà Nội', 0, 0, now(), ?, true, true, ?)",
+                id, employerId, "Lập trình viên Java #" + id, "Mô tả công việc " + id, "Yêu cầu " + id,
+                Timestamp.valueOf(expireAt), status);
+        return id;
+    }
+
+    public long application(long jobId, long applicantId, long employerId, String status) {
+        long id = nextId("job_applications_seq");
+        jdbc.update("INSERT INTO job_applications (id, job_id, applicant_id, employer_id, status, applied_at, " +
+                        "employer_viewed) VALUES (?, ?, ?, ?, ?, now(), false)",
+                id, jobId, applicantId, employerId, status);
+        return id;
+    }
+
+    private long nextId(String sequence) {
+        return jdbc.queryForObject("SELECT nextval('" + sequence + "')", Long.class);
+    }
+}
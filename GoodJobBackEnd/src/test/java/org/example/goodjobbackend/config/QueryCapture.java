@@ -0,0 +1,73 @@
+package org.example.goodjobbackend.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ghi lại mọi câu SQL (kèm giá trị tham số) mà luồng hiện tại chạy trong {@link #capture(Runnable)}.
+ * Dùng lại lớp bọc JDBC của truy vấn chậm: mọi câu lệnh đều coi là "chậm" trong lúc đang ghi.
+ * Test dùng lớp này phải tắt app.slow-query.enabled và import {@link Config}.
+ */
+public class QueryCapture extends SlowQueryLog {
+
+    private final ThreadLocal<List<CapturedQuery>> current = new ThreadLocal<>();
+
+    public QueryCapture() {
+        super(new SlowQueryProperties());
+    }
+
+    public List<CapturedQuery> capture(Runnable action) {
+        List<CapturedQuery> queries = new ArrayList<>();
+        current.set(queries);
+        try {
+            action.run();
+        } finally {
+            current.remove();
+        }
+        return queries;
+    }
+
+    @Override
+    boolean isSlow(long elapsedNanos) {
+        return current.get() != null;
+    }
+
+    @Override
+    void record(String sql, Object[] parameters, int parameterCount, int batchSize, long elapsedNanos) {
+        current.get().add(new CapturedQuery(sql,
+                parameters == null ? new Object[0] : Arrays.copyOf(parameters, parameterCount)));
+    }
+
+    public record CapturedQuery(String sql, Object[] parameters) {
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    public static class Config {
+
+        @Bean(destroyMethod = "shutdown")
+        public static QueryCapture queryCapture() {
+            return new QueryCapture();
+        }
+
+        @Bean
+        public static BeanPostProcessor queryCaptureDataSourcePostProcessor(ObjectProvider<QueryCapture> queryCapture) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                            && !(bean instanceof SlowQueryDataSource)) {
+                        return new SlowQueryDataSource(dataSource, queryCapture.getObject());
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package org.example.goodjobbackend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryMetricsInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryBudgetProperties properties = new QueryBudgetProperties();
+    private final QueryCounter inspector = new QueryCounter();
+
+    @AfterEach
+    void clear() {
+        QueryCounter.finish();
+    }
+
+    @Test
+    void asyncRequestReleasesTheCounterAndIsRecordedOnce() throws Exception {
+        QueryMetricsInterceptor interceptor = new QueryMetricsInterceptor(meterRegistry, properties);
+        HandlerMethod handler = handler();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/export");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, handler);
+        inspector.inspect("select 1");
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        assertThat(QueryCounter.count()).isZero();
+
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, handler);
+        inspector.inspect("select 2");
+        interceptor.afterCompletion(request, response, handler, null);
+
+        assertThat(meterRegistry.get("goodjob.http.server.queries").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("goodjob.http.server.queries").summary().totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    void failModeRejectsTheStatementOverBudget() throws Exception {
+        properties.setDefaultMax(1);
+        properties.setMode(QueryBudgetProperties.Mode.FAIL);
+        QueryMetricsInterceptor interceptor = new QueryMetricsInterceptor(meterRegistry, properties);
+
+        interceptor.preHandle(new MockHttpServletRequest("GET", "/api/export"), new MockHttpServletResponse(), handler());
+        inspector.inspect("select 1");
+
+        assertThatThrownBy(() -> inspector.inspect("select 2"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Vượt ngân sách truy vấn");
+    }
+
+    private HandlerMethod handler() throws NoSuchMethodException {
+        return new HandlerMethod(new SampleController(), SampleController.class.getMethod("export"));
+    }
+
+    static class SampleController {
+        public void export() {
+        }
+    }
+}
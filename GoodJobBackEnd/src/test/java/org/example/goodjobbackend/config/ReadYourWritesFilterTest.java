@@ -0,0 +1,69 @@
+package org.example.goodjobbackend.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    @Test
+    void cookieCannotPinTheClientToThePrimaryBeyondTheWindow() throws Exception {
+        assertThat(mustReadFromPrimary(Duration.ZERO, String.valueOf(Long.MAX_VALUE))).isFalse();
+    }
+
+    @Test
+    void cookieWithinTheWindowPinsTheClientToThePrimary() throws Exception {
+        String until = String.valueOf(System.currentTimeMillis() + 60_000);
+
+        assertThat(mustReadFromPrimary(Duration.ofMinutes(5), until)).isTrue();
+    }
+
+    @Test
+    void malformedCookieIsIgnored() throws Exception {
+        assertThat(mustReadFromPrimary(Duration.ofMinutes(5), "abc")).isFalse();
+    }
+
+    @Test
+    void writeOutsideARequestDoesNotPinTheThreadToThePrimary() {
+        try {
+            ReadYourWritesContext.markWrite(Duration.ofMinutes(5));
+
+            assertThat(ReadYourWritesContext.mustReadFromPrimary()).isFalse();
+        } finally {
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    @Test
+    void writeInsideARequestPinsTheClientAndSetsTheCookie() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest("POST", "/api/jobs"), response));
+        try {
+            ReadYourWritesContext.markWrite(Duration.ofMinutes(5));
+
+            assertThat(ReadYourWritesContext.mustReadFromPrimary()).isTrue();
+            assertThat(response.getCookie(ReadYourWritesContext.COOKIE_NAME)).isNotNull();
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            ReadYourWritesContext.clear();
+        }
+    }
+
+    private boolean mustReadFromPrimary(Duration window, String cookieValue) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs");
+        request.setCookies(new Cookie(ReadYourWritesContext.COOKIE_NAME, cookieValue));
+        AtomicBoolean primary = new AtomicBoolean();
+        new ReadYourWritesFilter(window).doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> primary.set(ReadYourWritesContext.mustReadFromPrimary()));
+        return primary.get();
+    }
+}
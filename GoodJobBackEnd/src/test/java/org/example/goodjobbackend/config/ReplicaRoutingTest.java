@@ -0,0 +1,131 @@
+package org.example.goodjobbackend.config;
+
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Định tuyến đọc/ghi trên hai database thật: primary là container dùng chung của test tích hợp, "replica" là
+ * một PostgreSQL riêng có cùng schema (không có replication thật, chỉ cần phân biệt được câu lệnh chạy ở đâu).
+ * Độ trễ của replica được giả lập bằng bảng replica_lag.
+ */
+class ReplicaRoutingTest extends PostgresIntegrationTest {
+
+    private static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("replica");
+
+    // Pool replica của ứng dụng chỉ đọc, nên dữ liệu test được ghi qua connection riêng
+    private static final JdbcTemplate REPLICA_JDBC;
+
+    static {
+        REPLICA.start();
+        Flyway.configure()
+                .dataSource(REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword())
+                .locations("classpath:db/postgresql")
+                .load()
+                .migrate();
+        REPLICA_JDBC = new JdbcTemplate(new DriverManagerDataSource(
+                REPLICA.getJdbcUrl(), REPLICA.getUsername(), REPLICA.getPassword()));
+        REPLICA_JDBC.execute("CREATE TABLE replica_lag (seconds double precision NOT NULL)");
+    }
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        // ReplicaDataSourceConfig tự tạo pool primary từ spring.datasource.*
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("app.datasource.replica.enabled", () -> "true");
+        registry.add("app.datasource.replica.pools[0].url", REPLICA::getJdbcUrl);
+        registry.add("app.datasource.replica.pools[0].username", REPLICA::getUsername);
+        registry.add("app.datasource.replica.pools[0].password", REPLICA::getPassword);
+        registry.add("app.datasource.replica.max-lag", () -> "1500ms");
+        registry.add("app.datasource.replica.lag-query", () -> "SELECT COALESCE((SELECT max(seconds) FROM replica_lag), 0)");
+        registry.add("app.datasource.replica.health-check-interval", () -> "PT1H");
+    }
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void reset() {
+        ReadYourWritesContext.clear();
+        setReplicaLag(0);
+    }
+
+    @AfterEach
+    void endRequest() {
+        RequestContextHolder.resetRequestAttributes();
+        ReadYourWritesContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToTheReplicaAndOthersToThePrimary() {
+        assertThat(databaseOf(true)).isEqualTo("replica");
+        assertThat(databaseOf(false)).isEqualTo(POSTGRES.getDatabaseName());
+    }
+
+    @Test
+    void readsStayOnThePrimaryRightAfterAWrite() {
+        // Chỉ lần ghi trong một request mới ghim client vào primary
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(
+                new MockHttpServletRequest("POST", "/api/jobs"), new MockHttpServletResponse()));
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> jdbcTemplate.update("UPDATE users SET active = active WHERE id = -1"));
+
+        assertThat(databaseOf(true)).isEqualTo(POSTGRES.getDatabaseName());
+    }
+
+    @Test
+    void writesOutsideARequestDoNotPinTheThreadToThePrimary() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(
+                status -> jdbcTemplate.update("UPDATE users SET active = active WHERE id = -1"));
+
+        assertThat(databaseOf(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void replicaLaggingLessThanMaxLagServesReads() {
+        setReplicaLag(1.2);
+
+        assertThat(databaseOf(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void replicaLaggingMoreThanMaxLagIsSkipped() {
+        setReplicaLag(1.8);
+
+        assertThat(databaseOf(true)).isEqualTo(POSTGRES.getDatabaseName());
+    }
+
+    private String databaseOf(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT current_database()", String.class));
+    }
+
+    private void setReplicaLag(double seconds) {
+        REPLICA_JDBC.update("DELETE FROM replica_lag");
+        REPLICA_JDBC.update("INSERT INTO replica_lag (seconds) VALUES (?)", seconds);
+        replicaRoutingDataSource.checkReplicas();
+    }
+}
@@ -0,0 +1,57 @@
+package org.example.goodjobbackend.config;
+
+import org.example.goodjobbackend.controller.AdminSlowQueryController;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpStatus;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SlowQueryLogTest {
+
+    private final SlowQueryProperties properties = new SlowQueryProperties();
+    private SlowQueryLog log;
+
+    @AfterEach
+    void shutdown() {
+        if (log != null) {
+            log.shutdown();
+        }
+    }
+
+    @Test
+    void entryIsFoundByIdUntilTheRingBufferOverwritesIt() {
+        properties.setCapacity(2);
+        log = new SlowQueryLog(properties);
+        for (int i = 0; i < 3; i++) {
+            log.record("UPDATE jobs SET view_count = view_count + 1 WHERE job_id = ?", new Object[]{1L}, 1, 1,
+                    300_000_000L);
+        }
+
+        assertThat(log.getEntry(1)).isEmpty();
+        assertThat(log.getEntry(2)).hasValueSatisfying(entry -> assertThat(entry.getId()).isEqualTo(2));
+        assertThat(log.getEntry(3)).hasValueSatisfying(entry -> assertThat(entry.getId()).isEqualTo(3));
+        assertThat(log.getEntry(4)).isEmpty();
+    }
+
+    @Test
+    void nonPositiveIdIsNotFound() {
+        log = new SlowQueryLog(properties);
+        log.record("UPDATE jobs SET view_count = view_count + 1 WHERE job_id = ?", new Object[]{1L}, 1, 1,
+                300_000_000L);
+
+        assertThat(log.getEntry(0)).isEmpty();
+        assertThat(log.getEntry(-1)).isEmpty();
+        assertThat(log.getEntry(Long.MIN_VALUE)).isEmpty();
+
+        // GET /api/admin/slow-queries/{id} trả 404 thay vì 500
+        AdminSlowQueryController controller = new AdminSlowQueryController(
+                new StaticListableBeanFactory(Map.of("slowQueryLog", log)).getBeanProvider(SlowQueryLog.class));
+        assertThat(controller.getSlowQuery(0).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(controller.getSlowQuery(-1).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(controller.getSlowQuery(1).getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.goodjobbackend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.example.goodjobbackend.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class JobApplicationPagingTest extends PostgresIntegrationTest {
+
+    private static final int APPLICATIONS = 25;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private long jobId;
+    private final List<Long> applicationIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        TestData data = data();
+        long employerId = data.employer();
+        jobId = data.job(employerId, "APPROVED");
+        applicationIds.clear();
+        for (int i = 0; i < APPLICATIONS; i++) {
+            applicationIds.add(data.application(jobId, data.applicant(), employerId, "PENDING"));
+        }
+    }
+
+    @Test
+    void cursorPagesCoverEveryApplicationOnce() throws Exception {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        do {
+            var request = get("/api/applications/job/{jobId}/cursor", jobId).param("size", "10");
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+            JsonNode page = objectMapper.readTree(mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            page.get("items").forEach(item -> seen.add(item.get("id").asLong()));
+            cursor = page.path("nextCursor").asText(null);
+        } while (cursor != null);
+
+        assertThat(seen).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(applicationIds);
+    }
+
+    @Test
+    void malformedCursorIsABadRequest() throws Exception {
+        mockMvc.perform(get("/api/applications/job/{jobId}/cursor", jobId).param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/applications/employer/{employerId}/cursor", 1).param("cursor", "%%%"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void nonPositiveSizeOrNegativePageIsABadRequest() throws Exception {
+        mockMvc.perform(get("/api/applications/job/{jobId}/cursor", jobId).param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/applications/job/{jobId}/page", jobId).param("size", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/applications/job/{jobId}/page", jobId).param("page", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void oversizedPageIsCapped() throws Exception {
+        mockMvc.perform(get("/api/applications/job/{jobId}/page", jobId).param("size", "100000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(100));
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.goodjobbackend.controller;
+
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.example.goodjobbackend.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class JobFieldsSelectionTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void unknownFieldIsRejectedWithBadRequest() throws Exception {
+        for (String path : new String[]{"/api/jobs", "/api/jobs/approved", "/api/jobs/by-user/1", "/api/jobs/search",
+                "/api/jobs/search/status/APPROVED"}) {
+            mockMvc.perform(get(path).param("fields", "jobId,bogus"))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().string(containsString("Trường không hợp lệ: bogus")));
+        }
+    }
+
+    @Test
+    void selectedFieldsAreTheOnlyOnesWritten() throws Exception {
+        TestData data = data();
+        data.job(data.employer(), "APPROVED");
+
+        mockMvc.perform(get("/api/jobs/approved").param("fields", "jobId,title").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].jobId").exists())
+                .andExpect(jsonPath("$.content[0].title").exists())
+                .andExpect(jsonPath("$.content[0].description").doesNotExist());
+    }
+}
@@ -0,0 +1,78 @@
+package org.example.goodjobbackend.controller;
+
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.example.goodjobbackend.TestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Các endpoint đọc chính chạy với app.query-budget.mode=fail: câu SQL vượt ngân sách (mặc định 30) làm request lỗi.
+ * Mỗi job/đơn ứng tuyển thuộc một employer/ứng viên khác nhau nên một truy vấn N+1 sẽ vượt ngân sách.
+ */
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "app.query-budget.mode=fail")
+class QueryBudgetFailModeTest extends PostgresIntegrationTest {
+
+    private static final int ROWS = 40;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    private long jobId;
+    private long employerId;
+
+    @BeforeEach
+    void setUp() {
+        TestData data = data();
+        for (int i = 0; i < ROWS; i++) {
+            data.job(data.employer(), "APPROVED");
+        }
+        employerId = data.employer();
+        jobId = data.job(employerId, "APPROVED");
+        for (int i = 0; i < ROWS; i++) {
+            data.application(jobId, data.applicant(), employerId, "PENDING");
+        }
+    }
+
+    @Test
+    void approvedJobsStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/jobs/approved").param("size", String.valueOf(ROWS)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(ROWS));
+    }
+
+    @Test
+    void jobDetailStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/jobs/{jobId}", jobId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value(jobId));
+    }
+
+    @Test
+    void applicationsOfJobStayWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/applications/job/{jobId}/page", jobId).param("size", String.valueOf(ROWS)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(ROWS));
+    }
+
+    @Test
+    void streamedExportCompletes() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/applications/job/{jobId}/export", jobId)
+                        .param("employerId", String.valueOf(employerId)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+    }
+}
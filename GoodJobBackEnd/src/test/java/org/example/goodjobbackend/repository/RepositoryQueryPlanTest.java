@@ -0,0 +1,263 @@
+package org.example.goodjobbackend.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.example.goodjobbackend.config.QueryCapture;
+import org.example.goodjobbackend.config.QueryCapture.CapturedQuery;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Gọi mọi method truy vấn khai báo trong các repository (tham số giả, transaction rollback), ghi lại câu SQL
+ * Hibernate sinh ra kèm giá trị tham số, rồi chạy EXPLAIN trên dữ liệu cỡ vài chục nghìn dòng mỗi bảng lớn.
+ * Test thất bại nếu kế hoạch có Seq Scan trên bảng lớn hơn {@link #SEQ_SCAN_ROW_THRESHOLD} dòng, trừ các truy vấn
+ * trong {@link #FULL_SCAN_ALLOWED} vốn phải đọc phần lớn bảng.
+ *
+ * Dữ liệu mẫu được insert và ANALYZE trong cùng một transaction với EXPLAIN rồi rollback, không ảnh hưởng test khác.
+ */
+@Import(QueryCapture.Config.class)
+@TestPropertySource(properties = "app.slow-query.enabled=false")
+class RepositoryQueryPlanTest extends PostgresIntegrationTest {
+
+    private static final long SEQ_SCAN_ROW_THRESHOLD = 10_000;
+
+    private static final Set<String> FULL_SCAN_ALLOWED = Set.of(
+            // Thống kê trên toàn bộ job cho dashboard admin
+            "JobRepository.getAllView",
+            "JobRepository.getAllApply",
+            "JobRepository.countJobsByStatus",
+            // LIKE '%keyword%' không dùng được index B-tree
+            "JobRepository.countJobsByKeyword",
+            "JobRepository.searchWithFilters",
+            "JobRepository.searchWithFiltersAndStatus",
+            // Danh sách không phân trang, trả về phần lớn bảng
+            "JobRepository.findAllApproved",
+            "UserRepository.findByRole"
+    );
+
+    // Bảng lớn được sinh dữ liệu (id bắt đầu từ SEED_ID để không trùng dữ liệu của test khác)
+    private static final long SEED_ID = 1_000_000_000L;
+    private static final List<String> SEED = List.of(
+            "SELECT setseed(0.42)",
+            "INSERT INTO users (id, username, full_name, email, role, active, is_enabled, created_at, " +
+                    "oauth2_provider, oauth2_id) " +
+                    "SELECT " + SEED_ID + " + g, 'plan' || g, 'Người dùng ' || g, 'plan' || g || '@example.com', " +
+                    "CASE WHEN g <= 400 THEN 'EMPLOYER' WHEN g <= 420 THEN 'ADMIN' ELSE 'USER' END, true, true, " +
+                    "now() - random() * interval '730 days', " +
+                    "CASE WHEN g % 10 = 0 THEN 'google' END, CASE WHEN g % 10 = 0 THEN 'gid' || g END " +
+                    "FROM generate_series(1, 20000) g",
+            "INSERT INTO employers (user_id, version, company_name, company_address, verified, active) " +
+                    "SELECT " + SEED_ID + " + g, 0, 'Công ty ' || g, 'Hà Nội', true, true FROM generate_series(1, 400) g",
+            "INSERT INTO jobs (job_id, version, employer_id, title, description, requirement, location, job_type, " +
+                    "salary_min, salary_max, apply_count, view_count, posted_at, expire_at, is_salary_public, " +
+                    "is_active, status, processed_by, processed_at) " +
+                    "SELECT " + SEED_ID + " + g, 0, " + SEED_ID + " + 1 + (g % 400), 'Việc làm ' || g, " +
+                    "'Mô tả ' || g, 'Yêu cầu ' || g, 'Hà Nội', 'FULL_TIME', 500 + g % 1000, 1500 + g % 1000, " +
+                    "g % 50, g % 500, p, p + interval '45 days', true, true, " +
+                    "CASE WHEN r < 0.55 THEN 'APPROVED' WHEN r < 0.80 THEN 'EXPIRED' WHEN r < 0.90 THEN 'REJECTED' " +
+                    "WHEN r < 0.98 THEN 'DELETED' ELSE 'PENDING' END, " + SEED_ID + " + 401, p + interval '1 day' " +
+                    "FROM (SELECT g, random() AS r, now() - random() * interval '365 days' AS p " +
+                    "FROM generate_series(1, 50000) g) s",
+            "INSERT INTO job_applications (id, job_id, applicant_id, employer_id, status, applied_at, employer_viewed) " +
+                    "SELECT " + SEED_ID + " + g, " + SEED_ID + " + 1 + (g % 25000), " +
+                    SEED_ID + " + 421 + ((g % 25000) * 13 + g / 25000) % 19580, " + SEED_ID + " + 1 + ((1 + g % 25000) % 400), " +
+                    "(ARRAY['PENDING','REVIEWING','APPROVED','REJECTED','WITHDRAWN'])[1 + g % 5], " +
+                    "now() - random() * interval '365 days', g % 4 <> 0 " +
+                    "FROM generate_series(0, 49999) g",
+            "INSERT INTO notifications (id, user_id, title, content, created_at, is_read, notification_type) " +
+                    "SELECT " + SEED_ID + " + g, " + SEED_ID + " + 1 + (g % 20000), 'Thông báo ' || g, 'Nội dung', " +
+                    "now() - random() * interval '365 days', random() < 0.8, 'APPLICATION_STATUS' " +
+                    "FROM generate_series(1, 50000) g",
+            "INSERT INTO admin_notifications (id, action_type, job_id, job_title, timestamp, username, user_id, " +
+                    "description, is_read) " +
+                    "SELECT " + SEED_ID + " + g, (ARRAY['CREATE','UPDATE','DELETE','APPROVE','REJECT','RESTORE'])[1 + g % 6], " +
+                    SEED_ID + " + 1 + (g % 50000), 'Việc làm ' || g, now() - random() * interval '365 days', " +
+                    "'plan' || (401 + g % 20), " + SEED_ID + " + 401 + (g % 20), 'Mô tả', random() < 0.95 " +
+                    "FROM generate_series(1, 50000) g",
+            "INSERT INTO saved_jobs (id, user_id, job_id, saved_at) " +
+                    "SELECT " + SEED_ID + " + g, " + SEED_ID + " + 421 + (g % 19580), " + SEED_ID + " + 1 + (g * 7 % 50000), " +
+                    "now() - random() * interval '365 days' FROM generate_series(0, 29999) g",
+            "ANALYZE users, employers, jobs, job_applications, notifications, admin_notifications, saved_jobs"
+    );
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private QueryCapture queryCapture;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void repositoryQueriesDoNotSeqScanLargeTables() {
+        Map<String, List<CapturedQuery>> queries = captureRepositoryQueries();
+        assertThat(queries.get("JobRepository.lockDueForExpiry")).isNotEmpty();
+
+        List<String> violations = new ArrayList<>();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            SEED.forEach(jdbcTemplate::execute);
+            Map<String, Double> tableRows = new HashMap<>();
+            jdbcTemplate.query("SELECT relname, reltuples FROM pg_class WHERE relkind = 'r' " +
+                    "AND relnamespace = 'public'::regnamespace",
+                    row -> {
+                        tableRows.put(row.getString(1), row.getDouble(2));
+                    });
+
+            queries.forEach((method, captured) -> {
+                for (CapturedQuery query : captured) {
+                    JsonNode plan = explain(query);
+                    List<String> scanned = new ArrayList<>();
+                    collectSeqScans(plan, tableRows, scanned);
+                    if (!scanned.isEmpty() && !FULL_SCAN_ALLOWED.contains(method)) {
+                        violations.add(method + " quét tuần tự " + scanned + "\n  " + query.sql()
+                                + "\n  " + plan.toPrettyString());
+                    }
+                }
+            });
+        });
+
+        assertThat(violations).as("Truy vấn quét tuần tự bảng lớn hơn %d dòng", SEQ_SCAN_ROW_THRESHOLD).isEmpty();
+    }
+
+    // Gọi lần lượt từng method khai báo trong repository, mỗi lần một transaction rollback riêng
+    private Map<String, List<CapturedQuery>> captureRepositoryQueries() {
+        Repositories repositories = new Repositories(applicationContext);
+        Map<String, List<CapturedQuery>> queries = new TreeMap<>();
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        for (Class<?> domainType : repositories) {
+            Class<?> repositoryInterface = repositories.getRepositoryInformationFor(domainType).orElseThrow()
+                    .getRepositoryInterface();
+            Object repository = repositories.getRepositoryFor(domainType).orElseThrow();
+            for (Method method : repositoryInterface.getDeclaredMethods()) {
+                if (method.isDefault() || method.isSynthetic() || Modifier.isStatic(method.getModifiers())) {
+                    continue;
+                }
+                String name = repositoryInterface.getSimpleName() + "." + method.getName();
+                List<CapturedQuery> captured = queryCapture.capture(() -> transaction.executeWithoutResult(status -> {
+                    status.setRollbackOnly();
+                    invoke(repository, method);
+                }));
+                queries.computeIfAbsent(name, key -> new ArrayList<>()).addAll(captured);
+            }
+        }
+        return queries;
+    }
+
+    private void invoke(Object repository, Method method) {
+        Object[] args = new Object[method.getParameterCount()];
+        for (int i = 0; i < args.length; i++) {
+            ResolvableType type = ResolvableType.forMethodParameter(method, i);
+            args[i] = Collection.class.isAssignableFrom(type.toClass())
+                    ? List.of(sample(type.resolveGeneric(0)))
+                    : sample(type.toClass());
+        }
+        try {
+            method.invoke(repository, args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Không gọi được " + method, e.getTargetException());
+        }
+    }
+
+    // Giá trị giả: id không tồn tại, hằng enum đầu tiên, trang đầu không sắp xếp
+    private Object sample(Class<?> type) {
+        if (type == Long.class || type == long.class) {
+            return 1L;
+        }
+        if (type == Integer.class || type == int.class) {
+            return 1;
+        }
+        if (type == Double.class || type == double.class) {
+            return 1.0;
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return false;
+        }
+        if (type == String.class) {
+            return "x";
+        }
+        if (type == LocalDateTime.class) {
+            return LocalDateTime.now();
+        }
+        if (type == LocalDate.class) {
+            return LocalDate.now();
+        }
+        if (type.isEnum()) {
+            return type.getEnumConstants()[0];
+        }
+        if (type == Pageable.class) {
+            return PageRequest.of(0, 20);
+        }
+        if (type == Sort.class) {
+            return Sort.unsorted();
+        }
+        if (type.isAnnotationPresent(Entity.class)) {
+            return entityManager.getReference(type, 1L);
+        }
+        throw new IllegalArgumentException("Chưa có giá trị mẫu cho tham số kiểu " + type.getName());
+    }
+
+    private JsonNode explain(CapturedQuery query) {
+        String json = jdbcTemplate.execute("EXPLAIN (FORMAT JSON) " + query.sql(), (PreparedStatement statement) -> {
+            Object[] parameters = query.parameters();
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        });
+        try {
+            return objectMapper.readTree(json).get(0).get("Plan");
+        } catch (Exception e) {
+            throw new IllegalStateException("Không đọc được kế hoạch: " + json, e);
+        }
+    }
+
+    private void collectSeqScans(JsonNode node, Map<String, Double> tableRows, List<String> scanned) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())) {
+            String table = node.path("Relation Name").asText();
+            if (tableRows.getOrDefault(table, 0.0) > SEQ_SCAN_ROW_THRESHOLD) {
+                scanned.add(table);
+            }
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSeqScans(child, tableRows, scanned);
+        }
+    }
+}
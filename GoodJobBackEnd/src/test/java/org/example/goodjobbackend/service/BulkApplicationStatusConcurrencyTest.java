@@ -0,0 +1,68 @@
+package org.example.goodjobbackend.service;
+
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.example.goodjobbackend.TestData;
+import org.example.goodjobbackend.dto.BulkApplicationStatusRequest;
+import org.example.goodjobbackend.dto.BulkApplicationStatusResponse;
+import org.example.goodjobbackend.model.ApplicationStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BulkApplicationStatusConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int APPLICATIONS = 100;
+    private static final int REQUESTS = 4;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Test
+    void concurrentBulkUpdatesChangeAndNotifyEachApplicationOnce() throws Exception {
+        TestData data = data();
+        long employerId = data.employer();
+        long jobId = data.job(employerId, "APPROVED");
+        List<Long> applicationIds = new ArrayList<>();
+        for (int i = 0; i < APPLICATIONS; i++) {
+            applicationIds.add(data.application(jobId, data.applicant(), employerId, "PENDING"));
+        }
+
+        BulkApplicationStatusRequest request = new BulkApplicationStatusRequest();
+        request.setApplicationIds(applicationIds);
+        request.setStatus(ApplicationStatus.APPROVED);
+        request.setEmployerId(employerId);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<BulkApplicationStatusResponse> responses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(REQUESTS)) {
+            List<Future<BulkApplicationStatusResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return jobApplicationService.updateApplicationStatuses(request);
+                }));
+            }
+            start.countDown();
+            for (Future<BulkApplicationStatusResponse> future : futures) {
+                responses.add(future.get());
+            }
+        }
+
+        int updated = responses.stream().mapToInt(response -> response.getUpdatedIds().size()).sum();
+        assertThat(updated).isEqualTo(APPLICATIONS);
+        Integer notifications = new NamedParameterJdbcTemplate(jdbcTemplate).queryForObject(
+                "SELECT count(*) FROM notifications WHERE related_application_id IN (:ids)",
+                Map.of("ids", applicationIds), Integer.class);
+        assertThat(notifications).isEqualTo(APPLICATIONS);
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.goodjobbackend.service;
+
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.example.goodjobbackend.TestData;
+import org.example.goodjobbackend.dto.JobApplicationRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JobApplicationServiceConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int SUBMISSIONS = 1000;
+
+    @Autowired
+    private JobApplicationService jobApplicationService;
+
+    @Test
+    void parallelSubmissionsForSameJobAndApplicantCreateExactlyOneApplication() throws Exception {
+        TestData data = data();
+        long employerId = data.employer();
+        long jobId = data.job(employerId, "APPROVED");
+        long applicantId = data.applicant();
+
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger duplicates = new AtomicInteger();
+        ConcurrentHashMap<String, Integer> otherErrors = new ConcurrentHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < SUBMISSIONS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        jobApplicationService.apply(request(jobId, applicantId));
+                        succeeded.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        if ("Bạn đã ứng tuyển vị trí này rồi".equals(e.getMessage())) {
+                            duplicates.incrementAndGet();
+                        } else {
+                            otherErrors.merge(e.getClass().getName() + ": " + e.getMessage(), 1, Integer::sum);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(otherErrors).isEmpty();
+        assertThat(succeeded.get()).isEqualTo(1);
+        assertThat(duplicates.get()).isEqualTo(SUBMISSIONS - 1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM job_applications WHERE job_id = ? AND applicant_id = ?",
+                Long.class, jobId, applicantId)).isEqualTo(1L);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT apply_count FROM jobs WHERE job_id = ?", Integer.class, jobId)).isEqualTo(1);
+    }
+
+    @Test
+    void unknownApplicantIsReportedAsMissingUser() {
+        TestData data = data();
+        long jobId = data.job(data.employer(), "APPROVED");
+
+        assertThatThrownBy(() -> jobApplicationService.apply(request(jobId, -1L)))
+                .hasMessage("Không tìm thấy người dùng với ID: -1");
+    }
+
+    private static JobApplicationRequest request(long jobId, long applicantId) {
+        JobApplicationRequest request = new JobApplicationRequest();
+        request.setJobId(jobId);
+        request.setApplicantId(applicantId);
+        request.setCoverLetter("Thư ứng tuyển");
+        return request;
+    }
+}
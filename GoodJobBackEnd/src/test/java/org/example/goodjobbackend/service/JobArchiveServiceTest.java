@@ -0,0 +1,84 @@
+package org.example.goodjobbackend.service;
+
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.example.goodjobbackend.TestData;
+import org.example.goodjobbackend.dto.JobMembershipDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobArchiveServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private JobArchiveService jobArchiveService;
+
+    @Autowired
+    private JobMembershipService jobMembershipService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void restoringAJobReattachesNotificationsToItsApplications() {
+        TestData data = data();
+        long employerId = data.employer();
+        long applicantId = data.applicant();
+        long jobId = data.job(employerId, "DELETED");
+        jdbcTemplate.update("UPDATE jobs SET processed_at = ? WHERE job_id = ?",
+                LocalDateTime.now().minusDays(60), jobId);
+        long applicationId = data.application(jobId, applicantId, employerId, "REJECTED");
+        long notificationId = jdbcTemplate.queryForObject("SELECT nextval('notifications_seq')", Long.class);
+        jdbcTemplate.update("INSERT INTO notifications (id, user_id, title, created_at, is_read, notification_type, " +
+                "related_application_id) VALUES (?, ?, 'Cập nhật trạng thái', now(), false, 'APPLICATION_STATUS', ?)",
+                notificationId, applicantId, applicationId);
+
+        jobArchiveService.archiveColdJobs();
+
+        assertThat(jobArchiveService.isArchived(jobId)).isTrue();
+        assertThat(relatedApplicationOf(notificationId)).isNull();
+
+        jobArchiveService.restoreJob(jobId);
+
+        assertThat(relatedApplicationOf(notificationId)).isEqualTo(applicationId);
+        assertThat(jdbcTemplate.queryForObject("SELECT archived_application_id FROM notifications WHERE id = ?",
+                Long.class, notificationId)).isNull();
+    }
+
+    @Test
+    void membershipCacheIsInvalidatedOnlyAfterRestoreCommits() {
+        TestData data = data();
+        long employerId = data.employer();
+        long applicantId = data.applicant();
+        long jobId = data.job(employerId, "DELETED");
+        jdbcTemplate.update("UPDATE jobs SET processed_at = ? WHERE job_id = ?",
+                LocalDateTime.now().minusDays(60), jobId);
+        data.application(jobId, applicantId, employerId, "REJECTED");
+        jobArchiveService.archiveColdJobs();
+        assertThat(appliedTo(applicantId, jobId)).isFalse();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jobArchiveService.restoreJob(jobId);
+            // Request khác đọc trong lúc khôi phục chưa commit: nó nạp lại dữ liệu cũ vào cache
+            assertThat(CompletableFuture.supplyAsync(() -> appliedTo(applicantId, jobId)).join()).isFalse();
+        });
+
+        // Cache nạp từ dữ liệu cũ bị xóa khi commit, lần đọc sau thấy đơn đã được khôi phục
+        assertThat(appliedTo(applicantId, jobId)).isTrue();
+    }
+
+    private boolean appliedTo(long userId, long jobId) {
+        List<JobMembershipDTO> memberships = jobMembershipService.getMemberships(userId, List.of(jobId));
+        return memberships.get(0).isApplied();
+    }
+
+    private Long relatedApplicationOf(long notificationId) {
+        return jdbcTemplate.queryForObject("SELECT related_application_id FROM notifications WHERE id = ?",
+                Long.class, notificationId);
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.goodjobbackend.service;
+
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.example.goodjobbackend.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobExpiryServiceConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int JOBS = 300;
+    private static final int SWEEPERS = 4;
+
+    @Autowired
+    private JobExpiryService jobExpiryService;
+
+    @Test
+    void concurrentSweepsExpireAndNotifyEachJobOnce() throws Exception {
+        // Dọn các job quá hạn do test khác để lại để chỉ đếm job của test này
+        jobExpiryService.expireDueJobs();
+        TestData data = data();
+        long employerId = data.employer();
+        for (int i = 0; i < JOBS; i++) {
+            data.job(employerId, "APPROVED", LocalDateTime.now().minusMinutes(5));
+        }
+        long pending = data.job(employerId, "PENDING", LocalDateTime.now().minusMinutes(5));
+        long upcoming = data.job(employerId, "APPROVED", LocalDateTime.now().plusDays(1));
+
+        CountDownLatch start = new CountDownLatch(1);
+        int expired = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(SWEEPERS)) {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int i = 0; i < SWEEPERS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return jobExpiryService.expireDueJobs();
+                }));
+            }
+            start.countDown();
+            for (Future<Integer> future : futures) {
+                expired += future.get();
+            }
+        }
+
+        // Mỗi job quá hạn được đúng một lượt quét chuyển trạng thái và thông báo
+        assertThat(expired).isEqualTo(JOBS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM jobs WHERE employer_id = ? AND status = 'EXPIRED'", Long.class, employerId))
+                .isEqualTo((long) JOBS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM notifications WHERE user_id = ? AND title = 'Bài đăng đã hết hạn'",
+                Long.class, employerId)).isEqualTo((long) JOBS);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM jobs WHERE job_id = ?", String.class, pending))
+                .isEqualTo("PENDING");
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM jobs WHERE job_id = ?", String.class, upcoming))
+                .isEqualTo("APPROVED");
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.goodjobbackend.service;
+
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.example.goodjobbackend.dto.JobImportStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestPropertySource(properties = "app.jobs.import.batch-size=2")
+class JobImportServiceTest extends PostgresIntegrationTest {
+
+    private static final String CSV = """
+            title,location,salary_min,salary_max
+            Lập trình viên Java,Hà Nội,1000,2000
+            ,Hà Nội,1000,2000
+            Kỹ sư dữ liệu,Đà Nẵng,1500,2500
+            Kiểm thử phần mềm,TP.HCM,900,1200
+            Quản trị hệ thống,Huế,2000,1000
+            """;
+
+    @Autowired
+    private JobImportService jobImportService;
+
+    @Test
+    void progressIsCommittedWithEveryChunk() throws Exception {
+        long employerId = data().employer();
+
+        JobImportStatus started = jobImportService.submit(employerId,
+                new MockMultipartFile("file", "jobs.csv", "text/csv", CSV.getBytes(StandardCharsets.UTF_8)));
+        JobImportStatus status = awaitCompletion(started.getImportId());
+
+        assertThat(status.getInserted()).isEqualTo(3);
+        assertThat(status.getFailed()).isEqualTo(2);
+        assertThat(importRow(started.getImportId()))
+                .containsEntry("state", "COMPLETED")
+                .containsEntry("committed_rows", 5L)
+                .containsEntry("inserted", 3L)
+                .containsEntry("failed", 2L);
+        assertThat(jobCount(employerId)).isEqualTo(3);
+    }
+
+    @Test
+    void resumeContinuesFromTheCommittedRowsInTheDatabase() throws Exception {
+        long employerId = data().employer();
+        String importId = UUID.randomUUID().toString();
+        // Lượt nhập bị gián đoạn sau lô đầu tiên: 2 dòng đã commit (1 job, 1 lỗi), file dữ liệu vẫn còn
+        Path importDir = (Path) ReflectionTestUtils.getField(jobImportService, "importDir");
+        Files.writeString(importDir.resolve(importId + ".csv"), CSV);
+        jdbcTemplate.update("INSERT INTO job_imports (import_id, employer_id, file_name, format, state, " +
+                "committed_rows, inserted, failed, errors, message, created_at) " +
+                "VALUES (?, ?, 'jobs.csv', 'csv', 'FAILED', 2, 1, 1, '[]', 'Bị gián đoạn', ?)",
+                importId, employerId, LocalDateTime.now());
+
+        jobImportService.resume(importId);
+        JobImportStatus status = awaitCompletion(importId);
+
+        assertThat(status.getInserted()).isEqualTo(3);
+        assertThat(status.getFailed()).isEqualTo(2);
+        // Chỉ 3 dòng chưa commit được xử lý lại: 2 job mới, dòng đầu không bị insert lần nữa
+        assertThat(jobCount(employerId)).isEqualTo(2);
+        assertThat(importRow(importId)).containsEntry("committed_rows", 5L).containsEntry("inserted", 3L);
+    }
+
+    private JobImportStatus awaitCompletion(String importId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 30_000;
+        JobImportStatus status = jobImportService.getStatus(importId);
+        while (status.getState() != JobImportStatus.State.COMPLETED && System.currentTimeMillis() < deadline) {
+            assertThat(status.getState()).isNotEqualTo(JobImportStatus.State.FAILED);
+            Thread.sleep(50);
+            status = jobImportService.getStatus(importId);
+        }
+        assertThat(status.getState()).isEqualTo(JobImportStatus.State.COMPLETED);
+        return status;
+    }
+
+    private Map<String, Object> importRow(String importId) {
+        return jdbcTemplate.queryForMap("SELECT state, committed_rows, inserted, failed FROM job_imports " +
+                "WHERE import_id = ?", importId);
+    }
+
+    private int jobCount(long employerId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM jobs WHERE employer_id = ?", Integer.class, employerId);
+    }
+}
@@ -0,0 +1,66 @@
+package org.example.goodjobbackend.service;
+
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.example.goodjobbackend.TestData;
+import org.example.goodjobbackend.dto.BulkJobProcessRequest;
+import org.example.goodjobbackend.dto.BulkJobProcessResponse;
+import org.example.goodjobbackend.model.JobStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobModerationServiceConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int JOBS = 200;
+    private static final int ADMINS = 4;
+
+    @Autowired
+    private JobModerationService jobModerationService;
+
+    @Test
+    void concurrentBulkApprovalsReportAndNotifyEachJobOnce() throws Exception {
+        TestData data = data();
+        long employerId = data.employer();
+        List<Long> jobIds = new ArrayList<>();
+        for (int i = 0; i < JOBS; i++) {
+            jobIds.add(data.job(employerId, "PENDING"));
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<BulkJobProcessResponse> responses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(ADMINS)) {
+            List<Future<BulkJobProcessResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < ADMINS; i++) {
+                BulkJobProcessRequest request = new BulkJobProcessRequest();
+                request.setJobIds(jobIds);
+                request.setStatus(JobStatus.APPROVED);
+                request.setAdminId(data.admin());
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return jobModerationService.processJobs(request);
+                }));
+            }
+            start.countDown();
+            for (Future<BulkJobProcessResponse> future : futures) {
+                responses.add(future.get());
+            }
+        }
+
+        int succeeded = responses.stream().mapToInt(BulkJobProcessResponse::getSucceeded).sum();
+        assertThat(succeeded).isEqualTo(JOBS);
+        Integer notifications = new NamedParameterJdbcTemplate(jdbcTemplate).queryForObject(
+                "SELECT count(*) FROM admin_notifications WHERE action_type = 'APPROVE' AND job_id IN (:ids)",
+                Map.of("ids", jobIds), Integer.class);
+        assertThat(notifications).isEqualTo(JOBS);
+    }
+}
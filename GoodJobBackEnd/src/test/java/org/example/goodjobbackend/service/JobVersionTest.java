@@ -0,0 +1,56 @@
+package org.example.goodjobbackend.service;
+
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.example.goodjobbackend.model.Job;
+import org.example.goodjobbackend.repository.JobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobVersionTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void countersDoNotChangeTheCacheKeyVersion() {
+        long jobId = data().job(data().employer(), "APPROVED");
+        long before = jobService.getJobCacheKey(jobId).orElseThrow().getVersion();
+
+        jobService.incrementViewCount(jobId);
+        jobService.incrementApplyCount(jobId);
+
+        assertThat(jobService.getJobCacheKey(jobId).orElseThrow().getVersion()).isEqualTo(before);
+    }
+
+    @Test
+    void editingAJobWhileItIsViewedNeitherFailsNorLosesCounts() {
+        long jobId = data().job(data().employer(), "APPROVED");
+        TransactionTemplate outer = new TransactionTemplate(transactionManager);
+        TransactionTemplate concurrent = new TransactionTemplate(transactionManager);
+        concurrent.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        outer.executeWithoutResult(status -> {
+            Job job = jobRepository.findById(jobId).orElseThrow();
+            // Lượt xem được ghi (và commit) sau khi job đã được nạp để sửa
+            concurrent.executeWithoutResult(inner -> jobService.incrementViewCount(jobId));
+            job.setTitle("Tiêu đề mới");
+            jobRepository.saveAndFlush(job);
+        });
+
+        assertThat(jdbcTemplate.queryForMap("SELECT title, view_count, version FROM jobs WHERE job_id = ?", jobId))
+                .containsEntry("title", "Tiêu đề mới")
+                .containsEntry("view_count", 1)
+                .containsEntry("version", 1L);
+    }
+}
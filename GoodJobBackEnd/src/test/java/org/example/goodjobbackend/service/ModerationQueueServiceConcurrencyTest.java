@@ -0,0 +1,129 @@
+package org.example.goodjobbackend.service;
+
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.example.goodjobbackend.TestData;
+import org.example.goodjobbackend.dto.ModerationLeaseResponse;
+import org.example.goodjobbackend.model.Job;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ModerationQueueServiceConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int JOBS = 100;
+    private static final int ADMINS = 5;
+    private static final int LEASE_SIZE = 20;
+
+    @Autowired
+    private ModerationQueueService moderationQueueService;
+
+    private final List<Long> adminIds = new ArrayList<>();
+
+    @AfterEach
+    void releaseLeases() {
+        adminIds.forEach(moderationQueueService::release);
+    }
+
+    @Test
+    void concurrentAdminsNeverLeaseTheSameJob() throws Exception {
+        TestData data = data();
+        Set<Long> jobIds = new HashSet<>(oldestPendingJobs(data, JOBS));
+        for (int i = 0; i < ADMINS; i++) {
+            adminIds.add(data.admin());
+        }
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<ModerationLeaseResponse> responses = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(ADMINS)) {
+            List<Future<ModerationLeaseResponse>> futures = new ArrayList<>();
+            for (Long adminId : adminIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return moderationQueueService.lease(adminId, LEASE_SIZE);
+                }));
+            }
+            start.countDown();
+            for (Future<ModerationLeaseResponse> future : futures) {
+                responses.add(future.get());
+            }
+        }
+
+        Set<Long> leased = new HashSet<>();
+        for (ModerationLeaseResponse response : responses) {
+            assertThat(response.getJobs()).hasSize(LEASE_SIZE);
+            for (Job job : response.getJobs()) {
+                assertThat(leased.add(job.getJobId())).as("job %d bị giao hai lần", job.getJobId()).isTrue();
+            }
+        }
+        // Các job cũ nhất được chia hết cho các admin, mỗi job cho đúng admin đã nhận nó
+        assertThat(leased).isEqualTo(jobIds);
+        for (ModerationLeaseResponse response : responses) {
+            for (Job job : response.getJobs()) {
+                assertThat(jdbcTemplate.queryForObject("SELECT lease_admin_id FROM jobs WHERE job_id = ?",
+                        Long.class, job.getJobId())).isEqualTo(response.getAdminId());
+            }
+        }
+    }
+
+    @Test
+    void leaseIsRenewedForItsAdminAndReclaimedAfterExpiry() {
+        TestData data = data();
+        List<Long> jobIds = oldestPendingJobs(data, 10);
+        long first = data.admin();
+        long second = data.admin();
+        adminIds.addAll(List.of(first, second));
+
+        List<Long> held = ids(moderationQueueService.lease(first, 5));
+        assertThat(held).containsExactlyElementsOf(jobIds.subList(0, 5));
+        assertThat(ids(moderationQueueService.lease(first, 5))).isEqualTo(held);
+        assertThat(ids(moderationQueueService.lease(second, 5))).containsExactlyElementsOf(jobIds.subList(5, 10));
+
+        // Admin đầu bỏ dở: chỗ giữ hết hạn thì admin khác nhận lại được
+        jdbcTemplate.update("UPDATE jobs SET lease_expires_at = now() - interval '1 minute' WHERE lease_admin_id = ?",
+                first);
+        assertThat(ids(moderationQueueService.lease(second, 10))).containsExactlyInAnyOrderElementsOf(jobIds);
+
+        moderationQueueService.onProcessed(jobIds.get(0), second);
+        assertThat(jdbcTemplate.queryForObject("SELECT lease_admin_id FROM jobs WHERE job_id = ?",
+                Long.class, jobIds.get(0))).isNull();
+        assertThat(moderationQueueService.release(second)).isEqualTo(9);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> admins = (List<Map<String, Object>>) moderationQueueService.getStats().get("admins");
+        assertThat(admins).filteredOn(admin -> admin.get("adminId").equals(second))
+                .singleElement()
+                .satisfies(admin -> assertThat(admin.get("activeLeases")).isEqualTo(0L));
+    }
+
+    // Job chờ duyệt đăng sớm hơn mọi job đang có, nên đứng đầu hàng đợi theo đúng thứ tự trả về
+    private List<Long> oldestPendingJobs(TestData data, int count) {
+        long employerId = data.employer();
+        Timestamp earliest = jdbcTemplate.queryForObject("SELECT min(posted_at) FROM jobs", Timestamp.class);
+        LocalDateTime base = (earliest == null ? LocalDateTime.now() : earliest.toLocalDateTime()).minusDays(1);
+        List<Long> jobIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            long jobId = data.job(employerId, "PENDING");
+            jdbcTemplate.update("UPDATE jobs SET posted_at = ? WHERE job_id = ?",
+                    Timestamp.valueOf(base.plusSeconds(i)), jobId);
+            jobIds.add(jobId);
+        }
+        return jobIds;
+    }
+
+    private static List<Long> ids(ModerationLeaseResponse response) {
+        return response.getJobs().stream().map(Job::getJobId).toList();
+    }
+}
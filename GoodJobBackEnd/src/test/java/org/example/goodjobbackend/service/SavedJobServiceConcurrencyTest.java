@@ -0,0 +1,132 @@
+package org.example.goodjobbackend.service;
+
+import org.example.goodjobbackend.PostgresIntegrationTest;
+import org.example.goodjobbackend.TestData;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SavedJobServiceConcurrencyTest extends PostgresIntegrationTest {
+
+    private static final int TOGGLES = 500;
+    private static final int USERS = 100;
+
+    @Autowired
+    private SavedJobService savedJobService;
+
+    @Test
+    void parallelTogglesBySameUserNeverFailAndLeaveAtMostOneRow() throws Exception {
+        TestData data = data();
+        long jobId = data.job(data.employer(), "APPROVED");
+        long userId = data.applicant();
+
+        AtomicInteger saved = new AtomicInteger();
+        AtomicInteger unsaved = new AtomicInteger();
+        ConcurrentHashMap<String, Integer> errors = runConcurrently(TOGGLES, i -> () -> {
+            if (savedJobService.toggleSaveJob(userId, jobId)) {
+                saved.incrementAndGet();
+            } else {
+                unsaved.incrementAndGet();
+            }
+        });
+
+        assertThat(errors).isEmpty();
+        assertThat(saved.get() + unsaved.get()).isEqualTo(TOGGLES);
+        // Mỗi lần "bỏ lưu" đã xoá đúng một dòng do một lần "lưu" trước đó tạo ra
+        assertThat(unsaved.get()).isLessThanOrEqualTo(saved.get());
+        long rows = countSaved(userId, jobId);
+        assertThat(rows).isBetween(0L, 1L);
+        assertThat(savedJobService.isJobSavedByUser(userId, jobId)).isEqualTo(rows == 1);
+    }
+
+    @Test
+    void parallelSavesByDifferentUsersEachCreateOneRow() throws Exception {
+        TestData data = data();
+        long jobId = data.job(data.employer(), "APPROVED");
+        long[] userIds = new long[USERS];
+        for (int i = 0; i < USERS; i++) {
+            userIds[i] = data.applicant();
+        }
+
+        AtomicInteger saved = new AtomicInteger();
+        ConcurrentHashMap<String, Integer> errors = runConcurrently(USERS, i -> () -> {
+            if (savedJobService.toggleSaveJob(userIds[i], jobId)) {
+                saved.incrementAndGet();
+            }
+        });
+
+        assertThat(errors).isEmpty();
+        assertThat(saved.get()).isEqualTo(USERS);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM saved_jobs WHERE job_id = ?", Long.class, jobId)).isEqualTo((long) USERS);
+    }
+
+    @Test
+    void toggleSavesThenUnsaves() {
+        TestData data = data();
+        long jobId = data.job(data.employer(), "APPROVED");
+        long userId = data.applicant();
+
+        assertThat(savedJobService.toggleSaveJob(userId, jobId)).isTrue();
+        assertThat(countSaved(userId, jobId)).isEqualTo(1L);
+        assertThat(savedJobService.toggleSaveJob(userId, jobId)).isFalse();
+        assertThat(countSaved(userId, jobId)).isZero();
+    }
+
+    @Test
+    void unknownJobIsReportedAsMissing() {
+        long userId = data().applicant();
+
+        assertThatThrownBy(() -> savedJobService.toggleSaveJob(userId, -1L))
+                .hasMessage("User or job not found");
+        assertThat(countSaved(userId, -1L)).isZero();
+    }
+
+    private long countSaved(long userId, long jobId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM saved_jobs WHERE user_id = ? AND job_id = ?", Long.class, userId, jobId);
+    }
+
+    // Chạy các tác vụ trên virtual thread, xuất phát cùng lúc; trả về các lỗi gom theo loại
+    private static ConcurrentHashMap<String, Integer> runConcurrently(int count, Task task) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentHashMap<String, Integer> errors = new ConcurrentHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Runnable action = task.create(i);
+                futures.add(executor.submit((Callable<Void>) () -> {
+                    start.await();
+                    try {
+                        action.run();
+                    } catch (RuntimeException e) {
+                        errors.merge(e.getClass().getName() + ": " + e.getMessage(), 1, Integer::sum);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        return errors;
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        Runnable create(int index);
+    }
+}